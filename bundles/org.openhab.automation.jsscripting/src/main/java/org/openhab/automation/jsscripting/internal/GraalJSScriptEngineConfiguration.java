@@ -33,6 +33,7 @@ public class GraalJSScriptEngineConfiguration {
     private static final String CFG_SCRIPT_CONDITION_WRAPPER_ENABLED = "scriptConditionWrapperEnabled";
     private static final String CFG_EVENT_CONVERSION_ENABLED = "eventConversionEnabled";
     private static final String CFG_DEPENDENCY_TRACKING_ENABLED = "dependencyTrackingEnabled";
+    private static final String CFG_WARM_UP_ENABLED = "warmUpEnabled";
 
     private static final int INJECTION_ENABLED_FOR_SCRIPT_MODULES_ONLY = 1;
     private static final int INJECTION_ENABLED_FOR_SCRIPT_MODULES_AND_TRANSFORMATIONS = 2;
@@ -43,6 +44,7 @@ public class GraalJSScriptEngineConfiguration {
     private boolean scriptConditionWrapperEnabled = false;
     private boolean eventConversionEnabled = true;
     private boolean dependencyTrackingEnabled = true;
+    private boolean warmUpEnabled = true;
 
     /**
      * Create a new configuration instance from the given parameters.
@@ -111,6 +113,7 @@ public class GraalJSScriptEngineConfiguration {
                 true);
         dependencyTrackingEnabled = ConfigParser.valueAsOrElse(config.get(CFG_DEPENDENCY_TRACKING_ENABLED),
                 Boolean.class, true);
+        warmUpEnabled = ConfigParser.valueAsOrElse(config.get(CFG_WARM_UP_ENABLED), Boolean.class, true);
     }
 
     /**
@@ -163,4 +166,14 @@ public class GraalJSScriptEngineConfiguration {
     public boolean isDependencyTrackingEnabled() {
         return dependencyTrackingEnabled;
     }
+
+    /**
+     * Whether the script engine should be warmed up at startup, i.e. the global script and the openHAB JavaScript
+     * library are parsed before the first script or transformation needs them.
+     *
+     * @return whether warm up is enabled
+     */
+    public boolean isWarmUpEnabled() {
+        return warmUpEnabled;
+    }
 }
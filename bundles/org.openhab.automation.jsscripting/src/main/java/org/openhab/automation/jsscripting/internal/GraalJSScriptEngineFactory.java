@@ -25,6 +25,7 @@ import org.openhab.automation.jsscripting.internal.fs.watch.JSDependencyTracker;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.automation.module.script.ScriptDependencyTracker;
 import org.openhab.core.automation.module.script.ScriptEngineFactory;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
@@ -75,6 +76,18 @@ public class GraalJSScriptEngineFactory implements ScriptEngineFactory {
 
         if (OpenhabGraalJSScriptEngine.getLanguage() == null) {
             logger.error(LANG_NOT_INITIALIZED_MSG);
+        } else if (configuration.isWarmUpEnabled()) {
+            ThreadPoolManager.getPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON).execute(this::warmUp);
+        }
+    }
+
+    private void warmUp() {
+        long start = System.currentTimeMillis();
+        try {
+            OpenhabGraalJSScriptEngine.warmUp(configuration, jsScriptServiceUtil, jsDependencyTracker);
+            logger.debug("Warmed up GraalJS script engine in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.warn("Failed to warm up GraalJS script engine: {}", e.getMessage());
         }
     }
 
@@ -159,6 +159,11 @@ public class OpenhabGraalJSScriptEngine
     private boolean initialized = false;
     private boolean closed = false;
 
+    // lock statistics, only modified while holding the lock
+    private long lockAcquisitions = 0;
+    private long contendedLockAcquisitions = 0;
+    private long lockWaitNanos = 0;
+
     /**
      * Creates an implementation of ScriptEngine {@code (& Invocable)}, wrapping the contained engine,
      * that tracks the script lifecycle and provides hooks for scripts to do so too.
@@ -261,7 +266,7 @@ public class OpenhabGraalJSScriptEngine
 
         logger.debug("Initializing GraalJS script engine '{}' ...", engineIdentifier);
 
-        lock.lock();
+        lockAndRecordWait();
         logger.debug("Lock acquired before invocation for engine '{}'.", engineIdentifier);
 
         if (initialized) {
@@ -412,6 +417,11 @@ public class OpenhabGraalJSScriptEngine
 
         lock.lock();
         try {
+            if (lockAcquisitions > 0) {
+                logger.debug("Engine '{}' was locked {} times, {} times it had to wait for {} ms in total.",
+                        engineIdentifier, lockAcquisitions, contendedLockAcquisitions,
+                        TimeUnit.NANOSECONDS.toMillis(lockWaitNanos));
+            }
             try {
                 jsRuntimeFeatures.close();
                 this.lifecycleTracker.dispose();
@@ -426,6 +436,52 @@ public class OpenhabGraalJSScriptEngine
         }
     }
 
+    /**
+     * Parses the global script and the cached openHAB JavaScript library into the code cache of the shared
+     * {@link Engine}, so the first script or transformation created afterwards does not have to parse them anymore.
+     *
+     * @param configuration the configuration of JavaScript Scripting
+     * @param jsScriptServiceUtil the script service utility
+     * @param jsDependencyTracker the dependency tracker
+     */
+    public static void warmUp(GraalJSScriptEngineConfiguration configuration, JSScriptServiceUtil jsScriptServiceUtil,
+            JSDependencyTracker jsDependencyTracker) throws Exception {
+        try (OpenhabGraalJSScriptEngine engine = new OpenhabGraalJSScriptEngine(configuration, jsScriptServiceUtil,
+                jsDependencyTracker)) {
+            // the context is built with the same options as those of the scripts, otherwise the code is not shared
+            Context context = engine.delegate.getPolyglotContext();
+            context.parse(GLOBAL_SOURCE);
+            if (configuration.isInjectionCachingEnabled()) {
+                context.parse(OPENHAB_JS_SOURCE);
+            }
+        }
+    }
+
+    /**
+     * Acquires the lock and records whether and how long it had to wait for another thread holding it.
+     */
+    private void lockAndRecordWait() {
+        if (lock.tryLock()) {
+            lockAcquisitions++;
+            return;
+        }
+        long waitStart = System.nanoTime();
+        lock.lock();
+        recordWait(waitStart);
+    }
+
+    private void recordWait(long waitStart) {
+        long waitNanos = System.nanoTime() - waitStart;
+        lockAcquisitions++;
+        contendedLockAcquisitions++;
+        lockWaitNanos += waitNanos;
+        if (logger.isDebugEnabled()) {
+            logger.debug("Engine '{}' waited {} ms for the lock held by another thread ({} of {} lock acquisitions).",
+                    engineIdentifier, TimeUnit.NANOSECONDS.toMillis(waitNanos), contendedLockAcquisitions,
+                    lockAcquisitions);
+        }
+    }
+
     /**
      * Tests if the script is a script file, i.e. it is loaded from a JavaScript file.
      * 
@@ -539,7 +595,7 @@ public class OpenhabGraalJSScriptEngine
 
     @Override
     public void lock() {
-        lock.lock();
+        lockAndRecordWait();
         logger.debug("Lock acquired for engine '{}'.", engineIdentifier);
     }
 
@@ -555,7 +611,16 @@ public class OpenhabGraalJSScriptEngine
 
     @Override
     public boolean tryLock(long l, TimeUnit timeUnit) throws InterruptedException {
-        return lock.tryLock(l, timeUnit);
+        if (lock.tryLock()) {
+            lockAcquisitions++;
+            return true;
+        }
+        long waitStart = System.nanoTime();
+        if (!lock.tryLock(l, timeUnit)) {
+            return false;
+        }
+        recordWait(waitStart);
+        return true;
     }
 
     @Override
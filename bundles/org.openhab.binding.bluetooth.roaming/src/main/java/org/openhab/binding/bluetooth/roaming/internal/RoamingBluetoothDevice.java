@@ -31,6 +31,7 @@ import org.openhab.binding.bluetooth.BluetoothDeviceListener;
 import org.openhab.binding.bluetooth.DelegateBluetoothDevice;
 import org.openhab.binding.bluetooth.notification.BluetoothConnectionStatusNotification;
 import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.binding.bluetooth.util.RssiFilter;
 
 /**
  * The {@link RoamingBluetoothDevice} acts as a roaming device by delegating
@@ -72,13 +73,15 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
     protected @Nullable BluetoothDevice getDelegate() {
         BluetoothDevice newDelegate = null;
         int newRssi = Integer.MIN_VALUE;
-        for (BluetoothDevice device : devices.keySet()) {
+        for (Map.Entry<BluetoothDevice, Listener> entry : devices.entrySet()) {
+            BluetoothDevice device = entry.getKey();
             ConnectionState state = device.getConnectionState();
             if (state == ConnectionState.CONNECTING || state == ConnectionState.CONNECTED) {
                 newDelegate = device;
                 break;
             }
-            Integer rssi = device.getRssi();
+            // the smoothed RSSI keeps a noisy signal from switching adapters back and forth
+            Integer rssi = entry.getValue().getRssi();
             if (rssi != null && (newDelegate == null || rssi > newRssi)) {
                 newRssi = rssi;
                 newDelegate = device;
@@ -108,13 +111,30 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
     private class Listener implements BluetoothDeviceListener {
 
         private BluetoothDevice device;
+        private final RssiFilter rssiFilter;
 
         public Listener(BluetoothDevice device) {
             this.device = device;
+            this.rssiFilter = adapter.createRssiFilter();
+        }
+
+        public @Nullable Integer getRssi() {
+            Integer rssi = device.getRssi();
+            if (rssi == null || rssi == 0) {
+                return rssi;
+            }
+            Integer filteredRssi = rssiFilter.getValue();
+            return filteredRssi != null ? filteredRssi : rssi;
         }
 
         @Override
         public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
+            int rssi = scanNotification.getRssi();
+            if (rssi == 0) {
+                rssiFilter.reset();
+            } else if (rssi != Integer.MIN_VALUE) {
+                rssiFilter.add(rssi);
+            }
             if (device == getDelegate()) {
                 notifyListeners(BluetoothEventType.SCAN_RECORD, scanNotification);
             }
@@ -21,10 +21,12 @@ import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.BaseBluetoothBridgeHandlerConfiguration;
 import org.openhab.binding.bluetooth.BluetoothAdapter;
 import org.openhab.binding.bluetooth.BluetoothAddress;
 import org.openhab.binding.bluetooth.BluetoothBindingConstants;
 import org.openhab.binding.bluetooth.BluetoothDiscoveryListener;
+import org.openhab.binding.bluetooth.util.RssiFilter;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -226,6 +228,11 @@ public class RoamingBridgeHandler extends BaseBridgeHandler implements RoamingBl
         }
     }
 
+    @Override
+    public RssiFilter createRssiFilter() {
+        return getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class).createRssiFilter();
+    }
+
     @Override
     public boolean hasHandlerForDevice(BluetoothAddress address) {
         String addrStr = address.toString();
@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.bluetooth.BluetoothDevice.ConnectionState;
+import org.openhab.binding.bluetooth.util.RssiFilter;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -210,6 +211,11 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         return false;
     }
 
+    @Override
+    public RssiFilter createRssiFilter() {
+        return config.createRssiFilter();
+    }
+
     public void deviceDiscovered(BluetoothDevice device) {
         if (hasHandlerForDevice(device.getAddress())) {
             // no point in discovering a device that already has a handler
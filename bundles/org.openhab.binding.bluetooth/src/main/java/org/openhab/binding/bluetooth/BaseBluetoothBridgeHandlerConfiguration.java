@@ -12,7 +12,10 @@
  */
 package org.openhab.binding.bluetooth;
 
+import java.time.Duration;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.bluetooth.util.RssiFilter;
 
 /**
  * This is the base configuration that all bluetooth bridge implementations will use.
@@ -26,4 +29,14 @@ public class BaseBluetoothBridgeHandlerConfiguration {
     public boolean backgroundDiscovery = false;
     public int inactiveDeviceCleanupInterval = 60;
     public int inactiveDeviceCleanupThreshold = 300;
+    public int rssiUpdateInterval = 0;
+    public int rssiUpdateThreshold = RssiFilter.DEFAULT_PUBLISH_THRESHOLD;
+    public double rssiSmoothingFactor = RssiFilter.DEFAULT_SMOOTHING_FACTOR;
+
+    public RssiFilter createRssiFilter() {
+        // fall back to no smoothing for invalid values
+        double smoothingFactor = rssiSmoothingFactor > 0.0 && rssiSmoothingFactor <= 1.0 ? rssiSmoothingFactor
+                : RssiFilter.DEFAULT_SMOOTHING_FACTOR;
+        return new RssiFilter(smoothingFactor, Duration.ofSeconds(rssiUpdateInterval), rssiUpdateThreshold);
+    }
 }
@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.bluetooth.BluetoothDevice.ConnectionState;
 import org.openhab.binding.bluetooth.notification.BluetoothConnectionStatusNotification;
 import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.binding.bluetooth.util.RssiFilter;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.Units;
@@ -63,6 +64,8 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
 
     private @Nullable ZonedDateTime lastActivityTime;
 
+    private RssiFilter rssiFilter = new RssiFilter();
+
     public BeaconBluetoothHandler(Thing thing) {
         super(thing);
         deviceLock = new ReentrantLock();
@@ -91,6 +94,7 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
         }
 
         adapter = (BluetoothAdapter) bridgeHandler;
+        rssiFilter = adapter.createRssiFilter();
 
         try {
             deviceLock.lock();
@@ -166,7 +170,9 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
      */
     protected void updateRSSI() {
         if (device != null) {
-            updateRSSI(device.getRssi());
+            Integer rssi = device.getRssi();
+            Integer filteredRssi = rssiFilter.getValue();
+            updateRSSI(rssi != null && rssi != 0 && filteredRssi != null ? filteredRssi : rssi);
         }
     }
 
@@ -222,8 +228,17 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
     public void onScanRecordReceived(BluetoothScanNotification scanNotification) {
         onActivity();
         int rssi = scanNotification.getRssi();
-        if (rssi != Integer.MIN_VALUE) {
+        if (rssi == 0) {
+            rssiFilter.reset();
             updateRSSI(rssi);
+        } else if (rssi != Integer.MIN_VALUE) {
+            // only publish meaningful changes, but every advertisement shows that the device is in reach
+            Integer filteredRssi = rssiFilter.addAndGetPublishValue(rssi);
+            if (filteredRssi != null) {
+                updateRSSI(filteredRssi);
+            } else {
+                updateStatusBasedOnRssi(true);
+            }
         } else {
             // we received a scan notification from this device so it is online
             // TODO how can we detect if the underlying bluez stack is still receiving advertising packets when there
@@ -14,6 +14,7 @@ package org.openhab.binding.bluetooth;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.util.RssiFilter;
 import org.openhab.core.common.registry.Identifiable;
 import org.openhab.core.thing.ThingUID;
 
@@ -99,4 +100,14 @@ public interface BluetoothAdapter extends Identifiable<ThingUID> {
      * @return true if this adapter has a {@link BluetoothDevice} with that address
      */
     boolean hasHandlerForDevice(BluetoothAddress address);
+
+    /**
+     * Creates a new {@link RssiFilter} for a device of this adapter, which decides which of the received RSSI values
+     * are published.
+     *
+     * @return a new {@link RssiFilter}
+     */
+    default RssiFilter createRssiFilter() {
+        return new RssiFilter();
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link RssiFilter} smooths the RSSI values received with the advertisements of a single device and decides which
+ * of them are worth publishing.
+ * <p>
+ * The RSSI is smoothed with an exponential moving average. A smoothed value is only published if it differs by at
+ * least the threshold from the last published value and the minimum interval since the last published value has
+ * passed. In busy environments this keeps a device advertising several times per second from flooding the event bus
+ * with RSSI updates.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RssiFilter {
+    public static final double DEFAULT_SMOOTHING_FACTOR = 1.0;
+    public static final Duration DEFAULT_MIN_PUBLISH_INTERVAL = Duration.ZERO;
+    public static final int DEFAULT_PUBLISH_THRESHOLD = 1;
+
+    private final double smoothingFactor;
+    private final long minPublishIntervalNanos;
+    private final int publishThreshold;
+    private final LongSupplier nanoTime;
+
+    private double value = Double.NaN;
+    private @Nullable Integer publishedValue;
+    private long publishedTime;
+
+    /**
+     * Creates a filter with the default settings, which publishes every change of the RSSI without smoothing
+     */
+    public RssiFilter() {
+        this(DEFAULT_SMOOTHING_FACTOR, DEFAULT_MIN_PUBLISH_INTERVAL, DEFAULT_PUBLISH_THRESHOLD);
+    }
+
+    /**
+     * Creates a filter
+     *
+     * @param smoothingFactor the weight of a new value in the moving average, 1.0 disables smoothing
+     * @param minPublishInterval the minimum time between two published values
+     * @param publishThreshold the minimum difference in dBm to the last published value
+     * @throws IllegalArgumentException if the smoothing factor is not in the range (0, 1]
+     */
+    public RssiFilter(double smoothingFactor, Duration minPublishInterval, int publishThreshold) {
+        this(smoothingFactor, minPublishInterval, publishThreshold, System::nanoTime);
+    }
+
+    RssiFilter(double smoothingFactor, Duration minPublishInterval, int publishThreshold, LongSupplier nanoTime) {
+        if (!(smoothingFactor > 0.0 && smoothingFactor <= 1.0)) {
+            throw new IllegalArgumentException("The smoothing factor must be greater than 0 and at most 1");
+        }
+        this.smoothingFactor = smoothingFactor;
+        this.minPublishIntervalNanos = minPublishInterval.toNanos();
+        this.publishThreshold = publishThreshold;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Adds a received RSSI value to the moving average
+     *
+     * @param rssi the received RSSI in dBm
+     * @return the smoothed RSSI in dBm
+     */
+    public synchronized int add(int rssi) {
+        value = Double.isNaN(value) ? rssi : value + smoothingFactor * (rssi - value);
+        return (int) Math.round(value);
+    }
+
+    /**
+     * Adds a received RSSI value to the moving average and checks if the smoothed RSSI should be published
+     *
+     * @param rssi the received RSSI in dBm
+     * @return the smoothed RSSI in dBm if it should be published, null otherwise
+     */
+    public synchronized @Nullable Integer addAndGetPublishValue(int rssi) {
+        int smoothedRssi = add(rssi);
+        long now = nanoTime.getAsLong();
+        Integer publishedValue = this.publishedValue;
+        if (publishedValue != null && (Math.abs(smoothedRssi - publishedValue) < publishThreshold
+                || now - publishedTime < minPublishIntervalNanos)) {
+            return null;
+        }
+        this.publishedValue = smoothedRssi;
+        this.publishedTime = now;
+        return smoothedRssi;
+    }
+
+    /**
+     * Returns the smoothed RSSI
+     *
+     * @return the smoothed RSSI in dBm or null if no RSSI has been added yet
+     */
+    public synchronized @Nullable Integer getValue() {
+        return Double.isNaN(value) ? null : (int) Math.round(value);
+    }
+
+    /**
+     * Forgets all values, e.g. after the device went out of reach
+     */
+    public synchronized void reset() {
+        value = Double.NaN;
+        publishedValue = null;
+    }
+}
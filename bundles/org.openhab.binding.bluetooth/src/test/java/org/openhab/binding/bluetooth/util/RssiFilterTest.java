@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class RssiFilterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void defaultFilterPublishesChangesOnly() {
+        RssiFilter filter = new RssiFilter();
+        assertNull(filter.getValue());
+        assertEquals(-70, filter.addAndGetPublishValue(-70));
+        assertNull(filter.addAndGetPublishValue(-70));
+        assertEquals(-71, filter.addAndGetPublishValue(-71));
+        assertEquals(-71, filter.getValue());
+    }
+
+    @Test
+    void smoothing() {
+        RssiFilter filter = new RssiFilter(0.25, Duration.ZERO, 1);
+        assertEquals(-60, filter.add(-60));
+        assertEquals(-65, filter.add(-80));
+        assertEquals(-64, filter.add(-60));
+    }
+
+    @Test
+    void threshold() {
+        RssiFilter filter = new RssiFilter(1.0, Duration.ZERO, 3, nanoTime::get);
+        assertEquals(-60, filter.addAndGetPublishValue(-60));
+        assertNull(filter.addAndGetPublishValue(-62));
+        assertNull(filter.addAndGetPublishValue(-58));
+        assertEquals(-63, filter.addAndGetPublishValue(-63));
+    }
+
+    @Test
+    void minPublishInterval() {
+        RssiFilter filter = new RssiFilter(1.0, Duration.ofSeconds(10), 1, nanoTime::get);
+        assertEquals(-60, filter.addAndGetPublishValue(-60));
+        nanoTime.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertNull(filter.addAndGetPublishValue(-70));
+        nanoTime.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals(-70, filter.addAndGetPublishValue(-70));
+    }
+
+    @Test
+    void reset() {
+        RssiFilter filter = new RssiFilter(0.5, Duration.ofSeconds(10), 1, nanoTime::get);
+        assertEquals(-60, filter.addAndGetPublishValue(-60));
+        filter.reset();
+        assertNull(filter.getValue());
+        assertEquals(-80, filter.addAndGetPublishValue(-80));
+    }
+
+    @Test
+    void invalidSmoothingFactor() {
+        assertThrows(IllegalArgumentException.class, () -> new RssiFilter(0.0, Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RssiFilter(1.5, Duration.ZERO, 1));
+    }
+}
@@ -19,7 +19,12 @@ import static org.openhab.binding.http.internal.HttpBindingConstants.REQUEST_DAT
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
@@ -27,8 +32,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -44,6 +51,7 @@ import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.RefreshingUrlCacheRegistry;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.PointType;
@@ -72,6 +80,7 @@ import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
 import org.openhab.core.types.StateDescription;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
+import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,20 +99,24 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final RateLimitedHttpClient rateLimitedHttpClient;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
+    private final RefreshingUrlCacheRegistry urlCacheRegistry;
 
     private HttpThingConfig config = new HttpThingConfig();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
     private final Map<ChannelUID, ChannelHandler> channels = new HashMap<>();
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
+    private final Map<String, String> sharedUrlHandlerKeys = new HashMap<>();
+    private final Map<String, List<Consumer<@Nullable ChannelHandlerContent>>> urlHandlerConsumers = new HashMap<>();
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
-            TimeZoneProvider timeZoneProvider) {
+            TimeZoneProvider timeZoneProvider, RefreshingUrlCacheRegistry urlCacheRegistry) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
         this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
+        this.urlCacheRegistry = urlCacheRegistry;
     }
 
     @Override
@@ -236,7 +249,15 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
                     urlHandlerCount, thing.getUID(), config.delay, config.refresh);
         }
 
-        urlHandlers.values().forEach(urlHandler -> urlHandler.start(scheduler, config.refresh));
+        // start the handlers after all consumers have been added, shared handlers are only started once
+        urlHandlers.forEach((key, urlHandler) -> {
+            String sharedKey = sharedUrlHandlerKeys.get(key);
+            if (sharedKey == null) {
+                urlHandler.start(scheduler, config.refresh);
+            } else {
+                urlCacheRegistry.start(sharedKey);
+            }
+        });
 
         updateStatus(ThingStatus.UNKNOWN);
     }
@@ -244,13 +265,25 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     @Override
     public void dispose() {
         // stop update tasks
-        urlHandlers.values().forEach(RefreshingUrlCache::stop);
+        urlHandlers.forEach((key, urlHandler) -> {
+            String sharedKey = sharedUrlHandlerKeys.get(key);
+            if (sharedKey == null) {
+                urlHandler.stop();
+            } else {
+                // other things may still use this handler
+                urlHandler.removeStatusListener(this);
+                urlHandlerConsumers.getOrDefault(key, List.of()).forEach(urlHandler::removeConsumer);
+                urlCacheRegistry.release(sharedKey, this);
+            }
+        });
         rateLimitedHttpClient.shutdown();
 
         // clear lists
         urlHandlers.clear();
         channels.clear();
         channelUrls.clear();
+        sharedUrlHandlerKeys.clear();
+        urlHandlerConsumers.clear();
 
         // remove state descriptions
         httpDynamicStateDescriptionProvider.removeDescriptionsForThing(thing.getUID());
@@ -263,6 +296,55 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
      *
      * @param channel a thing channel
      */
+    private RefreshingUrlCache createUrlHandler(String key, String stateUrl, String stateContent) {
+        if (!config.shareRequests || config.delay > 0) {
+            // requests are rate-limited per thing, so the handler can't be shared with other things
+            return new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config, stateContent, config.contentType,
+                    this);
+        }
+        String sharedKey = key + "$" + getRequestConfigurationKey();
+        sharedUrlHandlerKeys.put(key, sharedKey);
+        RefreshingUrlCache urlHandler = urlCacheRegistry.acquire(sharedKey, this,
+                config.ignoreSSLErrors ? httpClientProvider.getInsecureClient() : httpClientProvider.getSecureClient(),
+                scheduler, config.refresh, httpClient -> new RefreshingUrlCache(httpClient, stateUrl, config,
+                        stateContent, config.contentType, this));
+        urlHandler.addStatusListener(this);
+        return urlHandler;
+    }
+
+    /**
+     * Get a key for all configuration parameters that affect state requests or the processing of their responses
+     *
+     * Headers and credentials are only included as a hash, so they are not kept as plain text in the key.
+     *
+     * @return the key
+     */
+    private String getRequestConfigurationKey() {
+        return String.join("$", config.stateMethod.name(), Objects.requireNonNullElse(config.contentType, ""),
+                String.valueOf(config.timeout), String.valueOf(config.bufferSize),
+                Objects.requireNonNullElse(config.encoding, ""), String.valueOf(config.ignoreSSLErrors),
+                String.valueOf(config.strictErrorHandling), String.valueOf(config.refresh),
+                String.valueOf(config.conditionalRequests), String.valueOf(config.skipUnchangedContent),
+                config.authMode.name(),
+                sha256(new TreeMap<>(config.getHeaders()).toString(), config.username, config.password));
+    }
+
+    private static String sha256(String... values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                // prefix every value with its length, so that different values never result in the same input
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                digest.update(bytes);
+            }
+            return HexUtils.bytesToHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     private void createChannel(Channel channel) {
         if (REQUEST_DATE_TIME_CHANNELTYPE_UID.equals(channel.getChannelTypeUID())) {
             // do not generate refreshUrls for lastSuccess / lastFailure channels
@@ -332,11 +414,11 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             // we need a key consisting of stateContent and URL, only if both are equal, we can use the same cache
             String key = channelConfig.stateContent + "$" + stateUrl;
             channelUrls.put(channelUID, key);
+            Consumer<@Nullable ChannelHandlerContent> consumer = itemValueConverter::process;
             Objects.requireNonNull(
-                    urlHandlers.computeIfAbsent(key,
-                            k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config,
-                                    channelConfig.stateContent, config.contentType, this)))
-                    .addConsumer(itemValueConverter::process);
+                    urlHandlers.computeIfAbsent(key, k -> createUrlHandler(k, stateUrl, channelConfig.stateContent)))
+                    .addConsumer(consumer);
+            urlHandlerConsumers.computeIfAbsent(key, k -> new ArrayList<>()).add(consumer);
         }
 
         StateDescription stateDescription = StateDescriptionFragmentBuilder.create()
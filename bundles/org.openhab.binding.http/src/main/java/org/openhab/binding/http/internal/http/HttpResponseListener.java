@@ -39,6 +39,7 @@ public class HttpResponseListener extends BufferingResponseListener {
     private final CompletableFuture<@Nullable ChannelHandlerContent> future;
     private final HttpStatusListener httpStatusListener;
     private final String fallbackEncoding;
+    private final @Nullable ChannelHandlerContent notModifiedContent;
 
     /**
      * the HttpResponseListener is responsible
@@ -49,10 +50,26 @@ public class HttpResponseListener extends BufferingResponseListener {
      */
     public HttpResponseListener(CompletableFuture<@Nullable ChannelHandlerContent> future,
             @Nullable String fallbackEncoding, int bufferSize, HttpStatusListener httpStatusListener) {
+        this(future, fallbackEncoding, bufferSize, httpStatusListener, null);
+    }
+
+    /**
+     * the HttpResponseListener is responsible
+     *
+     * @param future Content future to complete with the result of the request
+     * @param fallbackEncoding a fallback encoding for the content (UTF-8 if null)
+     * @param bufferSize the buffer size for the content in kB (default 2048 kB)
+     * @param notModifiedContent the content to complete the future with if the response is "304 Not Modified" (for
+     *            conditional requests)
+     */
+    public HttpResponseListener(CompletableFuture<@Nullable ChannelHandlerContent> future,
+            @Nullable String fallbackEncoding, int bufferSize, HttpStatusListener httpStatusListener,
+            @Nullable ChannelHandlerContent notModifiedContent) {
         super(bufferSize * 1024);
         this.future = future;
         this.fallbackEncoding = fallbackEncoding != null ? fallbackEncoding : StandardCharsets.UTF_8.name();
         this.httpStatusListener = httpStatusListener;
+        this.notModifiedContent = notModifiedContent;
     }
 
     @Override
@@ -87,6 +104,19 @@ public class HttpResponseListener extends BufferingResponseListener {
                     }
                     httpStatusListener.onHttpSuccess();
                     break;
+                case HttpStatus.NOT_MODIFIED_304:
+                    ChannelHandlerContent localNotModifiedContent = notModifiedContent;
+                    if (localNotModifiedContent != null) {
+                        future.complete(localNotModifiedContent);
+                        httpStatusListener.onHttpSuccess();
+                    } else {
+                        logger.debug("Requesting '{}' (method='{}', content='{}') failed: unexpected {} {}",
+                                request.getURI(), request.getMethod(), request.getContent(), response.getStatus(),
+                                response.getReason());
+                        future.complete(null);
+                        httpStatusListener.onHttpError(response.getReason());
+                    }
+                    break;
                 case HttpStatus.UNAUTHORIZED_401:
                     logger.debug("Requesting '{}' (method='{}', content='{}') failed: Authorization error",
                             request.getURI(), request.getMethod(), request.getContent());
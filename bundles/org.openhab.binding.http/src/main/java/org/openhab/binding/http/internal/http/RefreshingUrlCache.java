@@ -15,8 +15,10 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -29,7 +31,10 @@ import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
@@ -40,10 +45,21 @@ import org.slf4j.LoggerFactory;
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
  * channels
  *
+ * If enabled, requests are made conditional on the entity tag and modification date of the last response, and content
+ * which did not change since the last response is not passed to the channels again.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class RefreshingUrlCache {
+    /**
+     * The validators of a single response, they are only remembered once its content has been delivered
+     */
+    private static class ResponseValidators {
+        private volatile @Nullable String eTag;
+        private volatile @Nullable String lastModified;
+    }
+
     private final Logger logger = LoggerFactory.getLogger(RefreshingUrlCache.class);
 
     private final String url;
@@ -57,10 +73,25 @@ public class RefreshingUrlCache {
     private final HttpMethod httpMethod;
     private final String httpContent;
     private final @Nullable String httpContentType;
-    private final HttpStatusListener httpStatusListener;
+    private final boolean conditionalRequests;
+    private final boolean skipUnchangedContent;
+    private final Set<HttpStatusListener> httpStatusListeners = ConcurrentHashMap.newKeySet();
+    private final HttpStatusListener httpStatusListener = new HttpStatusListener() {
+        @Override
+        public void onHttpError(@Nullable String message) {
+            httpStatusListeners.forEach(listener -> listener.onHttpError(message));
+        }
+
+        @Override
+        public void onHttpSuccess() {
+            httpStatusListeners.forEach(HttpStatusListener::onHttpSuccess);
+        }
+    };
 
     private @Nullable ScheduledFuture<?> future;
-    private @Nullable ChannelHandlerContent lastContent;
+    private volatile @Nullable ChannelHandlerContent lastContent;
+    private volatile @Nullable String lastETag;
+    private volatile @Nullable String lastModified;
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
@@ -73,7 +104,9 @@ public class RefreshingUrlCache {
         this.headers = thingConfig.getHeaders();
         this.httpContent = httpContent;
         this.httpContentType = httpContentType;
-        this.httpStatusListener = httpStatusListener;
+        this.httpStatusListeners.add(httpStatusListener);
+        this.conditionalRequests = thingConfig.conditionalRequests;
+        this.skipUnchangedContent = thingConfig.skipUnchangedContent;
         fallbackEncoding = thingConfig.encoding;
     }
 
@@ -89,6 +122,7 @@ public class RefreshingUrlCache {
     public void stop() {
         // clearing all listeners to prevent further updates
         consumers.clear();
+        httpStatusListeners.clear();
         ScheduledFuture<?> future = this.future;
         if (future != null) {
             future.cancel(true);
@@ -115,6 +149,11 @@ public class RefreshingUrlCache {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
 
+                ResponseValidators validators = new ResponseValidators();
+                ChannelHandlerContent notModifiedContent = conditionalRequests
+                        ? addConditionalHeaders(request, validators)
+                        : null;
+
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
                 responseContentFuture.exceptionally(t -> {
                     if (t instanceof HttpAuthException) {
@@ -126,14 +165,14 @@ public class RefreshingUrlCache {
                         }
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                }).thenAccept(content -> processResult(content, validators));
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
                 request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
+                        httpStatusListener, notModifiedContent));
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
@@ -147,24 +186,108 @@ public class RefreshingUrlCache {
         }
     }
 
+    /**
+     * Make the request conditional on the last response and collect the validators of the new response
+     *
+     * @param request the request
+     * @param validators receives the validators of a successful response
+     * @return the content to use if the server responds with "304 Not Modified", null if the request is not conditional
+     */
+    private @Nullable ChannelHandlerContent addConditionalHeaders(Request request, ResponseValidators validators) {
+        request.onResponseHeaders(response -> {
+            if (response.getStatus() == HttpStatus.OK_200) {
+                validators.eTag = response.getHeaders().get(HttpHeader.ETAG);
+                validators.lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+            }
+        });
+
+        ChannelHandlerContent localLastContent = lastContent;
+        String localETag = lastETag;
+        String localLastModified = lastModified;
+        if (localLastContent == null || (localETag == null && localLastModified == null)) {
+            return null;
+        }
+        if (localETag != null) {
+            request.header(HttpHeader.IF_NONE_MATCH, localETag);
+        }
+        if (localLastModified != null) {
+            request.header(HttpHeader.IF_MODIFIED_SINCE, localLastModified);
+        }
+        return localLastContent;
+    }
+
     public void addConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
         consumers.add(consumer);
+        // a new consumer of an already running cache would otherwise not get the content before it changes
+        ChannelHandlerContent localLastContent = lastContent;
+        if (localLastContent != null) {
+            deliver(consumer, localLastContent);
+        }
+    }
+
+    public void removeConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
+        consumers.remove(consumer);
+    }
+
+    public void addStatusListener(HttpStatusListener listener) {
+        httpStatusListeners.add(listener);
+    }
+
+    public void removeStatusListener(HttpStatusListener listener) {
+        httpStatusListeners.remove(listener);
     }
 
     public Optional<ChannelHandlerContent> get() {
         return Optional.ofNullable(lastContent);
     }
 
-    private void processResult(@Nullable ChannelHandlerContent content) {
+    private void processResult(@Nullable ChannelHandlerContent content, ResponseValidators validators) {
+        ChannelHandlerContent localLastContent = lastContent;
+        if (content != null && localLastContent != null && (content == localLastContent
+                || (skipUnchangedContent && isSameContent(content, localLastContent)))) {
+            // the very same instance is returned if the server responded with "304 Not Modified"
+            logger.trace("Content of URL '{}' did not change, not updating channels", url);
+            if (content != localLastContent) {
+                updateValidators(content, validators);
+            }
+            return;
+        }
+        // set before delivering, so that consumers added meanwhile get this content
+        lastContent = content;
+        boolean delivered = true;
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
-                try {
-                    consumer.accept(content);
-                } catch (IllegalArgumentException | IllegalStateException e) {
-                    logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
-                }
+                delivered &= deliver(consumer, content);
             }
         }
-        lastContent = content;
+        // a failed delivery must not be skipped as "304 Not Modified" next time
+        updateValidators(delivered ? content : null, validators);
+    }
+
+    private boolean deliver(Consumer<@Nullable ChannelHandlerContent> consumer,
+            @Nullable ChannelHandlerContent content) {
+        try {
+            consumer.accept(content);
+            return true;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Remember the validators of a response for the next conditional request
+     *
+     * @param content the delivered content, null if the next request shall not be conditional
+     * @param validators the validators of the response
+     */
+    private void updateValidators(@Nullable ChannelHandlerContent content, ResponseValidators validators) {
+        lastETag = content != null ? validators.eTag : null;
+        lastModified = content != null ? validators.lastModified : null;
+    }
+
+    private static boolean isSameContent(ChannelHandlerContent content, ChannelHandlerContent other) {
+        return Arrays.equals(content.getRawContent(), other.getRawContent())
+                && Objects.equals(content.getMediaType(), other.getMediaType());
     }
 }
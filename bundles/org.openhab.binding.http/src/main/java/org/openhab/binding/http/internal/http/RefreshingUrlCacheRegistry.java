@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RefreshingUrlCacheRegistry} shares {@link RefreshingUrlCache}s between things requesting the same URL
+ * with the same configuration, so that the URL is only requested once per refresh.
+ *
+ * Shared caches use their own {@link RateLimitedHttpClient} without delay, as they do not belong to a single thing.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheRegistry {
+    private final Logger logger = LoggerFactory.getLogger(RefreshingUrlCacheRegistry.class);
+
+    private final Map<String, SharedUrlCache> caches = new HashMap<>();
+
+    private static class SharedUrlCache {
+        private final RefreshingUrlCache urlCache;
+        private final RateLimitedHttpClient httpClient;
+        private final ScheduledExecutorService scheduler;
+        private final int refresh;
+        private final Set<Object> owners = new HashSet<>();
+        private boolean started;
+
+        private SharedUrlCache(RefreshingUrlCache urlCache, RateLimitedHttpClient httpClient,
+                ScheduledExecutorService scheduler, int refresh) {
+            this.urlCache = urlCache;
+            this.httpClient = httpClient;
+            this.scheduler = scheduler;
+            this.refresh = refresh;
+        }
+    }
+
+    /**
+     * Get the cache for the given key, create it if no other thing uses it yet
+     *
+     * A new cache is not started before {@link #start(String)} is called, so that the owner can add its consumers first.
+     *
+     * @param key a key identifying the URL and all request parameters, credentials should only be included as hash
+     * @param owner the thing (handler) using the cache
+     * @param httpClient the HTTP client used for new caches
+     * @param scheduler the scheduler used for new caches
+     * @param refresh the refresh time in s used for new caches
+     * @param cacheFactory creates a new cache with the given (shared) client
+     * @return the shared cache
+     */
+    public synchronized RefreshingUrlCache acquire(String key, Object owner, HttpClient httpClient,
+            ScheduledExecutorService scheduler, int refresh,
+            Function<RateLimitedHttpClient, RefreshingUrlCache> cacheFactory) {
+        SharedUrlCache sharedUrlCache = caches.get(key);
+        if (sharedUrlCache == null) {
+            RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+            RefreshingUrlCache urlCache = cacheFactory.apply(rateLimitedHttpClient);
+            sharedUrlCache = new SharedUrlCache(urlCache, rateLimitedHttpClient, scheduler, refresh);
+            caches.put(key, sharedUrlCache);
+        } else {
+            // the key may contain the URL and request content, do not log it
+            logger.debug("Sharing refresh task with {} other thing(s)", sharedUrlCache.owners.size());
+        }
+        sharedUrlCache.owners.add(owner);
+        return sharedUrlCache.urlCache;
+    }
+
+    /**
+     * Start the cache for the given key, if it is not started yet
+     *
+     * @param key a key identifying the URL and all request parameters
+     */
+    public synchronized void start(String key) {
+        SharedUrlCache sharedUrlCache = caches.get(key);
+        if (sharedUrlCache != null && !sharedUrlCache.started) {
+            sharedUrlCache.started = true;
+            sharedUrlCache.urlCache.start(sharedUrlCache.scheduler, sharedUrlCache.refresh);
+        }
+    }
+
+    /**
+     * Release the cache for the given key, stop it if no other thing uses it anymore
+     *
+     * @param key a key identifying the URL and all request parameters
+     * @param owner the thing (handler) no longer using the cache
+     */
+    public synchronized void release(String key, Object owner) {
+        SharedUrlCache sharedUrlCache = caches.get(key);
+        if (sharedUrlCache == null || !sharedUrlCache.owners.remove(owner) || !sharedUrlCache.owners.isEmpty()) {
+            return;
+        }
+        caches.remove(key);
+        sharedUrlCache.urlCache.stop();
+        sharedUrlCache.httpClient.shutdown();
+    }
+
+    /**
+     * Stop all caches
+     */
+    public synchronized void dispose() {
+        caches.values().forEach(sharedUrlCache -> {
+            sharedUrlCache.urlCache.stop();
+            sharedUrlCache.httpClient.shutdown();
+        });
+        caches.clear();
+    }
+}
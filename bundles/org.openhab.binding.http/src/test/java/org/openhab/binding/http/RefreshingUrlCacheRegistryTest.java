@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.RefreshingUrlCacheRegistry;
+
+/**
+ * Tests the {@link RefreshingUrlCacheRegistry}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheRegistryTest {
+    private static final String KEY = "key";
+
+    private final RefreshingUrlCacheRegistry registry = new RefreshingUrlCacheRegistry();
+    private final HttpClient httpClient = mock(HttpClient.class);
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final RefreshingUrlCache urlCache = mock(RefreshingUrlCache.class);
+
+    private RefreshingUrlCache acquire(Object owner) {
+        return registry.acquire(KEY, owner, httpClient, scheduler, 30, client -> urlCache);
+    }
+
+    @Test
+    public void testCacheIsOnlyStartedOnRequest() {
+        Object owner1 = new Object();
+        Object owner2 = new Object();
+
+        assertSame(urlCache, acquire(owner1));
+        verify(urlCache, never()).start(any(), anyInt());
+
+        registry.start(KEY);
+        assertSame(urlCache, acquire(owner2));
+        registry.start(KEY);
+
+        // the cache is shared and only started once
+        verify(urlCache, times(1)).start(scheduler, 30);
+    }
+
+    @Test
+    public void testCacheIsStoppedWhenLastOwnerReleasesIt() {
+        Object owner1 = new Object();
+        Object owner2 = new Object();
+        acquire(owner1);
+        acquire(owner2);
+        registry.start(KEY);
+
+        registry.release(KEY, owner1);
+        verify(urlCache, never()).stop();
+
+        registry.release(KEY, owner2);
+        verify(urlCache).stop();
+    }
+}
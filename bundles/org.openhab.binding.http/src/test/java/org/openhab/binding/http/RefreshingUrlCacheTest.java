@@ -13,6 +13,7 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
@@ -33,6 +34,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -245,6 +247,93 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         assertTrue(returnedQueryValue.matches("\\d{4}-\\d{2}-\\d{2}"));
     }
 
+    @Test
+    public void testUnchangedContentIsSkipped() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchangedContent = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // verify we got at least three responses, but only the first one is passed to the consumers
+        verify(statusListener, timeout(5000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        verify(statusListener, never()).onHttpError(any());
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testNotModifiedResponseIsSkipped() {
+        String eTag = "\"v1\"";
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(2)
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(1).withHeader("If-None-Match", equalTo(eTag))
+                .willReturn(aResponse().withStatus(304)));
+        thingConfig.conditionalRequests = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // verify not modified responses are reported as success, but not passed to the consumers
+        verify(statusListener, timeout(5000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        verify(statusListener, never()).onHttpError(any());
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testValidatorsAreOnlyUsedAfterSuccessfulDelivery() {
+        String eTag = "\"v1\"";
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(2)
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(1).withHeader("If-None-Match", equalTo(eTag))
+                .willReturn(aResponse().withStatus(304)));
+        thingConfig.conditionalRequests = true;
+
+        RefreshingUrlCache urlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig, TEST_CONTENT,
+                null, statusListener);
+        // the first content can't be processed, so the next request must not be conditional
+        AtomicBoolean failed = new AtomicBoolean();
+        urlCache.addConsumer(content -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("processing failed");
+            }
+            contentWrappers.add(content);
+        });
+        urlCache.start(scheduler, thingConfig.refresh);
+
+        // verify the content is requested again, but only passed to the consumers once it has been processed
+        verify(statusListener, timeout(5000).atLeast(4)).onHttpSuccess();
+        urlCache.stop();
+
+        verify(statusListener, never()).onHttpError(any());
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testLastContentIsPassedToNewConsumers() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchangedContent = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+        waitForAssert(() -> assertEquals(1, contentWrappers.size()));
+
+        // the content does not change, so the new consumer only gets it when it is added
+        List<@Nullable ChannelHandlerContent> newConsumerContents = new CopyOnWriteArrayList<>();
+        urlCache.addConsumer(newConsumerContents::add);
+        assertEquals(1, newConsumerContents.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(newConsumerContents.get(0)).getAsString());
+
+        verify(statusListener, timeout(5000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        assertEquals(1, contentWrappers.size());
+        assertEquals(1, newConsumerContents.size());
+    }
+
     /**
      * helper method to create a {@link RefreshingUrlCache} and add a test listener
      *
@@ -63,16 +63,18 @@ public class HueCommandExtension extends AbstractConsoleCommandExtension impleme
     private static final String FMT_COMMENT = "    // %s things";
     private static final String FMT_APPKEY = "  - Application key: %s";
     private static final String FMT_SCENE = "  %s '%s'";
+    private static final String FMT_DISPATCH = "  %s: %d resources";
 
     private static final String USER_NAME = "username";
     private static final String SCENES = "scenes";
     private static final String APPLICATION_KEY = "applicationkey";
     private static final String THINGS = "things";
+    private static final String DISPATCH = "dispatch";
 
     private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(List.of(USER_NAME, SCENES), false);
 
     private static final StringsCompleter SUBCMD_COMPLETER_2 = new StringsCompleter(
-            List.of(APPLICATION_KEY, THINGS, SCENES), false);
+            List.of(APPLICATION_KEY, THINGS, SCENES, DISPATCH), false);
 
     private static final StringsCompleter SCENES_COMPLETER = new StringsCompleter(List.of(SCENES), false);
 
@@ -138,6 +140,16 @@ public class HueCommandExtension extends AbstractConsoleCommandExtension impleme
                             console.println(String.format(FMT_APPKEY, applicationKey));
                             return;
 
+                        case DISPATCH:
+                            Map<String, Long> dispatchCounts = clip2BridgeHandler.getResourceDispatchCounts();
+                            if (dispatchCounts.isEmpty()) {
+                                console.println("no things registered");
+                            } else {
+                                dispatchCounts.forEach((thingUID, count) -> console
+                                        .println(String.format(FMT_DISPATCH, thingUID, count)));
+                            }
+                            return;
+
                         case SCENES:
                             console.println(String.format(FMT_BRIDGE, thing.getUID(), ipAddress, applicationKey));
                             try {
@@ -230,6 +242,8 @@ public class HueCommandExtension extends AbstractConsoleCommandExtension impleme
                 buildCommandUsage("<bridgeUID> " + APPLICATION_KEY, "show the API v2 application key"),
                 buildCommandUsage("<bridgeUID> " + SCENES, "list all the scenes with their id"),
                 buildCommandUsage("<bridgeUID> " + THINGS, "list all the API v2 device/room/zone things with their id"),
+                buildCommandUsage("<bridgeUID> " + DISPATCH,
+                        "list the number of event resources forwarded to each API v2 thing"),
                 buildCommandUsage("<groupThingUID> " + SCENES, "list all the scenes from this group with their id") });
     }
 
@@ -15,18 +15,22 @@ package org.openhab.binding.hue.internal.handler;
 import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,6 +43,7 @@ import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
 import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.Archetype;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.CategoryType;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ContentType;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
 import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
 import org.openhab.binding.hue.internal.config.Clip2BridgeConfig;
@@ -123,6 +128,23 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private final Set<String> automationScriptIds = ConcurrentHashMap.newKeySet();
     private final ChannelGroupUID automationChannelGroupUID;
 
+    /**
+     * A map between the resource IDs and the child thing handlers which consume the respective resources. e.g. a DEVICE
+     * thing consumes its own DEVICE resource, the LIGHT resources of its services, and the SCENE resources of which it
+     * is a member. It is used to forward the incoming SSE resources only to the child thing handlers that need them.
+     */
+    private final Map<String, Set<Clip2ThingHandler>> resourceIdHandlers = new ConcurrentHashMap<>();
+
+    /**
+     * A map between the child thing handlers and the set of resource IDs that they have registered.
+     */
+    private final Map<Clip2ThingHandler, Set<String>> handlerResourceIds = new ConcurrentHashMap<>();
+
+    /**
+     * A map between the child thing UIDs and the number of SSE resources forwarded to them, for diagnostics.
+     */
+    private final Map<ThingUID, AtomicLong> resourceDispatchCounts = new ConcurrentHashMap<>();
+
     private @Nullable Clip2Bridge clip2Bridge;
     private @Nullable ServiceRegistration<?> trustManagerRegistration;
     private @Nullable Clip2ThingDiscoveryService discoveryService;
@@ -404,6 +426,17 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         return Objects.nonNull(result) ? result : key;
     }
 
+    /**
+     * Return the number of SSE resources that have been forwarded to each child thing, for the console app.
+     *
+     * @return a map between the thing UIDs and the respective number of resources, sorted by thing UID.
+     */
+    public Map<String, Long> getResourceDispatchCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        resourceDispatchCounts.forEach((thingUID, count) -> result.put(thingUID.getAsString(), count.get()));
+        return result;
+    }
+
     /**
      * Execute an HTTP GET for a resources reference object from the server.
      *
@@ -543,8 +576,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
-     * child thing handlers with the respective resource.
+     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform the
+     * child thing handlers which have registered the respective resource ID.
      *
      * @param resources a list of incoming resource objects.
      */
@@ -570,13 +603,40 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         if (onResources(resources)) {
             updateAutomationChannelsNow();
         }
-        getThing().getThings().forEach(thing -> {
-            if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
-                clip2ThingHandler.onResources(resources);
+        getHandlerResources(resources).forEach((handler, handlerResourceList) -> {
+            AtomicLong dispatchCount = resourceDispatchCounts.get(handler.getThing().getUID());
+            if (Objects.nonNull(dispatchCount)) {
+                dispatchCount.addAndGet(handlerResourceList.size());
             }
+            handler.onResources(handlerResourceList);
         });
     }
 
+    /**
+     * Split the incoming resources between the child thing handlers which have registered the respective resource IDs.
+     * The resources keep their original order in each list.
+     *
+     * @param resources a list of incoming resource objects.
+     * @return a map between the child thing handlers and the resources to be forwarded to them.
+     */
+    Map<Clip2ThingHandler, List<Resource>> getHandlerResources(List<Resource> resources) {
+        Map<Clip2ThingHandler, List<Resource>> handlerResources = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            Set<Clip2ThingHandler> handlers = resourceIdHandlers.getOrDefault(resource.getId(), Set.of());
+            handlers.forEach(
+                    handler -> handlerResources.computeIfAbsent(handler, h -> new ArrayList<>()).add(resource));
+            // a newly added scene is not yet known, so forward it to the handlers of the room or zone it belongs to
+            ResourceReference group = resource.getGroup();
+            String groupId = Objects.nonNull(group) ? group.getId() : null;
+            if (resource.getContentType() == ContentType.ADD && Objects.nonNull(groupId)) {
+                resourceIdHandlers.getOrDefault(groupId, Set.of()).stream().filter(h -> !handlers.contains(h))
+                        .forEach(handler -> handlerResources.computeIfAbsent(handler, h -> new ArrayList<>())
+                                .add(resource));
+            }
+        }
+        return handlerResources;
+    }
+
     /**
      * Execute an HTTP PUT to send a Resource object to the server.
      *
@@ -620,6 +680,36 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         this.discoveryService = discoveryService;
     }
 
+    /**
+     * Register the IDs of the resources which are consumed by a child thing handler. SSE resources are only forwarded
+     * to the child thing handlers which have registered their resource ID. Any IDs that the handler registered before
+     * are replaced.
+     *
+     * @param handler the child thing handler.
+     * @param resourceIds the IDs of the handler's own resource and of the resources it depends on.
+     */
+    public void registerResourceIds(Clip2ThingHandler handler, Set<String> resourceIds) {
+        synchronized (handlerResourceIds) {
+            Set<String> oldResourceIds = handlerResourceIds.put(handler, Set.copyOf(resourceIds));
+            if (Objects.nonNull(oldResourceIds)) {
+                oldResourceIds.stream().filter(id -> !resourceIds.contains(id))
+                        .forEach(id -> removeResourceIdHandler(id, handler));
+            }
+            resourceIds.forEach(
+                    id -> resourceIdHandlers.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(handler));
+            resourceDispatchCounts.putIfAbsent(handler.getThing().getUID(), new AtomicLong());
+        }
+        logger.debug("registerResourceIds() {} resource IDs registered for {}", resourceIds.size(),
+                handler.getThing().getUID());
+    }
+
+    private void removeResourceIdHandler(String resourceId, Clip2ThingHandler handler) {
+        resourceIdHandlers.computeIfPresent(resourceId, (id, handlers) -> {
+            handlers.remove(handler);
+            return handlers.isEmpty() ? null : handlers;
+        });
+    }
+
     /**
      * Unregister the discovery service.
      */
@@ -627,6 +717,21 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         discoveryService = null;
     }
 
+    /**
+     * Unregister all resource IDs of a child thing handler, so that no more SSE resources are forwarded to it.
+     *
+     * @param handler the child thing handler.
+     */
+    public void unregisterResourceIds(Clip2ThingHandler handler) {
+        synchronized (handlerResourceIds) {
+            Set<String> oldResourceIds = handlerResourceIds.remove(handler);
+            if (Objects.nonNull(oldResourceIds)) {
+                oldResourceIds.forEach(id -> removeResourceIdHandler(id, handler));
+            }
+            resourceDispatchCounts.remove(handler.getThing().getUID());
+        }
+    }
+
     /**
      * Update the bridge's online state and update its dependent things. Called when the connection goes online.
      */
@@ -767,6 +872,13 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         logger.debug("updateThingsNow()");
         try {
             Clip2Bridge bridge = getClip2Bridge();
+            // the child thing handlers (re-)register their resource IDs, in case this handler has been (re-)created
+            getThing().getThings().forEach(thing -> {
+                ThingHandler handler = thing.getHandler();
+                if (handler instanceof Clip2ThingHandler clip2ThingHandler) {
+                    clip2ThingHandler.updateResourceIds();
+                }
+            });
             for (ResourceReference reference : MASS_DOWNLOAD_RESOURCE_REFERENCES) {
                 ResourceType resourceType = reference.getType();
                 List<Resource> resourceList = bridge.getResources(reference).getResources();
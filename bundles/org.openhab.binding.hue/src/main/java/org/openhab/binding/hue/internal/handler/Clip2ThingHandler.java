@@ -278,6 +278,11 @@ public class Clip2ThingHandler extends BaseThingHandler {
         commandResourceIds.clear();
         serviceContributorsCache.clear();
         controlIds.clear();
+        try {
+            getBridgeHandler().unregisterResourceIds(this);
+        } catch (AssetNotLoadedException e) {
+            // the bridge handler has already been disposed
+        }
     }
 
     /**
@@ -634,6 +639,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
         if (Objects.nonNull(bridge)) {
             BridgeHandler bridgeHandler = bridge.getHandler();
             if (bridgeHandler instanceof Clip2BridgeHandler clip2BridgeHandler) {
+                clip2BridgeHandler.registerResourceIds(this, Set.of(resourceId));
                 clip2BridgeHandler.childInitialized();
             }
         }
@@ -727,6 +733,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                     sceneContributorsCache.put(sceneResource.getId(), sceneResource);
                     sceneResourceEntries.put(sceneResource.getName(), sceneResource);
                     updateSceneChannelStateDescription();
+                    updateResourceIds();
                     return FLAG_SCENE_ADD;
                 }
                 break;
@@ -735,6 +742,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                 if (Objects.nonNull(deletedScene)) {
                     sceneResourceEntries.remove(deletedScene.getName());
                     updateSceneChannelStateDescription();
+                    updateResourceIds();
                     return FLAG_SCENE_DELETE;
                 }
             default:
@@ -1069,6 +1077,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                     return;
                 }
                 updateLookups();
+                updateResourceIds();
                 updateServiceContributors();
                 updateChannelList();
                 updateChannelItemLinksFromLegacy();
@@ -1255,6 +1264,24 @@ public class Clip2ThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Register the IDs of this thing's own resource and of all resources that contribute to its state with the bridge
+     * handler, so that the bridge forwards the respective SSE resources to this thing. Also called by the bridge
+     * handler when it goes online, so that the registrations survive a re-initialization of the bridge.
+     */
+    public void updateResourceIds() {
+        if (!disposing) {
+            Set<String> resourceIds = new HashSet<>(serviceContributorsCache.keySet());
+            resourceIds.addAll(sceneContributorsCache.keySet());
+            resourceIds.add(resourceId);
+            try {
+                getBridgeHandler().registerResourceIds(this, resourceIds);
+            } catch (AssetNotLoadedException e) {
+                logger.debug("{} -> updateResourceIds() {}", resourceId, e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * Update the scene channel state description selection options
      */
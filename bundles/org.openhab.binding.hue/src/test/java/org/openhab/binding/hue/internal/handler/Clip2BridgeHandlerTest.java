@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ContentType;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.core.i18n.LocaleProvider;
+import org.openhab.core.i18n.TranslationProvider;
+import org.openhab.core.io.net.http.HttpClientFactory;
+import org.openhab.core.thing.Bridge;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.ThingUID;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests the routing of incoming SSE resources by {@link Clip2BridgeHandler} to its child thing handlers.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class Clip2BridgeHandlerTest {
+
+    private static final Gson GSON = new Gson();
+
+    private @NonNullByDefault({}) Clip2BridgeHandler bridgeHandler;
+    private @NonNullByDefault({}) Clip2ThingHandler deviceHandler;
+    private @NonNullByDefault({}) Clip2ThingHandler roomHandler;
+
+    @BeforeEach
+    void setUp() {
+        Bridge bridge = mock(Bridge.class);
+        when(bridge.getUID()).thenReturn(new ThingUID("hue:bridge-api2:test"));
+        bridgeHandler = new Clip2BridgeHandler(bridge, mock(HttpClientFactory.class), mock(ThingRegistry.class),
+                mock(LocaleProvider.class), mock(TranslationProvider.class));
+        deviceHandler = mockThingHandler("device");
+        roomHandler = mockThingHandler("room");
+    }
+
+    private static Clip2ThingHandler mockThingHandler(String id) {
+        Thing thing = mock(Thing.class);
+        when(thing.getUID()).thenReturn(new ThingUID("hue:device:test:" + id));
+        Clip2ThingHandler handler = mock(Clip2ThingHandler.class);
+        when(handler.getThing()).thenReturn(thing);
+        return handler;
+    }
+
+    private static Resource resource(String id, ResourceType type) {
+        return new Resource(type).setId(id);
+    }
+
+    private static Resource scene(String id, String groupId, ContentType contentType) {
+        Resource scene = GSON.fromJson("{\"id\":\"" + id + "\",\"group\":{\"rid\":\"" + groupId
+                + "\",\"rtype\":\"room\"}}", Resource.class);
+        assertNotNull(scene);
+        return scene.setType(ResourceType.SCENE).setContentType(contentType);
+    }
+
+    @Test
+    void resourcesAreRoutedToRegisteredHandlersInOrder() {
+        bridgeHandler.registerResourceIds(deviceHandler, Set.of("device1", "light1"));
+        bridgeHandler.registerResourceIds(roomHandler, Set.of("room1", "light1"));
+        Resource device = resource("device1", ResourceType.DEVICE);
+        Resource light = resource("light1", ResourceType.LIGHT);
+        Resource room = resource("room1", ResourceType.ROOM);
+        Resource unknown = resource("other", ResourceType.LIGHT);
+
+        Map<Clip2ThingHandler, List<Resource>> handlerResources = bridgeHandler
+                .getHandlerResources(List.of(light, unknown, device, room));
+
+        assertEquals(2, handlerResources.size());
+        assertEquals(List.of(light, device), handlerResources.get(deviceHandler));
+        assertEquals(List.of(light, room), handlerResources.get(roomHandler));
+    }
+
+    @Test
+    void addedSceneIsRoutedToHandlersOfItsGroup() {
+        bridgeHandler.registerResourceIds(deviceHandler, Set.of("device1"));
+        bridgeHandler.registerResourceIds(roomHandler, Set.of("room1", "scene1"));
+        Resource addedScene = scene("scene2", "room1", ContentType.ADD);
+        Resource knownScene = scene("scene1", "room1", ContentType.ADD);
+        Resource changedScene = scene("scene3", "room1", ContentType.UPDATE);
+
+        Map<Clip2ThingHandler, List<Resource>> handlerResources = bridgeHandler
+                .getHandlerResources(List.of(addedScene, knownScene, changedScene));
+
+        // the known scene is not forwarded twice, and only added scenes fall back to the group
+        assertEquals(Map.of(roomHandler, List.of(addedScene, knownScene)), handlerResources);
+    }
+
+    @Test
+    void reRegistrationReplacesResourceIds() {
+        bridgeHandler.registerResourceIds(deviceHandler, Set.of("device1", "light1"));
+        bridgeHandler.registerResourceIds(deviceHandler, Set.of("device1", "light2"));
+        Resource light1 = resource("light1", ResourceType.LIGHT);
+        Resource light2 = resource("light2", ResourceType.LIGHT);
+
+        assertEquals(Map.of(deviceHandler, List.of(light2)),
+                bridgeHandler.getHandlerResources(List.of(light1, light2)));
+
+        bridgeHandler.unregisterResourceIds(deviceHandler);
+        assertTrue(bridgeHandler.getHandlerResources(List.of(light1, light2)).isEmpty());
+    }
+
+    @Test
+    void registrationsSurviveBridgeDispose() {
+        bridgeHandler.registerResourceIds(deviceHandler, Set.of("device1"));
+        Resource device = resource("device1", ResourceType.DEVICE);
+
+        bridgeHandler.dispose();
+
+        assertEquals(Map.of(deviceHandler, List.of(device)), bridgeHandler.getHandlerResources(List.of(device)));
+    }
+}
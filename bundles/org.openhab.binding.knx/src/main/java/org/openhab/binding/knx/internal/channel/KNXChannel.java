@@ -21,11 +21,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.client.InboundSpec;
 import org.openhab.binding.knx.internal.client.OutboundSpec;
+import org.openhab.binding.knx.internal.dpt.DPTDecoder;
 import org.openhab.binding.knx.internal.dpt.DPTUtil;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.Channel;
@@ -52,6 +54,7 @@ public abstract class KNXChannel {
     private final Map<String, GroupAddressConfiguration> groupAddressConfigurations = new LinkedHashMap<>();
     private final List<GroupAddress> listenAddresses = new ArrayList<>();
     private final List<GroupAddress> writeAddresses = new ArrayList<>();
+    private final Map<String, DPTDecoder> decoders = new ConcurrentHashMap<>();
     private final String channelType;
     private final ChannelUID channelUID;
     private final boolean isControl;
@@ -169,6 +172,17 @@ public abstract class KNXChannel {
                 .filter(spec -> spec.getGroupAddresses().contains(groupAddress)).findFirst().orElse(null);
     }
 
+    /**
+     * Get the decoder for values of the given DPT received on this channel. It is created on first use and re-used
+     * for all following telegrams.
+     *
+     * @param dpt the datapoint type
+     * @return the decoder
+     */
+    public final DPTDecoder getDecoder(String dpt) {
+        return decoders.computeIfAbsent(dpt, d -> new DPTDecoder(d, preferredType));
+    }
+
     public final @Nullable OutboundSpec getResponseSpec(GroupAddress groupAddress, Type value) {
         return groupAddressConfigurations.entrySet().stream()
                 .map(entry -> new ReadResponseSpecImpl(entry.getValue(), getDefaultDPT(entry.getKey()), value))
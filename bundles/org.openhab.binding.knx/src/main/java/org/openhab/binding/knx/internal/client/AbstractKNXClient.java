@@ -15,13 +15,19 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -85,6 +91,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private ClientState state = ClientState.INIT;
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    private static final int GROUP_ADDRESS_COUNT = 0x10000;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
@@ -93,6 +100,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private final int readingPause;
     private final int autoReconnectPeriod;
     private final int readRetriesLimit;
+    private final boolean orderedDispatch;
     private final StatusUpdateCallback statusUpdateCallback;
     private final ScheduledExecutorService knxScheduler;
     private final CommandExtensionData commandExtensionData;
@@ -107,7 +115,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
+    /** All access must be guarded by "groupAddressListeners" */
+    private final Map<GroupAddressListener, ListenerRegistration> groupAddressListeners = new HashMap<>();
+    /** The registered listeners indexed by the raw 16-bit group address, each array is replaced on changes */
+    private final AtomicReferenceArray<ListenerRegistration @Nullable []> listenersByGroupAddress = new AtomicReferenceArray<>(
+            GROUP_ADDRESS_COUNT);
     private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
 
     @FunctionalInterface
@@ -115,8 +127,52 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         void apply(BusMessageListener listener, IndividualAddress source, GroupAddress destination, byte[] asdu);
     }
 
+    /**
+     * A registered listener with the group addresses it listens to. If ordered dispatch is enabled, the telegrams for
+     * the listener are queued and processed one after another.
+     */
+    private class ListenerRegistration {
+        private final GroupAddressListener listener;
+        private final Set<GroupAddress> groupAddresses;
+        private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean processing = new AtomicBoolean();
+
+        ListenerRegistration(GroupAddressListener listener, Set<GroupAddress> groupAddresses) {
+            this.listener = listener;
+            this.groupAddresses = groupAddresses;
+        }
+
+        void dispatch(Runnable task) {
+            if (!orderedDispatch) {
+                knxScheduler.schedule(task, 0, TimeUnit.SECONDS);
+                return;
+            }
+            pendingTasks.add(task);
+            if (processing.compareAndSet(false, true)) {
+                knxScheduler.execute(this::processPendingTasks);
+            }
+        }
+
+        private void processPendingTasks() {
+            Runnable task;
+            while ((task = pendingTasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Processing a telegram failed: {}", e.getMessage(), e);
+                }
+            }
+            processing.set(false);
+            // a task might have been added after the queue was found empty
+            if (!pendingTasks.isEmpty() && processing.compareAndSet(false, true)) {
+                knxScheduler.execute(this::processPendingTasks);
+            }
+        }
+    }
+
+    /** Package-private to allow tests to feed telegrams without a connection */
     @NonNullByDefault({})
-    private final ProcessListener processListener = new ProcessListener() {
+    final ProcessListener processListener = new ProcessListener() {
 
         @Override
         public void detached(DetachEvent e) {
@@ -143,13 +199,15 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     };
 
     public AbstractKNXClient(int autoReconnectPeriod, ThingUID thingUID, int responseTimeout, int readingPause,
-            int readRetriesLimit, ScheduledExecutorService knxScheduler, CommandExtensionData commandExtensionData,
-            Security openhabSecurity, StatusUpdateCallback statusUpdateCallback) {
+            int readRetriesLimit, boolean orderedDispatch, ScheduledExecutorService knxScheduler,
+            CommandExtensionData commandExtensionData, Security openhabSecurity,
+            StatusUpdateCallback statusUpdateCallback) {
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
         this.readingPause = readingPause;
         this.readRetriesLimit = readRetriesLimit;
+        this.orderedDispatch = orderedDispatch;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
         this.commandExtensionData = commandExtensionData;
@@ -341,16 +399,14 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
+        ListenerRegistration[] registrations = listenersByGroupAddress.get(destination.getRawAddress());
+        if (registrations != null) {
+            for (ListenerRegistration registration : registrations) {
+                registration.dispatch(() -> action.apply(registration.listener, source, destination, asdu));
             }
-        }
-        // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
-        // The idea is to store GA, message type, and size as key. The value counts the number of packets.
-        if (!isHandled) {
+        } else {
+            // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
+            // The idea is to store GA, message type, and size as key. The value counts the number of packets.
             logger.trace("Address '{}' is not configured in openHAB", destination);
             final String type = switch (event.getServiceCode()) {
                 case 0x80 -> "GROUP_WRITE";
@@ -520,12 +576,47 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        synchronized (groupAddressListeners) {
+            ListenerRegistration registration = new ListenerRegistration(listener,
+                    Set.copyOf(listener.getGroupAddresses()));
+            ListenerRegistration oldRegistration = groupAddressListeners.put(listener, registration);
+            if (oldRegistration != null) {
+                removeFromIndex(oldRegistration);
+            }
+            for (GroupAddress groupAddress : registration.groupAddresses) {
+                int rawAddress = groupAddress.getRawAddress();
+                ListenerRegistration[] registrations = listenersByGroupAddress.get(rawAddress);
+                if (registrations == null) {
+                    listenersByGroupAddress.set(rawAddress, new ListenerRegistration[] { registration });
+                } else {
+                    ListenerRegistration[] newRegistrations = Arrays.copyOf(registrations, registrations.length + 1);
+                    newRegistrations[registrations.length] = registration;
+                    listenersByGroupAddress.set(rawAddress, newRegistrations);
+                }
+            }
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (groupAddressListeners) {
+            ListenerRegistration registration = groupAddressListeners.remove(listener);
+            if (registration != null) {
+                removeFromIndex(registration);
+            }
+        }
+    }
+
+    private void removeFromIndex(ListenerRegistration registration) {
+        for (GroupAddress groupAddress : registration.groupAddresses) {
+            int rawAddress = groupAddress.getRawAddress();
+            ListenerRegistration[] registrations = listenersByGroupAddress.get(rawAddress);
+            if (registrations != null) {
+                ListenerRegistration[] newRegistrations = Arrays.stream(registrations)
+                        .filter(r -> r != registration).toArray(ListenerRegistration[]::new);
+                listenersByGroupAddress.set(rawAddress, newRegistrations.length == 0 ? null : newRegistrations);
+            }
+        }
     }
 
     @Override
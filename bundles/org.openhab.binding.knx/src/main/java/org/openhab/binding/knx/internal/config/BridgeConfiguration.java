@@ -26,6 +26,7 @@ public class BridgeConfiguration {
     private int readingPause = 0;
     private int readRetriesLimit = 0;
     private int responseTimeout = 0;
+    private boolean orderedDispatch = false;
     private String keyringFile = "";
     private String keyringPassword = "";
 
@@ -45,6 +46,10 @@ public class BridgeConfiguration {
         return responseTimeout;
     }
 
+    public boolean getOrderedDispatch() {
+        return orderedDispatch;
+    }
+
     public void setAutoReconnectPeriod(int period) {
         autoReconnectPeriod = period;
     }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import static org.openhab.binding.knx.internal.KNXBindingConstants.disableUoM;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.regex.Matcher;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.Type;
+import org.openhab.core.types.util.UnitUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.KNXIllegalArgumentException;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.DPTXlator2ByteFloat;
+import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
+import tuwien.auto.calimero.dptxlator.DPTXlator4ByteFloat;
+import tuwien.auto.calimero.dptxlator.DPTXlator4ByteSigned;
+import tuwien.auto.calimero.dptxlator.DPTXlator4ByteUnsigned;
+import tuwien.auto.calimero.dptxlator.DPTXlator8BitUnsigned;
+import tuwien.auto.calimero.dptxlator.DPTXlatorBoolean;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
+/**
+ * This class decodes raw data received from the KNX bus for a single channel and DPT.
+ *
+ * Everything that only depends on the DPT (translator, sub-type, allowed types and unit) is resolved once when the
+ * decoder is created. Boolean (1.x) and numeric (5.x, 7.x, 9.x, 12.x, 13.x, 14.x) DPTs are decoded from the raw data
+ * with a translator which is re-used for all telegrams, without rendering and parsing strings. All other DPTs are
+ * decoded by the {@link ValueDecoder}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DPTDecoder {
+    // main types decoded from their numeric (or boolean) value
+    private static final Set<String> NUMERIC_MAIN_TYPES = Set.of("1", "5", "7", "9", "12", "13", "14");
+
+    private final Logger logger = LoggerFactory.getLogger(DPTDecoder.class);
+
+    private final String dptId;
+    private final Class<? extends Type> preferredType;
+    private final Set<Class<? extends Type>> allowedTypes;
+    private final String subType;
+    private final @Nullable Unit<?> unit;
+    /** null if the DPT is not decoded by this class, all access must be guarded by "this" */
+    private final @Nullable DPTXlator translator;
+
+    public DPTDecoder(String dptId, Class<? extends Type> preferredType) {
+        this.dptId = dptId;
+        this.preferredType = preferredType;
+        this.allowedTypes = DPTUtil.getAllowedTypes(dptId);
+
+        String unitString = DPTUnits.getUnitForDpt(dptId);
+        this.unit = unitString == null ? null : UnitUtils.parseUnit(unitString);
+
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
+        String sub = m.matches() ? m.group("sub") : null;
+        if (sub != null && (unitString == null || unit != null)) {
+            this.subType = sub;
+            this.translator = createTranslator(m.group("main"));
+        } else {
+            // incomplete DPTs and unknown units are handled (and reported) by the generic decoder
+            this.subType = "";
+            this.translator = null;
+        }
+    }
+
+    private @Nullable DPTXlator createTranslator(String mainType) {
+        if (!NUMERIC_MAIN_TYPES.contains(mainType)) {
+            return null;
+        }
+        try {
+            DPTXlator translator = TranslatorTypes.createTranslator(0,
+                    DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+            if (translator instanceof DPTXlatorBoolean || translator instanceof DPTXlator8BitUnsigned
+                    || translator instanceof DPTXlator2ByteUnsigned || translator instanceof DPTXlator2ByteFloat
+                    || translator instanceof DPTXlator4ByteUnsigned || translator instanceof DPTXlator4ByteSigned
+                    || translator instanceof DPTXlator4ByteFloat) {
+                return translator;
+            }
+        } catch (KNXException e) {
+            // unknown to Calimero, the ValueDecoder takes care of reporting it
+        }
+        logger.trace("DPT '{}' is decoded by the generic value decoder", dptId);
+        return null;
+    }
+
+    /**
+     * get allowed openHAB types for the DPT of this decoder
+     *
+     * @return Set of supported openHAB types (command or state)
+     */
+    public Set<Class<? extends Type>> getAllowedTypes() {
+        return allowedTypes;
+    }
+
+    /**
+     * convert the raw value received to the corresponding openHAB value
+     *
+     * @param data a byte array containing the value
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    public @Nullable Type decode(byte[] data) {
+        DPTXlator translator = this.translator;
+        if (translator != null) {
+            synchronized (this) {
+                try {
+                    translator.setData(data);
+                    if (translator instanceof DPTXlatorBoolean translatorBoolean) {
+                        return ValueDecoder.handleDpt1(subType, translatorBoolean, preferredType);
+                    }
+                    if (translator instanceof DPTXlator2ByteFloat && data.length == 2 && data[0] == (byte) 0x7f
+                            && data[1] == (byte) 0xff) {
+                        // 0x7fff denotes invalid data, this is not handled by Calimero
+                        logger.debug("Ignoring incoming packet for DPT '{}', 0x7fff indicates invalid value", dptId);
+                        return null;
+                    }
+                    return toNumericType(translator.getNumericValue());
+                } catch (KNXException | KNXIllegalArgumentException e) {
+                    // let the generic decoder handle and report broken data
+                }
+            }
+        }
+        return ValueDecoder.decode(dptId, data, preferredType);
+    }
+
+    private @Nullable Type toNumericType(double value) {
+        if (allowedTypes.contains(PercentType.class)
+                && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
+            return new PercentType(BigDecimal.valueOf(Math.round(value)));
+        }
+        Unit<?> unit = this.unit;
+        if (allowedTypes.contains(QuantityType.class) && !disableUoM && unit != null) {
+            return new QuantityType<>(BigDecimal.valueOf(value), unit);
+        }
+        if (allowedTypes.contains(DecimalType.class)) {
+            return new DecimalType(value);
+        }
+        logger.warn("Failed to convert '{}' (DPT '{}'): no matching type found", value, dptId);
+        return null;
+    }
+}
@@ -246,7 +246,7 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
+    static Type handleDpt1(String subType, DPTXlator translator, Class<? extends Type> preferredType) {
         DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
         return switch (subType) {
             case "008" -> translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
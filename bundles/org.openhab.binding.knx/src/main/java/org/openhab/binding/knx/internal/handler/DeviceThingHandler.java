@@ -40,9 +40,9 @@ import org.openhab.binding.knx.internal.client.InboundSpec;
 import org.openhab.binding.knx.internal.client.KNXClient;
 import org.openhab.binding.knx.internal.client.OutboundSpec;
 import org.openhab.binding.knx.internal.config.DeviceConfig;
+import org.openhab.binding.knx.internal.dpt.DPTDecoder;
 import org.openhab.binding.knx.internal.dpt.DPTUnits;
 import org.openhab.binding.knx.internal.dpt.DPTUtil;
-import org.openhab.binding.knx.internal.dpt.ValueDecoder;
 import org.openhab.binding.knx.internal.i18n.KNXTranslationProvider;
 import org.openhab.core.cache.ExpiringCacheMap;
 import org.openhab.core.library.types.IncreaseDecreaseType;
@@ -244,8 +244,8 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
     }
 
     @Override
-    public boolean listensTo(GroupAddress destination) {
-        return groupAddresses.contains(destination);
+    public Set<GroupAddress> getGroupAddresses() {
+        return groupAddresses;
     }
 
     /** Handling commands triggered from openHAB */
@@ -374,7 +374,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
                 // Remember current KNXIO outboundSpec only if it is a control channel
                 if (knxChannel.isControl()) {
                     logger.trace("onGroupWrite isControl");
-                    Type value = ValueDecoder.decode(listenSpec.getDPT(), asdu, knxChannel.preferredType());
+                    Type value = knxChannel.getDecoder(listenSpec.getDPT()).decode(asdu);
                     if (value != null) {
                         OutboundSpec commandSpec = knxChannel.getCommandSpec(value);
                         if (commandSpec != null) {
@@ -389,12 +389,13 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
 
     private void processDataReceived(GroupAddress destination, byte[] asdu, InboundSpec listenSpec,
             KNXChannel knxChannel) {
-        if (DPTUtil.getAllowedTypes(listenSpec.getDPT()).isEmpty()) {
+        DPTDecoder decoder = knxChannel.getDecoder(listenSpec.getDPT());
+        if (decoder.getAllowedTypes().isEmpty()) {
             logger.warn("DPT '{}' is not supported by the KNX binding.", listenSpec.getDPT());
             return;
         }
 
-        Type value = ValueDecoder.decode(listenSpec.getDPT(), asdu, knxChannel.preferredType());
+        Type value = decoder.decode(asdu);
         if (value != null) {
             if (knxChannel.isControl()) {
                 ChannelUID channelUID = knxChannel.getChannelUID();
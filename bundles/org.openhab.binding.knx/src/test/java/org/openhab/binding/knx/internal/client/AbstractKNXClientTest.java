@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler.CommandExtensionData;
+import org.openhab.core.thing.ThingUID;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.link.KNXNetworkLink;
+import tuwien.auto.calimero.process.ProcessCommunicator;
+import tuwien.auto.calimero.process.ProcessEvent;
+import tuwien.auto.calimero.secure.Security;
+
+/**
+ * Tests the dispatching of received telegrams to the registered listeners of {@link AbstractKNXClient}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class AbstractKNXClientTest {
+
+    private static final int GROUP_WRITE = 0x80;
+    private static final IndividualAddress SOURCE = new IndividualAddress(1, 1, 1);
+    private static final GroupAddress GA_1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA_3 = new GroupAddress(1, 2, 5);
+
+    private final CommandExtensionData commandExtensionData = new CommandExtensionData(new TreeMap<>());
+    private final ProcessCommunicator processCommunicator = mock(ProcessCommunicator.class);
+
+    private static class TestKNXClient extends AbstractKNXClient {
+        TestKNXClient(boolean orderedDispatch, ScheduledExecutorService knxScheduler,
+                CommandExtensionData commandExtensionData) {
+            super(0, new ThingUID("knx:ip:test"), 5, 50, 3, orderedDispatch, knxScheduler, commandExtensionData,
+                    Security.newSecurity(), mock(StatusUpdateCallback.class));
+        }
+
+        @Override
+        protected KNXNetworkLink establishConnection() throws KNXException {
+            throw new KNXException("no connection in tests");
+        }
+    }
+
+    private static class RecordingListener implements GroupAddressListener {
+        private final Set<GroupAddress> groupAddresses;
+        private final List<GroupAddress> destinations = new CopyOnWriteArrayList<>();
+        private final List<Integer> values = new CopyOnWriteArrayList<>();
+        private final @Nullable CountDownLatch received;
+
+        RecordingListener(Set<GroupAddress> groupAddresses, @Nullable CountDownLatch received) {
+            this.groupAddresses = groupAddresses;
+            this.received = received;
+        }
+
+        @Override
+        public Set<GroupAddress> getGroupAddresses() {
+            return groupAddresses;
+        }
+
+        @Override
+        public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+            destinations.add(destination);
+            values.add(asdu[0] & 0xff);
+            CountDownLatch received = this.received;
+            if (received != null) {
+                received.countDown();
+            }
+            if (asdu[0] % 10 == 0) {
+                throw new IllegalStateException("failing telegram " + asdu[0]);
+            }
+        }
+
+        @Override
+        public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source,
+                GroupAddress destination, byte[] asdu) {
+        }
+    }
+
+    /**
+     * Creates a scheduler which runs all submitted tasks immediately on the calling thread.
+     */
+    private static ScheduledExecutorService directScheduler() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(scheduler).execute(any(Runnable.class));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        return scheduler;
+    }
+
+    private void groupWrite(AbstractKNXClient client, GroupAddress destination, int value) {
+        client.processListener.groupWrite(
+                new ProcessEvent(processCommunicator, SOURCE, GROUP_WRITE, destination, new byte[] { (byte) value }));
+    }
+
+    @Test
+    void registeringTwiceDoesNotDeliverTelegramsTwice() {
+        AbstractKNXClient client = new TestKNXClient(false, directScheduler(), commandExtensionData);
+        RecordingListener listener = new RecordingListener(Set.of(GA_1, GA_2), null);
+        client.registerGroupAddressListener(listener);
+        client.registerGroupAddressListener(listener);
+
+        groupWrite(client, GA_1, 1);
+        groupWrite(client, GA_2, 2);
+
+        assertEquals(List.of(GA_1, GA_2), listener.destinations);
+    }
+
+    @Test
+    void reRegistrationWithChangedGroupAddressesDropsOldOnes() {
+        AbstractKNXClient client = new TestKNXClient(false, directScheduler(), commandExtensionData);
+        Set<GroupAddress> groupAddresses = new HashSet<>(Set.of(GA_1, GA_2));
+        RecordingListener listener = new RecordingListener(groupAddresses, null);
+        client.registerGroupAddressListener(listener);
+
+        groupAddresses.remove(GA_1);
+        groupAddresses.add(GA_3);
+        client.registerGroupAddressListener(listener);
+
+        groupWrite(client, GA_1, 1);
+        groupWrite(client, GA_2, 2);
+        groupWrite(client, GA_3, 3);
+        assertEquals(List.of(GA_2, GA_3), listener.destinations);
+        // the old group address is now unknown
+        assertEquals(Map.of(" 1/2/  3  GROUP_WRITE(01)", 1L), commandExtensionData.unknownGA());
+    }
+
+    @Test
+    void unregisterRemovesListenerFromAllGroupAddresses() {
+        AbstractKNXClient client = new TestKNXClient(false, directScheduler(), commandExtensionData);
+        RecordingListener listener = new RecordingListener(Set.of(GA_1, GA_2), null);
+        RecordingListener other = new RecordingListener(Set.of(GA_2), null);
+        client.registerGroupAddressListener(listener);
+        client.registerGroupAddressListener(other);
+
+        client.unregisterGroupAddressListener(listener);
+        groupWrite(client, GA_1, 1);
+        groupWrite(client, GA_2, 2);
+
+        assertTrue(listener.destinations.isEmpty());
+        assertEquals(List.of(GA_2), other.destinations);
+        assertEquals(Map.of(" 1/2/  3  GROUP_WRITE(01)", 1L), commandExtensionData.unknownGA());
+    }
+
+    @Test
+    void telegramsToUnknownGroupAddressesAreRecorded() {
+        AbstractKNXClient client = new TestKNXClient(false, directScheduler(), commandExtensionData);
+        client.registerGroupAddressListener(new RecordingListener(Set.of(GA_1), null));
+
+        groupWrite(client, GA_1, 1);
+        groupWrite(client, GA_2, 2);
+        groupWrite(client, GA_2, 3);
+        client.processListener
+                .groupReadRequest(new ProcessEvent(processCommunicator, SOURCE, 0x00, GA_3, new byte[] { 0 }));
+
+        assertEquals(Map.of(" 1/2/  4  GROUP_WRITE(01)", 2L, " 1/2/  5  GROUP_READ(01)", 1L),
+                commandExtensionData.unknownGA());
+    }
+
+    @Test
+    void orderedDispatchKeepsOrderAndRecoversFromFailingTasks() throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+        try {
+            AbstractKNXClient client = new TestKNXClient(true, scheduler, commandExtensionData);
+            CountDownLatch received = new CountDownLatch(100);
+            RecordingListener listener = new RecordingListener(Set.of(GA_1, GA_2), received);
+            client.registerGroupAddressListener(listener);
+
+            // every tenth telegram makes the listener throw
+            for (int i = 0; i < 100; i++) {
+                groupWrite(client, i % 2 == 0 ? GA_1 : GA_2, i);
+            }
+
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+            assertEquals(IntStream.range(0, 100).boxed().toList(), listener.values);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+}
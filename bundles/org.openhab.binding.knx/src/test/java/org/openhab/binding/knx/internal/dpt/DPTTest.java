@@ -25,15 +25,19 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.Type;
 import org.openhab.core.util.ColorUtil;
 
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
@@ -665,4 +669,39 @@ class DPTTest {
             Assertions.assertEquals(String.format("(%.4f %.4f) %.1f %%", dx, dy, dY), result);
         }
     }
+
+    private static Stream<Arguments> decoderProvider() {
+        return Stream.of( //
+                Arguments.of("1.001", new byte[] { 0 }, OnOffType.class),
+                Arguments.of("1.001", new byte[] { 1 }, OnOffType.class),
+                Arguments.of("1.009", new byte[] { 1 }, DecimalType.class),
+                Arguments.of("1.091", new byte[] { 0 }, DecimalType.class),
+                Arguments.of("5.001", new byte[] { (byte) 0x80 }, PercentType.class),
+                Arguments.of("5.001", new byte[] { (byte) 0x80 }, DecimalType.class),
+                Arguments.of("5.010", new byte[] { (byte) 0xff }, DecimalType.class),
+                Arguments.of("7.001", new byte[] { (byte) 0xff, (byte) 0xff }, DecimalType.class),
+                Arguments.of("7.600", new byte[] { 0x0f, (byte) 0xa0 }, DecimalType.class),
+                Arguments.of("9.001", new byte[] { 0x0c, 0x1a }, DecimalType.class),
+                Arguments.of("9.001", new byte[] { (byte) 0x87, 0x3a }, DecimalType.class),
+                Arguments.of("9.001", new byte[] { 0x7f, (byte) 0xff }, DecimalType.class),
+                Arguments.of("9.004", new byte[] { 0x4c, 0x2e }, DecimalType.class),
+                Arguments.of("12.001", new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff },
+                        DecimalType.class),
+                Arguments.of("13.010", new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xfc, 0x18 }, DecimalType.class),
+                Arguments.of("14.019", new byte[] { 0x41, 0x20, 0x00, 0x00 }, DecimalType.class),
+                Arguments.of("14.068", new byte[] { (byte) 0xc1, (byte) 0xa4, 0x00, 0x00 }, DecimalType.class),
+                Arguments.of("16.000", new byte[] { 0x4b, 0x4e, 0x58, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0 },
+                        StringType.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decoderProvider")
+    public void testDecoderMatchesValueDecoder(String dpt, byte[] data, Class<? extends Type> preferredType) {
+        DPTDecoder decoder = new DPTDecoder(dpt, preferredType);
+        assertEquals(DPTUtil.getAllowedTypes(dpt), decoder.getAllowedTypes());
+        // decode twice, the translator of the decoder is re-used
+        for (int i = 0; i < 2; i++) {
+            assertEquals(ValueDecoder.decode(dpt, data, preferredType), decoder.decode(data));
+        }
+    }
 }
@@ -12,8 +12,11 @@
  */
 package org.openhab.binding.modbus.handler;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -22,10 +25,13 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
@@ -70,6 +76,11 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
         private volatile @Nullable AtomicStampedValue<PollResult> lastResult;
 
+        // state for notifyChangesOnly: last result passed to children, and the children having received it
+        private volatile @Nullable AsyncModbusReadResult lastNotifiedResult;
+        private long lastNotifiedAllMillis;
+        private final Set<ModbusDataThingHandler> notifiedChildren = ConcurrentHashMap.newKeySet();
+
         public synchronized void handleResult(PollResult result) {
             // Ignore all incoming data and errors if configuration is not correct
             if (hasConfigurationError() || disposed) {
@@ -85,7 +96,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 }
             }
             logger.debug("Thing {} received response {}", thing.getUID(), result);
-            notifyChildren(result);
+            notifyChildren(result, false);
             if (result.failure != null) {
                 Exception error = result.failure.getCause();
                 assert error != null;
@@ -129,23 +140,87 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             return Optional.ofNullable(this.lastResult).map(result -> result.copyIfStampAfter(oldestStamp))
                     .map(result -> {
                         logger.debug("Thing {} reusing cached data: {}", thing.getUID(), result.getValue());
-                        notifyChildren(result.getValue());
+                        notifyChildren(result.getValue(), true);
                         return true;
                     }).orElse(false);
         }
 
-        private void notifyChildren(PollResult pollResult) {
+        /**
+         * Pass the result or the error to the children.
+         *
+         * With notifyChangesOnly, results are passed only to children reading changed data, unless it is time to
+         * notify all children again.
+         *
+         * @param pollResult result or error to pass
+         * @param notifyAll whether to notify all children, also of unchanged data
+         */
+        private synchronized void notifyChildren(PollResult pollResult, boolean notifyAll) {
             @Nullable
             AsyncModbusReadResult result = pollResult.result;
             @Nullable
             AsyncModbusFailure<ModbusReadRequestBlueprint> failure = pollResult.failure;
-            childCallbacks.forEach(handler -> {
-                if (result != null) {
-                    handler.onReadResult(result);
-                } else if (failure != null) {
-                    handler.handleReadError(failure);
+            if (result != null) {
+                long now = System.currentTimeMillis();
+                @Nullable
+                BitSet changedIndexes = notifyAll ? null : changedIndexesSinceLastNotification(result, now);
+                if (changedIndexes == null) {
+                    lastNotifiedAllMillis = now;
+                }
+                lastNotifiedResult = result;
+                int notified = 0;
+                for (ModbusDataThingHandler handler : childCallbacks) {
+                    // children not having received the previous result need this one, changed or not
+                    if (notifiedChildren.add(handler) || changedIndexes == null
+                            || handler.isReadingAnyOf(changedIndexes)) {
+                        handler.onReadResult(result);
+                        notified++;
+                    }
                 }
-            });
+                logger.trace("Thing {} notified {} of {} children", thing.getUID(), notified, childCallbacks.size());
+            } else if (failure != null) {
+                // children go offline with the error, so all of them need the next result
+                lastNotifiedResult = null;
+                notifiedChildren.clear();
+                childCallbacks.forEach(handler -> handler.handleReadError(failure));
+            }
+        }
+
+        /**
+         * Compare result to the one passed to children the last time
+         *
+         * @return indexes of changed registers (coils, discrete inputs), or null if all children should be notified
+         */
+        private @Nullable BitSet changedIndexesSinceLastNotification(AsyncModbusReadResult result, long now) {
+            AsyncModbusReadResult previous = lastNotifiedResult;
+            if (!config.isNotifyChangesOnly() || previous == null
+                    || now - lastNotifiedAllMillis >= config.getNotifyUnchangedEveryMillis()
+                    || previous.getRequest().getReference() != result.getRequest().getReference()) {
+                return null;
+            }
+            ModbusRegisterArray previousRegisters = ((Optional<@Nullable ModbusRegisterArray>) previous.getRegisters())
+                    .orElse(null);
+            ModbusRegisterArray registers = ((Optional<@Nullable ModbusRegisterArray>) result.getRegisters())
+                    .orElse(null);
+            BitArray previousBits = ((Optional<@Nullable BitArray>) previous.getBits()).orElse(null);
+            BitArray bits = ((Optional<@Nullable BitArray>) result.getBits()).orElse(null);
+            if (previousRegisters != null && registers != null && previousRegisters.size() == registers.size()) {
+                BitSet changedIndexes = new BitSet(registers.size());
+                for (int i = 0; i < registers.size(); i++) {
+                    if (previousRegisters.getRegister(i) != registers.getRegister(i)) {
+                        changedIndexes.set(i);
+                    }
+                }
+                return changedIndexes;
+            } else if (previousBits != null && bits != null && previousBits.size() == bits.size()) {
+                BitSet changedIndexes = new BitSet(bits.size());
+                for (int i = 0; i < bits.size(); i++) {
+                    if (previousBits.getBit(i) != bits.getBit(i)) {
+                        changedIndexes.set(i);
+                    }
+                }
+                return changedIndexes;
+            }
+            return null;
         }
 
         /**
@@ -153,6 +228,8 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
          */
         public void resetCache() {
             lastResult = null;
+            lastNotifiedResult = null;
+            notifiedChildren.clear();
         }
     }
 
@@ -189,6 +266,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable ModbusPollPlanner pollPlanner;
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
@@ -313,6 +391,12 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             comms.unregisterRegularPoll(localPollTask);
         }
         this.pollTask = null;
+        ModbusPollPlanner localPollPlanner = this.pollPlanner;
+        if (localPollPlanner != null) {
+            logger.debug("Unregistering polling from poll planner of the endpoint");
+            localPollPlanner.unregister(this);
+        }
+        this.pollPlanner = null;
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -327,7 +411,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || pollPlanner != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -357,9 +441,18 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 localFunctionCode, config.getStart(), config.getLength(), config.getMaxTries());
         this.request = localRequest;
 
+        ModbusPollPlanner localPollPlanner = null;
+        if (slaveEndpointThingHandler instanceof AbstractModbusEndpointThingHandler<?, ?> endpointHandler) {
+            localPollPlanner = endpointHandler.getPollPlanner();
+        }
         if (config.getRefresh() <= 0L) {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
+        } else if (localPollPlanner != null) {
+            logger.debug("Registering polling with poll planner of the endpoint");
+            localPollPlanner.register(this, localRequest, config.getRefresh(), callbackDelegator, callbackDelegator);
+            this.pollPlanner = localPollPlanner;
+            updateStatus(ThingStatus.ONLINE);
         } else {
             logger.debug("Registering polling with ModbusManager");
             pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
@@ -385,6 +478,8 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @Override
     public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
         if (childHandler instanceof ModbusDataThingHandler modbusDataThingHandler) {
+            // (re-)initialized child needs the next result, changed or not
+            callbackDelegator.notifiedChildren.remove(modbusDataThingHandler);
             this.childCallbacks.add(modbusDataThingHandler);
         }
     }
@@ -394,6 +489,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
         if (childHandler instanceof ModbusDataThingHandler) {
             this.childCallbacks.remove(childHandler);
+            callbackDelegator.notifiedChildren.remove(childHandler);
         }
     }
 
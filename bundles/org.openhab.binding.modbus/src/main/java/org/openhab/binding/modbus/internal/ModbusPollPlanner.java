@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the regular polls of all pollers of an endpoint into as few requests as possible.
+ *
+ * Polls are merged if they read the same slave with the same function code, poll period and maximum tries, and if
+ * they are at most <code>maxGap</code> registers (or bits) apart. A merged request never reads more than
+ * <code>maxLength</code> registers (or bits), nor more than the protocol allows. Each poller receives only the part
+ * of the response it asked for, so that for the poller (and its data things) nothing changes.
+ *
+ * Planning is done with a short delay after the pollers have changed, so that all pollers initialized together are
+ * planned at once.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ModbusPollPlanner {
+
+    private static final long PLANNING_DELAY_MILLIS = 1000;
+
+    private record Registration(ModbusReadRequestBlueprint request, long refreshMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+
+        int start() {
+            return request.getReference();
+        }
+
+        int end() {
+            return request.getReference() + request.getDataLength();
+        }
+
+        PollGroup group() {
+            return new PollGroup(request.getUnitID(), request.getFunctionCode(), refreshMillis, request.getMaxTries());
+        }
+    }
+
+    /**
+     * Polls that can be merged with each other
+     */
+    private record PollGroup(int unitId, ModbusReadFunctionCode functionCode, long refreshMillis, int maxTries) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollPlanner.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final int maxGap;
+    private final int maxLength;
+
+    private final Map<Object, Registration> registrations = new LinkedHashMap<>();
+    private final List<PollTask> pollTasks = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> planningJob;
+    private boolean disposed;
+
+    /**
+     * @param comms communication interface used for polling
+     * @param scheduler scheduler used for (delayed) planning
+     * @param maxGap maximum number of registers (or bits) between two polls which are merged
+     * @param maxLength maximum number of registers (or bits) read by a merged poll
+     */
+    public ModbusPollPlanner(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler, int maxGap,
+            int maxLength) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.maxGap = Math.max(0, maxGap);
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Register a regular poll. The poll is started with the next planning.
+     *
+     * @param owner owner of the poll, e.g. the poller thing handler. Replaces a previous poll of the owner.
+     * @param request request to poll
+     * @param refreshMillis poll period in milliseconds
+     * @param resultCallback callback receiving the part of the (merged) response matching <code>request</code>
+     * @param failureCallback callback receiving errors, with <code>request</code> as the failed request
+     */
+    public synchronized void register(Object owner, ModbusReadRequestBlueprint request, long refreshMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        registrations.put(owner, new Registration(request, refreshMillis, resultCallback, failureCallback));
+        schedulePlanning();
+    }
+
+    /**
+     * Unregister the poll of the owner. The remaining polls are planned again.
+     *
+     * @param owner owner of the poll
+     */
+    public synchronized void unregister(Object owner) {
+        if (registrations.remove(owner) != null) {
+            schedulePlanning();
+        }
+    }
+
+    /**
+     * Stop all polls
+     */
+    public synchronized void dispose() {
+        disposed = true;
+        ScheduledFuture<?> localPlanningJob = planningJob;
+        if (localPlanningJob != null) {
+            localPlanningJob.cancel(false);
+            planningJob = null;
+        }
+        unregisterPollTasks();
+        registrations.clear();
+    }
+
+    private void schedulePlanning() {
+        if (!disposed && planningJob == null) {
+            planningJob = scheduler.schedule(this::plan, PLANNING_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Replace the current polls with merged polls of all registered requests
+     */
+    synchronized void plan() {
+        planningJob = null;
+        if (disposed) {
+            return;
+        }
+        unregisterPollTasks();
+
+        Map<PollGroup, List<Registration>> groups = registrations.values().stream()
+                .collect(Collectors.groupingBy(Registration::group, LinkedHashMap::new,
+                        Collectors.toCollection(ArrayList::new)));
+        groups.forEach((group, groupRegistrations) -> {
+            int limit = Math.min(maxLength, switch (group.functionCode()) {
+                case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+                default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+            });
+            groupRegistrations.sort(Comparator.comparingInt(Registration::start).thenComparingInt(Registration::end));
+
+            List<Registration> merged = new ArrayList<>();
+            int start = 0;
+            int end = 0;
+            for (Registration registration : groupRegistrations) {
+                if (!merged.isEmpty()) {
+                    int mergedEnd = Math.max(end, registration.end());
+                    if (registration.start() - end <= maxGap && mergedEnd - start <= limit) {
+                        merged.add(registration);
+                        end = mergedEnd;
+                        continue;
+                    }
+                    registerPollTask(group, start, end, merged);
+                    merged = new ArrayList<>();
+                }
+                merged.add(registration);
+                start = registration.start();
+                end = registration.end();
+            }
+            if (!merged.isEmpty()) {
+                registerPollTask(group, start, end, merged);
+            }
+        });
+        logger.debug("Planned {} polls for {} pollers", pollTasks.size(), registrations.size());
+    }
+
+    private void registerPollTask(PollGroup group, int start, int end, List<Registration> merged) {
+        if (merged.size() == 1) {
+            Registration registration = merged.get(0);
+            pollTasks.add(comms.registerRegularPoll(registration.request(), group.refreshMillis(), 0,
+                    registration.resultCallback(), registration.failureCallback()));
+            return;
+        }
+
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(group.unitId(), group.functionCode(),
+                start, end - start, group.maxTries());
+        List<Registration> polled = List.copyOf(merged);
+        logger.debug("Merged {} polls into {}", polled.size(), request);
+        pollTasks.add(comms.registerRegularPoll(request, group.refreshMillis(), 0,
+                result -> dispatchResult(polled, result), failure -> dispatchFailure(polled, failure)));
+    }
+
+    private void unregisterPollTasks() {
+        pollTasks.forEach(comms::unregisterRegularPoll);
+        pollTasks.clear();
+    }
+
+    @SuppressWarnings("null")
+    private void dispatchResult(List<Registration> polled, AsyncModbusReadResult result) {
+        int pollStart = result.getRequest().getReference();
+        Optional<ModbusRegisterArray> registers = result.getRegisters();
+        Optional<BitArray> bits = result.getBits();
+        for (Registration registration : polled) {
+            ModbusReadRequestBlueprint request = registration.request();
+            int offset = request.getReference() - pollStart;
+            int length = request.getDataLength();
+            try {
+                if (registers.isPresent()) {
+                    byte[] bytes = registers.get().getBytes();
+                    if ((offset + length) * 2 > bytes.length) {
+                        registration.failureCallback().handle(new AsyncModbusFailure<>(request,
+                                new IllegalStateException(String.format("Expected %d registers, got %d",
+                                        offset + length, bytes.length / 2))));
+                        continue;
+                    }
+                    registration.resultCallback().handle(new AsyncModbusReadResult(request,
+                            new ModbusRegisterArray(Arrays.copyOfRange(bytes, offset * 2, (offset + length) * 2))));
+                } else if (bits.isPresent()) {
+                    BitArray allBits = bits.get();
+                    if (offset + length > allBits.size()) {
+                        registration.failureCallback().handle(new AsyncModbusFailure<>(request,
+                                new IllegalStateException(String.format("Expected %d bits, got %d",
+                                        offset + length, allBits.size()))));
+                        continue;
+                    }
+                    BitArray pollBits = new BitArray(length);
+                    for (int i = 0; i < length; i++) {
+                        pollBits.setBit(i, allBits.getBit(offset + i));
+                    }
+                    registration.resultCallback().handle(new AsyncModbusReadResult(request, pollBits));
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Error handling response of merged poll for {}", request, e);
+            }
+        }
+    }
+
+    private void dispatchFailure(List<Registration> polled, AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        for (Registration registration : polled) {
+            try {
+                registration.failureCallback()
+                        .handle(new AsyncModbusFailure<>(registration.request(), failure.getCause()));
+            } catch (RuntimeException e) {
+                logger.warn("Error handling failure of merged poll for {}", registration.request(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal.config;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Configuration for merging the polls of all pollers of an endpoint thing
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ModbusPollPlanningConfiguration {
+    private boolean mergePolls;
+    private int mergePollsMaxGap = 10;
+    private int mergePollsMaxLength = 125;
+
+    /**
+     * Whether polls of the pollers are merged into as few requests as possible
+     */
+    public boolean isMergePolls() {
+        return mergePolls;
+    }
+
+    public void setMergePolls(boolean mergePolls) {
+        this.mergePolls = mergePolls;
+    }
+
+    /**
+     * Gets the maximum number of registers, coils or discrete inputs that are not polled by any poller but are read
+     * anyway to merge two polls
+     */
+    public int getMergePollsMaxGap() {
+        return mergePollsMaxGap;
+    }
+
+    public void setMergePollsMaxGap(int mergePollsMaxGap) {
+        this.mergePollsMaxGap = mergePollsMaxGap;
+    }
+
+    /**
+     * Gets the maximum number of registers, coils or discrete inputs read by a merged poll
+     */
+    public int getMergePollsMaxLength() {
+        return mergePollsMaxLength;
+    }
+
+    public void setMergePollsMaxLength(int mergePollsMaxLength) {
+        this.mergePollsMaxLength = mergePollsMaxLength;
+    }
+}
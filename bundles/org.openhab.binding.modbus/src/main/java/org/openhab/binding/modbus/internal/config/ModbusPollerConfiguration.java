@@ -29,6 +29,8 @@ public class ModbusPollerConfiguration {
     private @Nullable String type;
     private int maxTries = 3;// backwards compatibility and tests
     private long cacheMillis = 50L;
+    private boolean notifyChangesOnly;
+    private long notifyUnchangedEveryMillis = 60000L;
 
     /**
      * Gets refresh period in milliseconds
@@ -115,4 +117,28 @@ public class ModbusPollerConfiguration {
     public void setCacheMillis(long cacheMillis) {
         this.cacheMillis = cacheMillis;
     }
+
+    /**
+     * Gets whether data things are notified only when the registers (coils, discrete inputs) they read have changed
+     */
+    public boolean isNotifyChangesOnly() {
+        return notifyChangesOnly;
+    }
+
+    public void setNotifyChangesOnly(boolean notifyChangesOnly) {
+        this.notifyChangesOnly = notifyChangesOnly;
+    }
+
+    /**
+     * Gets interval to notify all data things, also of unchanged data, in milliseconds.
+     *
+     * Only applicable with notifyChangesOnly.
+     */
+    public long getNotifyUnchangedEveryMillis() {
+        return notifyUnchangedEveryMillis;
+    }
+
+    public void setNotifyUnchangedEveryMillis(long notifyUnchangedEveryMillis) {
+        this.notifyUnchangedEveryMillis = notifyUnchangedEveryMillis;
+    }
 }
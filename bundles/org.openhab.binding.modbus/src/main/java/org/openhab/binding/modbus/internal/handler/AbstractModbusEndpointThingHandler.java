@@ -17,6 +17,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
+import org.openhab.binding.modbus.internal.config.ModbusPollPlanningConfiguration;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -48,6 +50,7 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusPollPlanner pollPlanner;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +79,12 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    ModbusPollPlanningConfiguration planningConfig = getConfigAs(
+                            ModbusPollPlanningConfiguration.class);
+                    pollPlanner = planningConfig.isMergePolls()
+                            ? new ModbusPollPlanner(comms, scheduler, planningConfig.getMergePollsMaxGap(),
+                                    planningConfig.getMergePollsMaxLength())
+                            : null;
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -93,6 +102,11 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
 
     @Override
     public void dispose() {
+        ModbusPollPlanner localPollPlanner = pollPlanner;
+        if (localPollPlanner != null) {
+            localPollPlanner.dispose();
+            pollPlanner = null;
+        }
         try {
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
@@ -110,6 +124,16 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    /**
+     * Gets the {@link ModbusPollPlanner} merging the polls of the pollers of this endpoint
+     *
+     * @return poll planner, or <code>null</code> in case merging of polls is not enabled or the initialization is
+     *         not complete
+     */
+    public @Nullable ModbusPollPlanner getPollPlanner() {
+        return pollPlanner;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
@@ -17,6 +17,7 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -796,6 +797,30 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         result.getBits().ifPresent(bits -> onBits(result.getRequest(), bits));
     }
 
+    /**
+     * Check whether this thing reads any of the given registers (or coils, discrete inputs) of the poll.
+     *
+     * Not synchronized, so that the poller can check all its children without waiting for them.
+     *
+     * @param changedIndexes indexes of changed registers (or coils, discrete inputs), relative to poll start
+     * @return whether the value read by this thing is affected. Things not reading anything are never affected,
+     *         while things not completely initialized are always affected.
+     */
+    public boolean isReadingAnyOf(BitSet changedIndexes) {
+        ValueType readValueType = this.readValueType;
+        Optional<Integer> readIndex = this.readIndex;
+        if (!isReadEnabled) {
+            return false;
+        } else if (readValueType == null || readIndex.isEmpty()) {
+            return true;
+        }
+        int first = readIndex.get() - pollStart;
+        // values of less than 16 bits are extracted from a single register
+        int count = Math.max(1, readValueType.getBits() / 16);
+        int changed = changedIndexes.nextSetBit(Math.max(0, first));
+        return changed >= 0 && changed < first + count;
+    }
+
     public synchronized void handleReadError(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
         onError(failure.getRequest(), failure.getCause());
     }
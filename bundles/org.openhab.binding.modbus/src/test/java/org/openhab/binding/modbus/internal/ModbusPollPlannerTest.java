@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlannerTest {
+
+    private final ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+    private final ModbusPollPlanner planner = new ModbusPollPlanner(comms, mock(ScheduledExecutorService.class), 5,
+            125);
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setUp() {
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(ModbusReadCallback.class),
+                any(ModbusFailureCallback.class))).thenAnswer(invocation -> mock(PollTask.class));
+    }
+
+    private static ModbusReadRequestBlueprint request(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new ModbusReadRequestBlueprint(1, functionCode, start, length, 3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback() {
+        return mock(ModbusFailureCallback.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ModbusReadRequestBlueprint> plannedRequests(int expectedPolls) {
+        ArgumentCaptor<ModbusReadRequestBlueprint> requests = ArgumentCaptor
+                .forClass(ModbusReadRequestBlueprint.class);
+        verify(comms, times(expectedPolls)).registerRegularPoll(requests.capture(), anyLong(), anyLong(),
+                any(ModbusReadCallback.class), any(ModbusFailureCallback.class));
+        return requests.getAllValues();
+    }
+
+    @Test
+    public void testCloseRangesAreMerged() {
+        planner.register("a", request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 12, 8), 1000,
+                mock(ModbusReadCallback.class), failureCallback());
+        planner.register("b", request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 1000,
+                mock(ModbusReadCallback.class), failureCallback());
+        planner.register("c", request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 100, 10), 1000,
+                mock(ModbusReadCallback.class), failureCallback());
+        planner.plan();
+
+        List<ModbusReadRequestBlueprint> requests = plannedRequests(2);
+        assertThat(requests.get(0).getReference(), is(0));
+        assertThat(requests.get(0).getDataLength(), is(20));
+        assertThat(requests.get(1).getReference(), is(100));
+        assertThat(requests.get(1).getDataLength(), is(10));
+    }
+
+    @Test
+    public void testDifferentPollsAreNotMerged() {
+        planner.register("a", request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 1000,
+                mock(ModbusReadCallback.class), failureCallback());
+        // different refresh
+        planner.register("b", request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 10), 2000,
+                mock(ModbusReadCallback.class), failureCallback());
+        // different type
+        planner.register("c", request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 10, 10), 1000,
+                mock(ModbusReadCallback.class), failureCallback());
+        // too long
+        planner.register("d", request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 120), 1000,
+                mock(ModbusReadCallback.class), failureCallback());
+        planner.plan();
+
+        plannedRequests(4);
+    }
+
+    @Test
+    public void testUnregisterPlansAgain() {
+        planner.register("a", request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 10), 1000,
+                mock(ModbusReadCallback.class), failureCallback());
+        planner.register("b", request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 10, 10), 1000,
+                mock(ModbusReadCallback.class), failureCallback());
+        planner.plan();
+        planner.unregister("b");
+        planner.plan();
+
+        verify(comms, times(1)).unregisterRegularPoll(any());
+        List<ModbusReadRequestBlueprint> requests = plannedRequests(2);
+        assertThat(requests.get(1).getReference(), is(0));
+        assertThat(requests.get(1).getDataLength(), is(10));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRegistersAreDispatched() {
+        ModbusReadCallback callbackA = mock(ModbusReadCallback.class);
+        ModbusReadCallback callbackB = mock(ModbusReadCallback.class);
+        ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallbackB = failureCallback();
+        ModbusReadRequestBlueprint requestA = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2);
+        ModbusReadRequestBlueprint requestB = request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 3, 2);
+        planner.register("a", requestA, 1000, callbackA, failureCallback());
+        planner.register("b", requestB, 1000, callbackB, failureCallbackB);
+        planner.plan();
+
+        ArgumentCaptor<ModbusReadRequestBlueprint> request = ArgumentCaptor.forClass(ModbusReadRequestBlueprint.class);
+        ArgumentCaptor<ModbusReadCallback> resultCallback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        ArgumentCaptor<ModbusFailureCallback<ModbusReadRequestBlueprint>> failureCallback = ArgumentCaptor
+                .forClass(ModbusFailureCallback.class);
+        verify(comms).registerRegularPoll(request.capture(), eq(1000L), eq(0L), resultCallback.capture(),
+                failureCallback.capture());
+
+        resultCallback.getValue()
+                .handle(new AsyncModbusReadResult(request.getValue(), new ModbusRegisterArray(1, 2, 3, 4, 5)));
+
+        ArgumentCaptor<AsyncModbusReadResult> resultA = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(callbackA).handle(resultA.capture());
+        assertThat(resultA.getValue().getRequest(), is(requestA));
+        assertThat(resultA.getValue().getRegisters().get().getBytes(), is(new byte[] { 0, 1, 0, 2 }));
+        ArgumentCaptor<AsyncModbusReadResult> resultB = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(callbackB).handle(resultB.capture());
+        assertThat(resultB.getValue().getRequest(), is(requestB));
+        assertThat(resultB.getValue().getRegisters().get().getBytes(), is(new byte[] { 0, 4, 0, 5 }));
+
+        Exception error = new Exception("timeout");
+        failureCallback.getValue().handle(new AsyncModbusFailure<>(request.getValue(), error));
+        ArgumentCaptor<AsyncModbusFailure<ModbusReadRequestBlueprint>> failureB = ArgumentCaptor
+                .forClass(AsyncModbusFailure.class);
+        verify(failureCallbackB).handle(failureB.capture());
+        assertThat(failureB.getValue().getRequest(), is(requestB));
+        assertThat(failureB.getValue().getCause(), is(error));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testBitsAreDispatched() {
+        ModbusReadCallback callbackA = mock(ModbusReadCallback.class);
+        ModbusReadCallback callbackB = mock(ModbusReadCallback.class);
+        planner.register("a", request(ModbusReadFunctionCode.READ_COILS, 0, 2), 1000, callbackA, failureCallback());
+        planner.register("b", request(ModbusReadFunctionCode.READ_COILS, 4, 3), 1000, callbackB, failureCallback());
+        planner.plan();
+
+        ArgumentCaptor<ModbusReadRequestBlueprint> request = ArgumentCaptor.forClass(ModbusReadRequestBlueprint.class);
+        ArgumentCaptor<ModbusReadCallback> resultCallback = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        verify(comms).registerRegularPoll(request.capture(), anyLong(), anyLong(), resultCallback.capture(),
+                any(ModbusFailureCallback.class));
+        assertThat(request.getValue().getDataLength(), is(7));
+
+        resultCallback.getValue().handle(new AsyncModbusReadResult(request.getValue(),
+                new BitArray(true, false, false, false, false, true, true)));
+
+        ArgumentCaptor<AsyncModbusReadResult> resultA = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(callbackA).handle(resultA.capture());
+        BitArray bitsA = resultA.getValue().getBits().get();
+        assertThat(bitsA.size(), is(2));
+        assertThat(bitsA.getBit(0), is(true));
+        assertThat(bitsA.getBit(1), is(false));
+        ArgumentCaptor<AsyncModbusReadResult> resultB = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+        verify(callbackB).handle(resultB.capture());
+        BitArray bitsB = resultB.getValue().getBits().get();
+        assertThat(bitsB.size(), is(3));
+        assertThat(bitsB.getBit(0), is(false));
+        assertThat(bitsB.getBit(1), is(true));
+        assertThat(bitsB.getBit(2), is(true));
+    }
+}
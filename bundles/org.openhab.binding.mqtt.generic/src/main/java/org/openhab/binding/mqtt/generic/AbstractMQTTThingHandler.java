@@ -81,6 +81,8 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     private final int subscribeTimeout;
 
     protected @Nullable MqttBrokerConnection connection;
+    // Channels sharing a state topic share its subscription, and the decoded payload of its messages
+    protected final StateTopicDispatcher stateTopicDispatcher = new StateTopicDispatcher();
 
     private AtomicBoolean messageReceived = new AtomicBoolean(false);
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
@@ -62,6 +62,7 @@ public class ChannelState implements MqttMessageSubscriber {
     protected final ChannelTransformation incomingTransformation;
     protected final ChannelTransformation outgoingTransformation;
     private @Nullable ChannelStateUpdateListener channelStateUpdateListener;
+    private @Nullable StateTopicDispatcher stateTopicDispatcher;
     protected boolean hasSubscribed = false;
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
@@ -145,6 +146,17 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     @Override
     public void processMessage(String topic, byte[] payload) {
+        processMessage(topic, payload, null);
+    }
+
+    /**
+     * Incoming message, possibly already decoded by the {@link StateTopicDispatcher} for all channels of the topic
+     *
+     * @param topic The topic. Is the same as the field stateTopic.
+     * @param payload The byte payload. Must be UTF8 encoded text or binary data.
+     * @param decodedPayload The payload decoded as UTF8 text, or null if not yet decoded
+     */
+    void processMessage(String topic, byte[] payload, @Nullable String decodedPayload) {
         final ChannelStateUpdateListener channelStateUpdateListener = this.channelStateUpdateListener;
         if (channelStateUpdateListener == null) {
             logger.warn("MQTT message received for topic {}, but MessageSubscriber object hasn't been started!", topic);
@@ -159,7 +171,7 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
+        String strValue = decodedPayload != null ? decodedPayload : new String(payload, StandardCharsets.UTF_8);
         if (incomingTransformation.isPresent()) {
             Optional<String> transformedValue = incomingTransformation.apply(strValue);
             if (transformedValue.isEmpty()) {
@@ -261,8 +273,12 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     public CompletableFuture<@Nullable Void> stop() {
         final MqttBrokerConnection connection = this.connection;
+        final StateTopicDispatcher stateTopicDispatcher = this.stateTopicDispatcher;
         if (connection != null && !config.stateTopic.isBlank()) {
-            return connection.unsubscribe(config.stateTopic, this).thenRun(this::internalStop);
+            CompletableFuture<Boolean> unsubscribed = stateTopicDispatcher != null
+                    ? stateTopicDispatcher.unsubscribe(config.stateTopic, this)
+                    : connection.unsubscribe(config.stateTopic, this);
+            return unsubscribed.thenRun(this::internalStop);
         } else {
             internalStop();
             return CompletableFuture.completedFuture(null);
@@ -322,7 +338,11 @@ public class ChannelState implements MqttMessageSubscriber {
 
             this.future = new CompletableFuture<>();
         }
-        connection.subscribe(config.stateTopic, this).thenRun(() -> {
+        final StateTopicDispatcher stateTopicDispatcher = this.stateTopicDispatcher;
+        CompletableFuture<Boolean> subscribed = stateTopicDispatcher != null
+                ? stateTopicDispatcher.subscribe(connection, config.stateTopic, this)
+                : connection.subscribe(config.stateTopic, this);
+        subscribed.thenRun(() -> {
             hasSubscribed = true;
             logger.debug("Subscribed channel {} to topic: {}", this.channelUID, config.stateTopic);
             if (timeout > 0 && !future.isDone()) {
@@ -434,6 +454,16 @@ public class ChannelState implements MqttMessageSubscriber {
         this.channelStateUpdateListener = channelStateUpdateListener;
     }
 
+    /**
+     * Share the subscription of the state topic with other channels using the same topic. Must be set before
+     * {@link #start(MqttBrokerConnection, ScheduledExecutorService, int)}.
+     *
+     * @param stateTopicDispatcher The dispatcher of the thing, or null to subscribe on the broker connection directly
+     */
+    public void setStateTopicDispatcher(@Nullable StateTopicDispatcher stateTopicDispatcher) {
+        this.stateTopicDispatcher = stateTopicDispatcher;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes to each state topic only once for all {@link ChannelState}s of a thing using that topic, and passes
+ * every received message to all of them.
+ * <p>
+ * The payload is decoded only once per message, so all channels transform the very same string. Devices like
+ * Zigbee2MQTT publish a single JSON document per topic for many channels, and transformations caching their parsed
+ * input (like JSONPATH) then find it by identity instead of comparing and hashing the whole document again for every
+ * channel.
+ * <p>
+ * The broker only sends a retained message when a topic is subscribed. Channel states joining an existing subscription
+ * therefore get the last message of the topic when they are added.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class StateTopicDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(StateTopicDispatcher.class);
+
+    private final Map<String, TopicSubscription> subscriptions = new HashMap<>();
+
+    private class TopicSubscription implements MqttMessageSubscriber {
+        private final MqttBrokerConnection connection;
+        private final List<ChannelState> channelStates = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Boolean> subscribed;
+        private @Nullable String lastTopic;
+        private byte @Nullable [] lastPayload;
+        private @Nullable String lastDecodedPayload;
+
+        TopicSubscription(MqttBrokerConnection connection, String topic) {
+            this.connection = connection;
+            this.subscribed = connection.subscribe(topic, this);
+        }
+
+        @Override
+        public synchronized void processMessage(String topic, byte[] payload) {
+            String decodedPayload = null;
+            for (ChannelState channelState : channelStates) {
+                if (decodedPayload == null && !channelState.getCache().isBinary()) {
+                    decodedPayload = new String(payload, StandardCharsets.UTF_8);
+                }
+                process(channelState, topic, payload, decodedPayload);
+            }
+            lastTopic = topic;
+            lastPayload = payload;
+            lastDecodedPayload = decodedPayload;
+        }
+
+        /**
+         * Adds the channel state and passes the last message of the topic to it, if there is one
+         */
+        synchronized void add(ChannelState channelState) {
+            if (channelStates.contains(channelState)) {
+                return;
+            }
+            channelStates.add(channelState);
+            String topic = lastTopic;
+            byte[] payload = lastPayload;
+            if (topic != null && payload != null) {
+                String decodedPayload = lastDecodedPayload;
+                if (decodedPayload == null && !channelState.getCache().isBinary()) {
+                    lastDecodedPayload = decodedPayload = new String(payload, StandardCharsets.UTF_8);
+                }
+                process(channelState, topic, payload, decodedPayload);
+            }
+        }
+
+        private void process(ChannelState channelState, String topic, byte[] payload,
+                @Nullable String decodedPayload) {
+            try {
+                channelState.processMessage(topic, payload, decodedPayload);
+            } catch (RuntimeException e) {
+                logger.warn("Processing message on topic {} failed for channel {}", topic, channelState.channelUID(),
+                        e);
+            }
+        }
+    }
+
+    /**
+     * Subscribes the channel state to the topic. Only the first channel state subscribes to the topic on the broker
+     * connection, all others share this subscription and immediately get the last message received on it.
+     *
+     * @param connection The broker connection
+     * @param topic The state topic
+     * @param channelState The channel state to pass messages to
+     * @return A future that completes when the topic is subscribed on the broker connection
+     */
+    public synchronized CompletableFuture<Boolean> subscribe(MqttBrokerConnection connection, String topic,
+            ChannelState channelState) {
+        TopicSubscription subscription = subscriptions.get(topic);
+        if (subscription == null || !subscription.connection.equals(connection)) {
+            // the subscription of a previous connection is gone with that connection
+            subscription = new TopicSubscription(connection, topic);
+            subscriptions.put(topic, subscription);
+            logger.trace("Subscribed to state topic {}", topic);
+        }
+        subscription.add(channelState);
+        return subscription.subscribed;
+    }
+
+    /**
+     * Unsubscribes the channel state from the topic. The topic is unsubscribed from the broker connection, once no
+     * channel state is using it anymore.
+     *
+     * @param topic The state topic
+     * @param channelState The channel state to no longer pass messages to
+     * @return A future that completes when the topic is unsubscribed from the broker connection, if needed
+     */
+    public synchronized CompletableFuture<Boolean> unsubscribe(String topic, ChannelState channelState) {
+        @Nullable
+        TopicSubscription subscription = subscriptions.get(topic);
+        if (subscription == null || !subscription.channelStates.remove(channelState)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        if (!subscription.channelStates.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        subscriptions.remove(topic);
+        logger.trace("Unsubscribing from state topic {}", topic);
+        return subscription.connection.unsubscribe(topic, subscription);
+    }
+}
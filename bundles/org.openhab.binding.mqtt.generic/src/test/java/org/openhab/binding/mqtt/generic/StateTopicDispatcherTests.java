@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.mqtt.generic.values.ImageValue;
+import org.openhab.binding.mqtt.generic.values.TextValue;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.ChannelUID;
+
+/**
+ * Tests the {@link StateTopicDispatcher} class.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class StateTopicDispatcherTests {
+
+    private static final ChannelUID CHANNEL1 = new ChannelUID("mqtt:topic:broker:thing:channel1");
+    private static final ChannelUID CHANNEL2 = new ChannelUID("mqtt:topic:broker:thing:channel2");
+    private static final ChannelUID CHANNEL3 = new ChannelUID("mqtt:topic:broker:thing:channel3");
+
+    private @Mock @NonNullByDefault({}) MqttBrokerConnection connectionMock;
+    private @Mock @NonNullByDefault({}) ChannelStateUpdateListener listenerMock;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService schedulerMock;
+
+    private final StateTopicDispatcher dispatcher = new StateTopicDispatcher();
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).subscribe(any(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).unsubscribe(any(), any());
+    }
+
+    private ChannelState createChannelState(String stateTopic, ChannelUID channelUID) {
+        ChannelState channelState = new ChannelState(ChannelConfigBuilder.create(stateTopic, "").build(), channelUID,
+                new TextValue(), listenerMock);
+        channelState.setStateTopicDispatcher(dispatcher);
+        return channelState;
+    }
+
+    @Test
+    public void sharedTopicIsSubscribedOnce() throws Exception {
+        ChannelState state1 = createChannelState("zigbee/sensor", CHANNEL1);
+        ChannelState state2 = createChannelState("zigbee/sensor", CHANNEL2);
+        ChannelState state3 = createChannelState("zigbee/other", CHANNEL3);
+
+        state1.start(connectionMock, schedulerMock, 0).get(50, TimeUnit.MILLISECONDS);
+        state2.start(connectionMock, schedulerMock, 0).get(50, TimeUnit.MILLISECONDS);
+        state3.start(connectionMock, schedulerMock, 0).get(50, TimeUnit.MILLISECONDS);
+
+        verify(connectionMock, times(1)).subscribe(eq("zigbee/sensor"), any());
+        verify(connectionMock, times(1)).subscribe(eq("zigbee/other"), any());
+
+        state1.stop().get(50, TimeUnit.MILLISECONDS);
+        verify(connectionMock, never()).unsubscribe(any(), any());
+        state2.stop().get(50, TimeUnit.MILLISECONDS);
+        verify(connectionMock, times(1)).unsubscribe(eq("zigbee/sensor"), any());
+    }
+
+    @Test
+    public void messageIsPassedToAllChannels() throws Exception {
+        ChannelState state1 = createChannelState("zigbee/sensor", CHANNEL1);
+        ChannelState state2 = createChannelState("zigbee/sensor", CHANNEL2);
+        state1.start(connectionMock, schedulerMock, 0).get(50, TimeUnit.MILLISECONDS);
+        state2.start(connectionMock, schedulerMock, 0).get(50, TimeUnit.MILLISECONDS);
+
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connectionMock).subscribe(eq("zigbee/sensor"), subscriber.capture());
+        subscriber.getValue().processMessage("zigbee/sensor", "{\"temperature\":21.5}".getBytes());
+
+        verify(listenerMock).updateChannelState(eq(CHANNEL1), eq(new StringType("{\"temperature\":21.5}")));
+        verify(listenerMock).updateChannelState(eq(CHANNEL2), eq(new StringType("{\"temperature\":21.5}")));
+    }
+
+    @Test
+    public void lateChannelGetsLastMessageOfSharedTopic() throws Exception {
+        ChannelState state1 = createChannelState("zigbee/sensor", CHANNEL1);
+        state1.start(connectionMock, schedulerMock, 0).get(50, TimeUnit.MILLISECONDS);
+
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connectionMock).subscribe(eq("zigbee/sensor"), subscriber.capture());
+        // the retained message arrives before the second channel subscribes
+        subscriber.getValue().processMessage("zigbee/sensor", "{\"temperature\":21.5}".getBytes());
+
+        ChannelState state2 = createChannelState("zigbee/sensor", CHANNEL2);
+        state2.start(connectionMock, schedulerMock, 0).get(50, TimeUnit.MILLISECONDS);
+
+        verify(connectionMock, times(1)).subscribe(eq("zigbee/sensor"), any());
+        verify(listenerMock).updateChannelState(eq(CHANNEL1), eq(new StringType("{\"temperature\":21.5}")));
+        verify(listenerMock).updateChannelState(eq(CHANNEL2), eq(new StringType("{\"temperature\":21.5}")));
+    }
+
+    @Test
+    public void binaryChannelGetsRawPayload() throws Exception {
+        ImageValue imageValue = spy(new ImageValue());
+        ChannelState imageState = new ChannelState(ChannelConfigBuilder.create("camera", "").build(), CHANNEL1,
+                imageValue, listenerMock);
+        imageState.setStateTopicDispatcher(dispatcher);
+        ChannelState textState = createChannelState("camera", CHANNEL2);
+        imageState.start(connectionMock, schedulerMock, 0).get(50, TimeUnit.MILLISECONDS);
+        textState.start(connectionMock, schedulerMock, 0).get(50, TimeUnit.MILLISECONDS);
+
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connectionMock).subscribe(eq("camera"), subscriber.capture());
+        byte[] payload = "abc".getBytes();
+        subscriber.getValue().processMessage("camera", payload);
+
+        verify(imageValue).update(payload);
+        verify(listenerMock).updateChannelState(eq(CHANNEL2), eq(new StringType("abc")));
+    }
+}
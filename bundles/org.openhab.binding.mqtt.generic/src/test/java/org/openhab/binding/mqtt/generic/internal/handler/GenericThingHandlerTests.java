@@ -119,7 +119,8 @@ public class GenericThingHandlerTests {
         assertThat(channelConfig.getStateTopic(), is("test/state"));
         assertThat(channelConfig.getCommandTopic(), is("test/command"));
 
-        verify(connectionMock).subscribe(eq(channelConfig.getStateTopic()), eq(channelConfig));
+        // all channels share the subscription of their state topic
+        verify(connectionMock, times(1)).subscribe(eq(channelConfig.getStateTopic()), any());
 
         verify(callbackMock).statusUpdated(eq(thingMock), argThat(arg -> ThingStatus.ONLINE.equals(arg.getStatus())
                 && ThingStatusDetail.NONE.equals(arg.getStatusDetail())));
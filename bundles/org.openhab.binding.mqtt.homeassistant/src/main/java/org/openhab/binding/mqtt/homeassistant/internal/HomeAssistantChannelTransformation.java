@@ -43,6 +43,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     private final HomeAssistantPythonBridge python;
     private final AbstractComponent<?> component;
     private final Value template;
+    private final @Nullable NativeValueTemplate nativeTemplate;
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
@@ -69,6 +70,8 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.component = component;
         this.command = command;
         this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
+        // simple value templates are rendered without python, complex ones and failures are left to python
+        this.nativeTemplate = command ? null : NativeValueTemplate.compile(python.getTemplateSource(template));
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
     }
@@ -97,6 +100,16 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value) {
+        NativeValueTemplate localNativeTemplate = nativeTemplate;
+        if (localNativeTemplate != null && value instanceof String payload) {
+            long start = System.nanoTime();
+            String result = localNativeTemplate.render(payload);
+            if (result != null) {
+                python.recordTemplateRender(true, System.nanoTime() - start);
+                return result;
+            }
+        }
+        long start = System.nanoTime();
         try {
             return command ? python.renderCommandTemplate(template, value)
                     : python.renderValueTemplate(template, value, defaultValue);
@@ -104,10 +117,13 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
             logger.warn("Applying template for component {} failed: {}", component.getHaID().toShortTopic(),
                     e.getMessage(), e);
             return null;
+        } finally {
+            python.recordTemplateRender(false, System.nanoTime() - start);
         }
     }
 
     public @Nullable String transform(Object value, Map<String, @Nullable Object> variables) {
+        long start = System.nanoTime();
         try {
             return command ? python.renderCommandTemplate(template, value, variables)
                     : python.renderValueTemplate(template, value, defaultValue, variables);
@@ -115,6 +131,8 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
             logger.warn("Applying template for component {} failed: {}", component.getHaID().toShortTopic(),
                     e.getMessage(), e);
             return null;
+        } finally {
+            python.recordTemplateRender(false, System.nanoTime() - start);
         }
     }
 }
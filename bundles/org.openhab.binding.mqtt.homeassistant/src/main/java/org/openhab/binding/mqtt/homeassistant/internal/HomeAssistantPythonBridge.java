@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -42,11 +43,16 @@ import org.slf4j.LoggerFactory;
 @Component(service = HomeAssistantPythonBridge.class)
 public class HomeAssistantPythonBridge {
     private static final String PYTHON = "python";
+    private static final long STATISTICS_LOG_INTERVAL = 1000;
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
     private final Context context;
     private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
             renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
             processDiscoveryConfigMeth, listMeth;
+    private final AtomicLong nativeRenders = new AtomicLong();
+    private final AtomicLong nativeRenderNanos = new AtomicLong();
+    private final AtomicLong pythonRenders = new AtomicLong();
+    private final AtomicLong pythonRenderNanos = new AtomicLong();
 
     @Activate
     public HomeAssistantPythonBridge() {
@@ -109,6 +115,10 @@ public class HomeAssistantPythonBridge {
         return newRawTemplateMeth.execute(template);
     }
 
+    public String getTemplateSource(Value template) {
+        return template.getMember("template").asString();
+    }
+
     public Value newCommandTemplate(Value template) {
         return newCommandTemplateMeth.execute(template);
     }
@@ -134,6 +144,49 @@ public class HomeAssistantPythonBridge {
         return renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables).asString();
     }
 
+    /**
+     * Records the duration of rendering a template, either natively or in python
+     *
+     * @param nativeRender whether the template was rendered natively
+     * @param nanos the duration in nanoseconds
+     */
+    public void recordTemplateRender(boolean nativeRender, long nanos) {
+        long renders;
+        if (nativeRender) {
+            renders = nativeRenders.incrementAndGet();
+            nativeRenderNanos.addAndGet(nanos);
+        } else {
+            renders = pythonRenders.incrementAndGet();
+            pythonRenderNanos.addAndGet(nanos);
+        }
+        if (logger.isDebugEnabled() && renders % STATISTICS_LOG_INTERVAL == 0) {
+            logger.debug("Rendered {} templates natively in {} µs on average, {} in python in {} µs on average",
+                    nativeRenders.get(), getAverageMicros(nativeRenderNanos, nativeRenders), pythonRenders.get(),
+                    getAverageMicros(pythonRenderNanos, pythonRenders));
+        }
+    }
+
+    public long getNativeTemplateRenders() {
+        return nativeRenders.get();
+    }
+
+    public long getNativeTemplateRenderNanos() {
+        return nativeRenderNanos.get();
+    }
+
+    public long getPythonTemplateRenders() {
+        return pythonRenders.get();
+    }
+
+    public long getPythonTemplateRenderNanos() {
+        return pythonRenderNanos.get();
+    }
+
+    private static long getAverageMicros(AtomicLong nanos, AtomicLong count) {
+        long n = count.get();
+        return n == 0 ? 0 : nanos.get() / n / 1000;
+    }
+
     public Map<String, @Nullable Object> processDiscoveryConfig(String component, String payload) {
         try {
             @SuppressWarnings("unchecked")
@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.Strictness;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Renders the most common Home Assistant value templates without calling into python, like
+ * <code>{{ value_json.temperature }}</code> or <code>{{ value_json['update'].state | float | round(1) }}</code>.
+ * <p>
+ * Only templates consisting of a single expression of <code>value</code> or a path into <code>value_json</code>,
+ * optionally followed by <code>float</code>, <code>int</code> and <code>round</code> filters, are supported. The
+ * result is formatted the way python does. Whenever the outcome could differ from Jinja (a missing key, a value that
+ * does not convert, a nested object, ...), {@link #render(String)} returns <code>null</code> and the template has to
+ * be rendered by python, which also takes care of reporting errors.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NativeValueTemplate {
+    private static final TypeAdapter<JsonElement> JSON_ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+    // Jinja resolves attributes of a dict before its keys
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final Pattern INTEGER = Pattern.compile("[+-]?\\d+");
+    private static final Pattern FLOAT = Pattern.compile("[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?");
+    private static final Object NONE = new Object();
+
+    private static volatile @Nullable ParsedPayload lastPayload;
+
+    private record ParsedPayload(String payload, @Nullable JsonElement json) {
+    }
+
+    private enum FilterType {
+        FLOAT,
+        INT,
+        ROUND
+    }
+
+    private record Filter(FilterType type, int precision) {
+    }
+
+    private final @Nullable String staticResult;
+    private final @Nullable List<Object> path;
+    private final List<Filter> filters;
+
+    private NativeValueTemplate(@Nullable String staticResult, @Nullable List<Object> path, List<Filter> filters) {
+        this.staticResult = staticResult;
+        this.path = path;
+        this.filters = filters;
+    }
+
+    /**
+     * Compiles a template, if it is simple enough to be rendered natively.
+     *
+     * @param template the (stripped) template source
+     * @return the native template, or <code>null</code> if the template has to be rendered by python
+     */
+    public static @Nullable NativeValueTemplate compile(String template) {
+        if (!template.contains("{{") && !template.contains("{%") && !template.contains("{#")) {
+            // a static template is rendered as is
+            return new NativeValueTemplate(template, null, List.of());
+        }
+        if (!template.startsWith("{{") || !template.endsWith("}}") || template.length() < 4) {
+            return null;
+        }
+        String expression = template.substring(2, template.length() - 2);
+        if (expression.contains("{") || expression.contains("}") || expression.startsWith("-")
+                || expression.endsWith("-") || expression.contains("\\")) {
+            return null;
+        }
+        try {
+            return new Parser(expression).parse();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Renders the template for a received payload.
+     *
+     * @param payload the received payload
+     * @return the rendered value, or <code>null</code> if the template has to be rendered by python for this payload
+     */
+    public @Nullable String render(String payload) {
+        String localStaticResult = staticResult;
+        if (localStaticResult != null) {
+            return localStaticResult;
+        }
+        List<Object> localPath = path;
+        @Nullable
+        Object value;
+        if (localPath == null) {
+            value = payload;
+        } else {
+            JsonElement json = parseJson(payload);
+            if (json == null) {
+                return null;
+            }
+            for (Object key : localPath) {
+                if (key instanceof String name && json instanceof JsonObject object && object.has(name)) {
+                    json = object.get(name);
+                } else if (key instanceof Integer index && json instanceof JsonArray array && index < array.size()) {
+                    json = array.get(index);
+                } else {
+                    return null;
+                }
+            }
+            value = toPython(json);
+        }
+        for (Filter filter : filters) {
+            if (value == null) {
+                return null;
+            }
+            value = switch (filter.type()) {
+                case FLOAT -> toFloat(value);
+                case INT -> toInt(value);
+                case ROUND -> round(value, filter.precision());
+            };
+        }
+        String result = value == null ? null : toPythonString(value);
+        return result == null ? null : result.strip();
+    }
+
+    /**
+     * Parses the payload like python's json.loads, reusing the result of the previous call for the very same payload
+     * instance, which all components sharing a state topic receive.
+     */
+    private static @Nullable JsonElement parseJson(String payload) {
+        ParsedPayload parsed = lastPayload;
+        if (parsed != null && parsed.payload() == payload) {
+            return parsed.json();
+        }
+        JsonElement json;
+        try {
+            JsonReader reader = new JsonReader(new StringReader(payload));
+            reader.setStrictness(Strictness.STRICT);
+            json = JSON_ELEMENT_ADAPTER.read(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                json = null;
+            }
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            json = null;
+        }
+        lastPayload = new ParsedPayload(payload, json);
+        return json;
+    }
+
+    /**
+     * @return the python equivalent of the JSON value: a {@link String}, {@link Boolean}, {@link BigInteger} (int),
+     *         {@link Double} (float) or {@link #NONE}, or <code>null</code> if not supported
+     */
+    private static @Nullable Object toPython(JsonElement json) {
+        if (json.isJsonNull()) {
+            return NONE;
+        }
+        if (!(json instanceof JsonPrimitive primitive)) {
+            return null;
+        }
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+        if (primitive.isString()) {
+            return primitive.getAsString();
+        }
+        String number = primitive.getAsNumber().toString();
+        if (INTEGER.matcher(number).matches()) {
+            return new BigInteger(number);
+        }
+        return finite(Double.parseDouble(number));
+    }
+
+    private static @Nullable Object toFloat(Object value) {
+        if (value instanceof Double) {
+            return value;
+        }
+        if (value instanceof BigInteger integer) {
+            return finite(new BigDecimal(integer).doubleValue());
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? 1.0 : 0.0;
+        }
+        if (value instanceof String string) {
+            String stripped = string.strip();
+            if (FLOAT.matcher(stripped).matches()) {
+                return finite(Double.parseDouble(stripped));
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable Object toInt(Object value) {
+        if (value instanceof BigInteger) {
+            return value;
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? BigInteger.ONE : BigInteger.ZERO;
+        }
+        if (value instanceof String string) {
+            String stripped = string.strip();
+            if (INTEGER.matcher(stripped).matches()) {
+                return new BigInteger(stripped);
+            }
+        }
+        Object floatValue = toFloat(value);
+        if (floatValue instanceof Double doubleValue) {
+            return new BigDecimal(doubleValue).setScale(0, RoundingMode.DOWN).toBigIntegerExact();
+        }
+        return null;
+    }
+
+    private static @Nullable Object round(Object value, int precision) {
+        if (!(toFloat(value) instanceof Double doubleValue)) {
+            return null;
+        }
+        // python rounds the exact binary value half to even
+        BigDecimal rounded = new BigDecimal(doubleValue).setScale(precision, RoundingMode.HALF_EVEN);
+        return precision == 0 ? rounded.toBigIntegerExact() : finite(rounded.doubleValue());
+    }
+
+    private static @Nullable Double finite(double value) {
+        return Double.isFinite(value) ? value : null;
+    }
+
+    private static @Nullable String toPythonString(Object value) {
+        if (value == NONE) {
+            return "None";
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? "True" : "False";
+        }
+        if (value instanceof Double doubleValue) {
+            return formatFloat(doubleValue);
+        }
+        if (value instanceof String || value instanceof BigInteger) {
+            return value.toString();
+        }
+        return null;
+    }
+
+    /**
+     * Formats a float like python's repr: the shortest representation, in scientific notation for exponents below -4
+     * or from 16 on.
+     */
+    static String formatFloat(double value) {
+        if (value == 0) {
+            return 1 / value < 0 ? "-0.0" : "0.0";
+        }
+        String sign = value < 0 ? "-" : "";
+        BigDecimal decimal = new BigDecimal(Double.toString(Math.abs(value))).stripTrailingZeros();
+        String digits = decimal.unscaledValue().toString();
+        int exponent = digits.length() - 1 - decimal.scale();
+        if (exponent >= -4 && exponent < 16) {
+            String plain = decimal.toPlainString();
+            return sign + (plain.contains(".") ? plain : plain + ".0");
+        }
+        String mantissa = digits.length() == 1 ? digits : digits.charAt(0) + "." + digits.substring(1);
+        return String.format("%s%se%s%02d", sign, mantissa, exponent < 0 ? "-" : "+", Math.abs(exponent));
+    }
+
+    private static class Parser {
+        private final String expression;
+        private int position;
+
+        Parser(String expression) {
+            this.expression = expression;
+        }
+
+        NativeValueTemplate parse() {
+            List<Object> path = null;
+            skipWhitespace();
+            String variable = identifier();
+            if ("value_json".equals(variable)) {
+                path = new ArrayList<>();
+                while (true) {
+                    skipWhitespace();
+                    if (consume('.')) {
+                        skipWhitespace();
+                        String name = identifier();
+                        if (name.startsWith("_") || DICT_ATTRIBUTES.contains(name)) {
+                            throw new IllegalArgumentException("Attribute " + name);
+                        }
+                        path.add(name);
+                    } else if (consume('[')) {
+                        skipWhitespace();
+                        path.add(subscript());
+                        skipWhitespace();
+                        expect(']');
+                    } else {
+                        break;
+                    }
+                }
+            } else if (!"value".equals(variable)) {
+                throw new IllegalArgumentException("Variable " + variable);
+            }
+
+            List<Filter> filters = new ArrayList<>();
+            skipWhitespace();
+            while (consume('|')) {
+                skipWhitespace();
+                String name = identifier();
+                skipWhitespace();
+                Filter filter = switch (name) {
+                    case "float" -> {
+                        optionalDefault();
+                        yield new Filter(FilterType.FLOAT, 0);
+                    }
+                    case "int" -> {
+                        optionalDefault();
+                        yield new Filter(FilterType.INT, 0);
+                    }
+                    case "round" -> new Filter(FilterType.ROUND, optionalPrecision());
+                    default -> throw new IllegalArgumentException("Filter " + name);
+                };
+                filters.add(filter);
+                skipWhitespace();
+            }
+            if (position != expression.length()) {
+                throw new IllegalArgumentException("Unexpected " + expression.substring(position));
+            }
+            return new NativeValueTemplate(null, path, List.copyOf(filters));
+        }
+
+        private Object subscript() {
+            char quote = peek();
+            if (quote == '\'' || quote == '"') {
+                int end = expression.indexOf(quote, position + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unterminated string");
+                }
+                String key = expression.substring(position + 1, end);
+                position = end + 1;
+                return key;
+            }
+            String index = match(Pattern.compile("\\d+"));
+            if (index.length() > 9) {
+                throw new IllegalArgumentException("Index " + index);
+            }
+            return Integer.parseInt(index);
+        }
+
+        /**
+         * The default is only used when the conversion fails, in which case python renders the template
+         */
+        private void optionalDefault() {
+            if (consume('(')) {
+                skipWhitespace();
+                match(FLOAT);
+                skipWhitespace();
+                expect(')');
+            }
+        }
+
+        private int optionalPrecision() {
+            if (!consume('(')) {
+                return 0;
+            }
+            skipWhitespace();
+            String precision = match(Pattern.compile("-?\\d{1,2}"));
+            skipWhitespace();
+            expect(')');
+            return Integer.parseInt(precision);
+        }
+
+        private String identifier() {
+            return match(IDENTIFIER);
+        }
+
+        private String match(Pattern pattern) {
+            Matcher matcher = pattern.matcher(expression).region(position, expression.length());
+            if (!matcher.lookingAt()) {
+                throw new IllegalArgumentException("Unexpected " + expression.substring(position));
+            }
+            position = matcher.end();
+            return matcher.group();
+        }
+
+        private char peek() {
+            return position < expression.length() ? expression.charAt(position) : 0;
+        }
+
+        private boolean consume(char c) {
+            if (peek() == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!consume(c)) {
+                throw new IllegalArgumentException("Expected " + c);
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -108,6 +108,35 @@ public class HomeAssistantChannelTransformationTests extends AbstractHomeAssista
                 is("off"));
     }
 
+    @Test
+    public void testNativeTemplatesRenderLikePython() {
+        String payload = "{\"temperature\": 21.45, \"battery\": 95, \"state\": {\"on\": true}, \"text\": \" abc \","
+                + " \"big\": 1e16, \"small\": 0.00001, \"none\": null}";
+        String[] templates = { "ON", "{{ value }}", "{{ value_json.temperature }}", "{{ value_json.battery | float }}",
+                "{{ value_json['state'].on }}", "{{ value_json.text }}", "{{ value_json.big }}",
+                "{{ value_json.small }}", "{{ value_json.none }}", "{{ value_json.temperature | round(1) }}",
+                "{{ value_json.temperature | round }}", "{{ value_json.temperature | int }}",
+                "{{ value_json.battery | round(-1) }}" };
+        for (String template : templates) {
+            Object nativeResult = transform(template, payload);
+            assertThat(template, nativeResult,
+                    is(PYTHON.renderValueTemplate(PYTHON.newValueTemplate(PYTHON.newRawTemplate(template)), payload,
+                            HomeAssistantChannelTransformation.PAYLOAD_SENTINEL_NONE)));
+        }
+    }
+
+    @Test
+    public void testNativeTemplateFallsBackToPython() {
+        long pythonRenders = PYTHON.getPythonTemplateRenders();
+        assertThat(transform("{{ value_json.missing | is_defined }}", "{}", "default"), is("default"));
+        assertThat(transform("{{ value_json.val | float(0) }}", "{ \"val\": \"abc\" }"), is("0"));
+        assertThat(PYTHON.getPythonTemplateRenders(), is(pythonRenders + 2));
+
+        long nativeRenders = PYTHON.getNativeTemplateRenders();
+        assertThat(transform("{{ value_json.val | float(0) }}", "{ \"val\": \"1\" }"), is("1.0"));
+        assertThat(PYTHON.getNativeTemplateRenders(), is(nativeRenders + 1));
+    }
+
     protected @Nullable Object transform(String template, Object value) {
         return new HomeAssistantChannelTransformation(PYTHON, component, PYTHON.newRawTemplate(template), false)
                 .transform(value);
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NativeValueTemplate}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NativeValueTemplateTests {
+
+    private @Nullable String render(String template, String payload) {
+        return Objects.requireNonNull(NativeValueTemplate.compile(template)).render(payload);
+    }
+
+    @Test
+    public void testUnsupportedTemplates() {
+        assertThat(NativeValueTemplate.compile("{{ value_json.a }} {{ value_json.b }}"), is(nullValue()));
+        assertThat(NativeValueTemplate.compile("{{ value_json.a | lower }}"), is(nullValue()));
+        assertThat(NativeValueTemplate.compile("{{ value_json.items }}"), is(nullValue()));
+        assertThat(NativeValueTemplate.compile("{{ value_json.a + 1 }}"), is(nullValue()));
+        assertThat(NativeValueTemplate.compile("{{ value.a }}"), is(nullValue()));
+        assertThat(NativeValueTemplate.compile("{{ other }}"), is(nullValue()));
+        assertThat(NativeValueTemplate.compile("{% if value %}on{% endif %}"), is(nullValue()));
+        assertThat(NativeValueTemplate.compile("{{- value -}}"), is(nullValue()));
+        assertThat(NativeValueTemplate.compile("{{}}"), is(nullValue()));
+    }
+
+    @Test
+    public void testStaticTemplate() {
+        assertThat(render("ON", "anything"), is("ON"));
+    }
+
+    @Test
+    public void testValue() {
+        assertThat(render("{{ value }}", " ON "), is("ON"));
+        assertThat(render("{{value|float}}", "21"), is("21.0"));
+        assertThat(render("{{ value | int }}", "21.7"), is("21"));
+    }
+
+    @Test
+    public void testPath() {
+        String payload = "{\"temperature\": 21.5, \"battery\": 95, \"update\": {\"state\": \"idle\"},"
+                + " \"list\": [1, 2], \"on\": true, \"off\": false, \"none\": null}";
+        assertThat(render("{{ value_json.temperature }}", payload), is("21.5"));
+        assertThat(render("{{ value_json.battery }}", payload), is("95"));
+        assertThat(render("{{ value_json['update'].state }}", payload), is("idle"));
+        assertThat(render("{{ value_json[\"update\"][\"state\"] }}", payload), is("idle"));
+        assertThat(render("{{ value_json.list[1] }}", payload), is("2"));
+        assertThat(render("{{ value_json.on }}", payload), is("True"));
+        assertThat(render("{{ value_json.off }}", payload), is("False"));
+        assertThat(render("{{ value_json.none }}", payload), is("None"));
+    }
+
+    @Test
+    public void testFallbackToPython() {
+        String payload = "{\"temperature\": 21.5, \"update\": {\"state\": \"idle\"}, \"text\": \"abc\"}";
+        // missing key
+        assertThat(render("{{ value_json.humidity }}", payload), is(nullValue()));
+        // nested object
+        assertThat(render("{{ value_json['update'] }}", payload), is(nullValue()));
+        // not convertible
+        assertThat(render("{{ value_json.text | float }}", payload), is(nullValue()));
+        assertThat(render("{{ value_json['update'].state | float(0) }}", payload), is(nullValue()));
+        // not JSON
+        assertThat(render("{{ value_json.temperature }}", "ON"), is(nullValue()));
+        assertThat(render("{{ value_json.temperature }}", "{'temperature': 1}"), is(nullValue()));
+        assertThat(render("{{ value_json }}", "NaN"), is(nullValue()));
+    }
+
+    @Test
+    public void testFilters() {
+        String payload = "{\"a\": 2.675, \"b\": \"21.45\", \"c\": 2.5, \"d\": 3.5, \"e\": -7.9, \"f\": 15}";
+        assertThat(render("{{ value_json.a | round(2) }}", payload), is("2.67"));
+        assertThat(render("{{ value_json.b | float | round(1) }}", payload), is("21.4"));
+        assertThat(render("{{ value_json.c | round }}", payload), is("2"));
+        assertThat(render("{{ value_json.d | round(0) }}", payload), is("4"));
+        assertThat(render("{{ value_json.e | int }}", payload), is("-7"));
+        assertThat(render("{{ value_json.f | round(-1) }}", payload), is("20.0"));
+        assertThat(render("{{ value_json.f | float(0) }}", payload), is("15.0"));
+        assertThat(render("{{ value_json.b | int }}", payload), is("21"));
+    }
+
+    @Test
+    public void testFloatFormat() {
+        assertThat(NativeValueTemplate.formatFloat(21.0), is("21.0"));
+        assertThat(NativeValueTemplate.formatFloat(-0.0), is("-0.0"));
+        assertThat(NativeValueTemplate.formatFloat(0.1 + 0.2), is("0.30000000000000004"));
+        assertThat(NativeValueTemplate.formatFloat(0.0001), is("0.0001"));
+        assertThat(NativeValueTemplate.formatFloat(0.00001), is("1e-05"));
+        assertThat(NativeValueTemplate.formatFloat(1.5e-7), is("1.5e-07"));
+        assertThat(NativeValueTemplate.formatFloat(1e15), is("1000000000000000.0"));
+        assertThat(NativeValueTemplate.formatFloat(1e16), is("1e+16"));
+        assertThat(NativeValueTemplate.formatFloat(-1.25e100), is("-1.25e+100"));
+    }
+}
@@ -72,6 +72,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private boolean iosDevice;
     private boolean useArpPing;
     private boolean useIcmpPing;
+    private boolean useArpTable;
     private Set<Integer> tcpPorts = new HashSet<>();
 
     private Duration timeout = Duration.ofSeconds(5);
@@ -287,6 +288,23 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         this.useArpPing = useArpPing;
     }
 
+    /**
+     * Return <code>true</code> if a complete entry in the ARP table of the operating system is accepted as ARP ping
+     * result.
+     */
+    public boolean isUseArpTable() {
+        return useArpTable;
+    }
+
+    /**
+     * Set to <code>true</code> if a complete entry in the ARP table of the operating system should be accepted as ARP
+     * ping result, so that no arping process needs to be started. Hosts that left the network stay in the ARP table
+     * until the entry expires.
+     */
+    public void setUseArpTable(boolean useArpTable) {
+        this.useArpTable = useArpTable;
+    }
+
     /**
      * Return <code>true</code> if the device presence detection is also performed using icmp ping.
      */
@@ -351,21 +369,35 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * @return a {@link CompletableFuture} for obtaining the {@link PresenceDetectionValue}
      */
     public CompletableFuture<PresenceDetectionValue> performPresenceDetection() {
+        // resolving the destination may require a DNS lookup, which must not block the caller
+        return CompletableFuture.supplyAsync(destination::getValue, executor)
+                .thenCompose(this::performPresenceDetection);
+    }
+
+    private CompletableFuture<PresenceDetectionValue> performPresenceDetection(
+            @Nullable InetAddress destinationAddress) {
         Set<String> interfaceNames = null;
+        boolean inArpTable = false;
 
         detectionChecks = tcpPorts.size();
         if (pingMethod != IpPingMethodEnum.DISABLED) {
             detectionChecks += 1;
         }
         if (arpPingMethod.canProceed) {
-            if (!lastReachableNetworkInterfaceName.isEmpty()) {
+            if (useArpTable && destinationAddress != null && networkUtils.isInArpTable(destinationAddress)) {
+                // the operating system already knows the host, no need to start arping
+                inArpTable = true;
+                detectionChecks += 1;
+            } else if (!lastReachableNetworkInterfaceName.isEmpty()) {
                 interfaceNames = Set.of(lastReachableNetworkInterfaceName);
             } else if (!networkInterfaceNames.isEmpty()) {
                 interfaceNames = networkInterfaceNames;
             } else {
                 interfaceNames = networkUtils.getInterfaceNames();
             }
-            detectionChecks += interfaceNames.size();
+            if (interfaceNames != null) {
+                detectionChecks += interfaceNames.size();
+            }
         }
 
         logger.trace("Performing {} presence detection checks for {}", detectionChecks, hostname);
@@ -378,15 +410,20 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
 
-        for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                performServicePing(pdv, tcpPort);
-            });
+        // TCP connection attempts don't block a thread, they are multiplexed by the ProbeEngine
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+        } else {
+            for (Integer tcpPort : tcpPorts) {
+                completableFutures.add(performServicePing(pdv, destinationAddress, tcpPort));
+            }
         }
 
         // ARP ping for IPv4 addresses. Use single executor for Windows tool and
         // each own executor for each network interface for other tools
-        if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
+        if (inArpTable) {
+            updateReachable(pdv, ARP_PING, Duration.ZERO);
+        } else if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
             addAsyncDetection(completableFutures, () -> {
                 performArpPing(pdv, "");
             });
@@ -484,20 +521,28 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
     }
 
-    protected void performServicePing(PresenceDetectionValue pdv, int tcpPort) {
+    /**
+     * Performs a TCP connection attempt on the given port. The returned future completes on the executor
+     * after the result has been processed.
+     *
+     * @param pdv the {@link PresenceDetectionValue} to update
+     * @param destinationAddress the resolved destination address
+     * @param tcpPort the TCP port
+     * @return a {@link CompletableFuture} completing after the connection attempt
+     */
+    protected CompletableFuture<Void> performServicePing(PresenceDetectionValue pdv, InetAddress destinationAddress,
+            int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeout);
-                if (pingResult.isSuccess()) {
-                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
-                }
-            } catch (IOException e) {
+        return networkUtils.servicePing(destinationAddress, tcpPort, timeout).handleAsync((pingResult, e) -> {
+            if (e != null) {
                 // This should not happen and might be a user configuration issue, we log a warning message therefore.
                 logger.warn("Could not create a socket connection", e);
+            } else if (pingResult.isSuccess()) {
+                updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
             }
-        });
+            return null;
+        }, executor);
     }
 
     /**
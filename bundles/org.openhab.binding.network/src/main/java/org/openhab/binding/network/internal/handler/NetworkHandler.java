@@ -219,6 +219,7 @@ public class NetworkHandler extends BaseThingHandler
             presenceDetection.setUseIcmpPing(config.useIcmpPing ? configuration.allowSystemPings : null);
             presenceDetection.setUseArpPing(config.useArpPing, configuration.arpPingToolPath,
                     configuration.arpPingUtilMethod);
+            presenceDetection.setUseArpTable(configuration.useArpTable);
         }
 
         this.retries = config.retry.intValue();
@@ -277,6 +278,7 @@ public class NetworkHandler extends BaseThingHandler
             PresenceDetection pd = presenceDetection;
             if (pd != null) {
                 pd.setPreferResponseTimeAsLatency(configuration.preferResponseTimeAsLatency);
+                pd.setUseArpTable(configuration.useArpTable);
             }
         }
     }
@@ -13,18 +13,13 @@
 package org.openhab.binding.network.internal.utils;
 
 import java.io.IOException;
-import java.net.ConnectException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.Inet4Address;
 import java.net.InetAddress;
-import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.NoRouteToHostException;
 import java.net.PortUnreachableException;
-import java.net.Socket;
 import java.net.SocketException;
-import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
@@ -37,6 +32,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -257,24 +253,29 @@ public class NetworkUtils {
     }
 
     /**
-     * Try to establish a TCP connection to the given port.
+     * Try to establish a TCP connection to the given port without blocking the calling thread.
+     * <p>
+     * The connection attempts of all hosts are multiplexed by the {@link ProbeEngine}.
      *
-     * @param host the IP or hostname
+     * @param address the IP address
      * @param port the TCP port. Must be not 0.
-     * @param timeout the timeout before the call aborts
-     * @return the {@link PingResult} of connecting to the given port
-     * @throws IOException if an error occurs during the connection
+     * @param timeout the timeout before the connection attempt is aborted
+     * @return a future for the {@link PingResult} of connecting to the given port, completed exceptionally if an
+     *         error occurs during the connection
      */
-    public PingResult servicePing(String host, int port, Duration timeout) throws IOException {
-        Instant execStartTime = Instant.now();
-        boolean success = false;
-        try (Socket socket = new Socket()) {
-            socket.connect(new InetSocketAddress(host, port), (int) timeout.toMillis());
-            success = true;
-        } catch (ConnectException | SocketTimeoutException | NoRouteToHostException e) {
-            logger.trace("Could not connect to {}:{} {}", host, port, e.getMessage());
-        }
-        return new PingResult(success, Duration.between(execStartTime, Instant.now()));
+    public CompletableFuture<PingResult> servicePing(InetAddress address, int port, Duration timeout) {
+        return ProbeEngine.getInstance().tcpProbe(address, port, timeout);
+    }
+
+    /**
+     * Checks if the hardware address of the given IP address is known to the operating system, without sending
+     * anything. This is only supported on Linux.
+     *
+     * @param address the IP address
+     * @return <code>true</code> if the ARP table contains a complete entry for the address
+     */
+    public boolean isInArpTable(InetAddress address) {
+        return ProbeEngine.getInstance().isInArpTable(address);
     }
 
     /**
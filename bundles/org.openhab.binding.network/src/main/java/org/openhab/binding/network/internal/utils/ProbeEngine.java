@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.cache.ExpiringCache;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A singleton performing the reachability probes of all presence detections, which don't need an external process.
+ * <p>
+ * TCP connection attempts are multiplexed over a single {@link Selector}, so a pending connection doesn't block a
+ * thread. The selector thread is started with the first probe and stops after being idle for a minute.
+ * <p>
+ * On Linux, the ARP table of the kernel is read from <code>/proc/net/arp</code> at most every
+ * {@link #ARP_TABLE_MAX_AGE}, so it can be used instead of starting an arping process for each host.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ProbeEngine {
+    private static final Duration ARP_TABLE_MAX_AGE = Duration.ofSeconds(10);
+    private static final Path ARP_TABLE_PATH = Path.of("/proc/net/arp");
+    // ATF_COM, the hardware address of the entry is known
+    private static final int ARP_FLAG_COMPLETE = 0x2;
+    private static final long IDLE_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final String THREAD_NAME = "binding-network-probe";
+
+    private static final ProbeEngine INSTANCE = new ProbeEngine();
+
+    private final Logger logger = LoggerFactory.getLogger(ProbeEngine.class);
+    private final NamedThreadFactory threadFactory = new NamedThreadFactory(THREAD_NAME, true);
+    private final Queue<TcpProbe> pendingProbes = new ConcurrentLinkedQueue<>();
+    private final ExpiringCache<Map<String, String>> arpTable = new ExpiringCache<>(ARP_TABLE_MAX_AGE,
+            this::readArpTable);
+
+    /** All access must be guarded by "this" */
+    private @Nullable Selector selector;
+
+    private class TcpProbe {
+        private final InetSocketAddress address;
+        private final SocketChannel channel;
+        private final long startTime = System.nanoTime();
+        private final long deadline;
+        private final CompletableFuture<PingResult> future = new CompletableFuture<>();
+
+        TcpProbe(InetSocketAddress address, SocketChannel channel, Duration timeout) {
+            this.address = address;
+            this.channel = channel;
+            this.deadline = startTime + timeout.toNanos();
+        }
+
+        void complete(boolean success) {
+            closeChannel();
+            future.complete(new PingResult(success, Duration.ofNanos(System.nanoTime() - startTime)));
+        }
+
+        void fail(IOException e) {
+            closeChannel();
+            future.completeExceptionally(e);
+        }
+
+        private void closeChannel() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.trace("Failed to close the connection to {}", address, e);
+            }
+        }
+    }
+
+    private ProbeEngine() {
+    }
+
+    public static ProbeEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Try to establish a TCP connection to the given port without blocking the calling thread.
+     * <p>
+     * The returned future is completed by the selector thread, so dependent actions should be executed
+     * asynchronously.
+     *
+     * @param address the IP address
+     * @param port the TCP port. Must be not 0.
+     * @param timeout the timeout before the connection attempt is aborted
+     * @return a future for the {@link PingResult} of connecting to the given port, completed exceptionally if an
+     *         unexpected error occurs
+     */
+    public CompletableFuture<PingResult> tcpProbe(InetAddress address, int port, Duration timeout) {
+        InetSocketAddress socketAddress = new InetSocketAddress(address, port);
+        SocketChannel channel;
+        try {
+            channel = SocketChannel.open();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        TcpProbe probe = new TcpProbe(socketAddress, channel, timeout);
+        try {
+            channel.configureBlocking(false);
+            if (channel.connect(socketAddress)) {
+                probe.complete(true);
+                return probe.future;
+            }
+            pendingProbes.add(probe);
+            wakeUpSelector();
+        } catch (ConnectException | NoRouteToHostException e) {
+            logger.trace("Could not connect to {} {}", socketAddress, e.getMessage());
+            probe.complete(false);
+        } catch (IOException e) {
+            probe.fail(e);
+        }
+        return probe.future;
+    }
+
+    /**
+     * Checks if the ARP table of the operating system contains a complete entry for the given address. This is only
+     * supported on Linux.
+     *
+     * @param address the IP address
+     * @return <code>true</code> if the hardware address of the given IPv4 address is known
+     */
+    public boolean isInArpTable(InetAddress address) {
+        if (!(address instanceof Inet4Address)) {
+            return false;
+        }
+        Map<String, String> arpTable = this.arpTable.getValue();
+        return arpTable != null && arpTable.containsKey(address.getHostAddress());
+    }
+
+    /**
+     * Reads the complete entries of the ARP table
+     *
+     * @return a map of IP addresses to their network interface names
+     */
+    private Map<String, String> readArpTable() {
+        Map<String, String> entries = new HashMap<>();
+        if (!Files.isReadable(ARP_TABLE_PATH)) {
+            return entries;
+        }
+        try {
+            List<String> lines = Files.readAllLines(ARP_TABLE_PATH);
+            // the first line is the header: IP address, HW type, Flags, HW address, Mask, Device
+            for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                String[] columns = line.trim().split("\\s+");
+                if (columns.length >= 6 && (Integer.decode(columns[2]) & ARP_FLAG_COMPLETE) != 0) {
+                    entries.put(columns[0], columns[5]);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Failed to read the ARP table: {}", e.getMessage());
+        }
+        logger.trace("Read {} complete entries from the ARP table", entries.size());
+        return entries;
+    }
+
+    private synchronized void wakeUpSelector() throws IOException {
+        Selector selector = this.selector;
+        if (selector == null) {
+            Selector newSelector = Selector.open();
+            this.selector = newSelector;
+            threadFactory.newThread(() -> runSelector(newSelector)).start();
+            selector = newSelector;
+        }
+        selector.wakeup();
+    }
+
+    private void runSelector(Selector selector) {
+        long idleSince = System.nanoTime();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                registerPendingProbes(selector);
+
+                long now = System.nanoTime();
+                long timeoutMs = expireProbes(selector, now);
+                if (selector.keys().stream().noneMatch(SelectionKey::isValid)) {
+                    if (TimeUnit.NANOSECONDS.toMillis(now - idleSince) >= IDLE_TIMEOUT_MS && stopIfIdle(selector)) {
+                        return;
+                    }
+                } else {
+                    idleSince = now;
+                }
+
+                selector.select(Math.max(1, timeoutMs));
+
+                for (SelectionKey key : selector.selectedKeys()) {
+                    TcpProbe probe = (TcpProbe) key.attachment();
+                    key.cancel();
+                    try {
+                        probe.complete(probe.channel.finishConnect());
+                    } catch (IOException e) {
+                        logger.trace("Could not connect to {} {}", probe.address, e.getMessage());
+                        probe.complete(false);
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("The TCP probe selector failed: {}", e.getMessage());
+            logger.trace("", e);
+        }
+        // only reached if the selector failed, let the next probe start a new one
+        synchronized (this) {
+            if (this.selector == selector) {
+                this.selector = null;
+            }
+        }
+        selector.keys().forEach(key -> ((TcpProbe) key.attachment()).complete(false));
+        pendingProbes.forEach(probe -> probe.complete(false));
+        pendingProbes.clear();
+        closeSelector(selector);
+    }
+
+    private void registerPendingProbes(Selector selector) {
+        TcpProbe probe;
+        while ((probe = pendingProbes.poll()) != null) {
+            try {
+                probe.channel.register(selector, SelectionKey.OP_CONNECT, probe);
+            } catch (IOException e) {
+                probe.fail(e);
+            }
+        }
+    }
+
+    /**
+     * Aborts all probes that exceeded their timeout
+     *
+     * @return the time in ms until the next probe times out
+     */
+    private long expireProbes(Selector selector, long now) {
+        long nextDeadline = TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT_MS);
+        for (SelectionKey key : selector.keys()) {
+            if (!key.isValid()) {
+                continue;
+            }
+            TcpProbe probe = (TcpProbe) key.attachment();
+            long remaining = probe.deadline - now;
+            if (remaining <= 0) {
+                logger.trace("Connecting to {} timed out", probe.address);
+                key.cancel();
+                probe.complete(false);
+            } else {
+                nextDeadline = Math.min(nextDeadline, remaining);
+            }
+        }
+        return TimeUnit.NANOSECONDS.toMillis(nextDeadline);
+    }
+
+    private synchronized boolean stopIfIdle(Selector selector) {
+        if (!pendingProbes.isEmpty()) {
+            return false;
+        }
+        this.selector = null;
+        closeSelector(selector);
+        logger.trace("Stopped idle TCP probe selector");
+        return true;
+    }
+
+    private void closeSelector(Selector selector) {
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.trace("Failed to close the TCP probe selector", e);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -126,13 +127,14 @@ public class PresenceDetectionTest {
         doNothing().when(subject).performArpPing(any(), any());
         doNothing().when(subject).performJavaPing(any());
         doNothing().when(subject).performSystemPing(any());
-        doNothing().when(subject).performServicePing(any(), anyInt());
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performServicePing(any(), any(), anyInt());
 
         subject.getValue(callback -> {
             // No-op callback
         });
 
-        // Thread count: ARP + ICMP + 1*TCP + task completion watcher = 4
+        // Thread count: destination lookup + ARP + ICMP + task completion watcher = 4, TCP connection attempts don't
+        // need a thread
         assertThat(countingExecutor.count, is(4));
     }
 
@@ -142,7 +144,8 @@ public class PresenceDetectionTest {
         doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
         doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
                 anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(networkUtils).servicePing(any(), anyInt(),
+                any());
 
         subject.performPresenceDetection();
 
@@ -152,7 +155,7 @@ public class PresenceDetectionTest {
         verify(subject, times(0)).performJavaPing(any());
         verify(subject).performSystemPing(any());
         verify(subject).performArpPing(any(), any());
-        verify(subject).performServicePing(any(), anyInt());
+        verify(subject).performServicePing(any(), any(), anyInt());
 
         verify(listener, times(3)).partialDetectionResult(any());
         ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
@@ -161,13 +164,36 @@ public class PresenceDetectionTest {
         assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
     }
 
+    @Test
+    public void arpTableTest() {
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(networkUtils).servicePing(any(), anyInt(),
+                any());
+        doReturn(true).when(networkUtils).isInArpTable(any());
+
+        subject.setUseArpTable(true);
+        subject.performPresenceDetection();
+
+        assertThat(subject.detectionChecks, is(3));
+
+        // The ARP table entry replaces the ARP ping
+        verify(subject, never()).performArpPing(any(), any());
+        verify(listener, times(3)).partialDetectionResult(any());
+        ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener, times(1)).finalDetectionResult(pdvCapture.capture());
+
+        assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
+    }
+
     @Test
     public void cacheTest() throws InterruptedException, IOException {
         PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
         doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
         doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
                 anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(networkUtils).servicePing(any(), anyInt(),
+                any());
 
         // We expect no valid value
         assertTrue(asyncSubject.cache.isExpired());
@@ -14,9 +14,9 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,15 +24,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -56,6 +55,8 @@ import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.InfluxPointLog;
+import org.openhab.persistence.influxdb.internal.InfluxPointQueue;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
 import org.osgi.framework.Constants;
@@ -99,6 +100,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     private static final int COMMIT_INTERVAL = 3; // in s
     protected static final String CONFIG_URI = "persistence:influxdb";
+    private static final Path DISK_BUFFER_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb");
 
     // External dependencies
     private final ItemRegistry itemRegistry;
@@ -110,7 +112,9 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    // the queue supports a single reader, the store job and the final commit on deactivation must not overlap
+    private final Object commitLock = new Object();
+    private final InfluxPointQueue pointsQueue;
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -123,6 +127,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
         if (configuration.isValid()) {
+            this.pointsQueue = createPointsQueue();
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
             this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
@@ -135,6 +140,16 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         logger.info("InfluxDB persistence service started.");
     }
 
+    // Visible for testing
+    protected InfluxPointQueue createPointsQueue() {
+        int diskBufferSize = configuration.getDiskBufferSize();
+        InfluxPointLog log = diskBufferSize > 0
+                ? new InfluxPointLog(DISK_BUFFER_FOLDER, diskBufferSize * 1024L * 1024L,
+                        InfluxPointLog.DEFAULT_SEGMENT_SIZE)
+                : null;
+        return new InfluxPointQueue(configuration.getMaxQueueSize(), log);
+    }
+
     // Visible for testing
     protected InfluxDBRepository createInfluxDBRepository() throws IllegalArgumentException {
         return switch (configuration.getVersion()) {
@@ -152,10 +167,14 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         serviceActivated = false;
 
         storeJob.cancel(false);
-        commit(); // ensure we at least tried to store the data;
-
-        if (!pointsQueue.isEmpty()) {
-            logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
+        commit(); // ensure we at least tried to store the data, waits for a running store job
+
+        long buffered = pointsQueue.size();
+        int lost = pointsQueue.close();
+        if (lost > 0) {
+            logger.warn("InfluxDB failed to finally store {} points.", lost);
+        } else if (buffered > 0) {
+            logger.info("InfluxDB buffered {} points on disk, they will be stored after restart.", buffered);
         }
 
         influxDBRepository.disconnect();
@@ -209,11 +228,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item.getName());
                 return;
             }
-            if (pointsQueue.offer(point)) {
-                logger.trace("Queued {} for item {}", point, item);
-            } else {
-                logger.warn("Failed to queue {} for item {}", point, item);
-            }
+            pointsQueue.add(point);
+            logger.trace("Queued {} for item {}", point, item);
         });
     }
 
@@ -284,14 +300,24 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     }
 
     private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
-                influxDBRepository.disconnect();
-            } else {
+        synchronized (commitLock) {
+            // points buffered on disk since the last commit must survive a crash, even if InfluxDB is not available
+            pointsQueue.flush();
+            if (pointsQueue.isEmpty() || !checkConnection()) {
+                return;
+            }
+            // write in batches of limited size, a large backlog is replayed in several requests
+            List<InfluxPoint> points;
+            while (!(points = pointsQueue.peek(configuration.getMaxBatchSize())).isEmpty()) {
+                if (!influxDBRepository.write(points)) {
+                    logger.warn("Failed to write batch of {} elements, keeping {} elements queued.", points.size(),
+                            pointsQueue.size());
+                    // make sure the pending points survive a restart
+                    pointsQueue.spill();
+                    influxDBRepository.disconnect();
+                    return;
+                }
+                pointsQueue.acknowledge();
                 logger.trace("Wrote {} elements to database", points.size());
             }
         }
@@ -39,6 +39,9 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String MAX_QUEUE_SIZE_PARAM = "maxQueueSize";
+    public static final String MAX_BATCH_SIZE_PARAM = "maxBatchSize";
+    public static final String DISK_BUFFER_SIZE_PARAM = "diskBufferSize";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +54,9 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int maxQueueSize;
+    private final int maxBatchSize;
+    private final int diskBufferSize;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +70,9 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        maxQueueSize = Math.max(ConfigParser.valueAsOrElse(config.get(MAX_QUEUE_SIZE_PARAM), Integer.class, 10000), 1);
+        maxBatchSize = Math.max(ConfigParser.valueAsOrElse(config.get(MAX_BATCH_SIZE_PARAM), Integer.class, 5000), 1);
+        diskBufferSize = Math.max(ConfigParser.valueAsOrElse(config.get(DISK_BUFFER_SIZE_PARAM), Integer.class, 0), 0);
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -154,12 +163,28 @@ public class InfluxDBConfiguration {
         return version;
     }
 
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum size of the disk buffer in MB, 0 if disabled
+     */
+    public int getDiskBufferSize() {
+        return diskBufferSize;
+    }
+
     @Override
     public String toString() {
         return "InfluxDBConfiguration{url='" + url + "', user='" + user + "', password='" + password.length()
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", maxQueueSize=" + maxQueueSize + ", maxBatchSize=" + maxBatchSize
+                + ", diskBufferSize=" + diskBufferSize + '}';
     }
 }
@@ -0,0 +1,554 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only log of {@link InfluxPoint}s on disk, used for buffering points that could not be written to the
+ * database.
+ *
+ * The log consists of segment files of a limited size. Each segment starts with the position of the first unread
+ * record, followed by the records (length, CRC32 and serialized point). Points are read in the order they were
+ * written and the read position is only advanced when a batch has been acknowledged, so points are not lost if
+ * openHAB is stopped before they have been written to the database. Changes are written to the file system
+ * immediately, but only guaranteed to be on disk after {@link #flush()}, which is called periodically by the owner
+ * of the log. If the configured maximum size is exceeded, the oldest segment is dropped.
+ *
+ * The class is not thread-safe, access is synchronized by {@link InfluxPointQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointLog {
+    public static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final long FIRST_SEQUENCE = 1_000_000_000L;
+    private static final int HEADER_SIZE = Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_DECIMAL = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxPointLog.class);
+
+    private final Path directory;
+    private final long maxSize;
+    private final int segmentSize;
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private long size;
+
+    // the result of the last peek, committed by acknowledge()
+    private @Nullable Segment pendingSegment;
+    private int pendingPosition;
+    private int pendingCount;
+
+    /**
+     * Create a log and load the segments already present in the directory.
+     *
+     * @param directory the directory containing the segment files, created when needed
+     * @param maxSize the maximum size of all segments in bytes
+     * @param segmentSize the size of a single segment in bytes
+     */
+    public InfluxPointLog(Path directory, long maxSize, int segmentSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.segmentSize = segmentSize;
+        open();
+    }
+
+    /**
+     * @return the number of unread points
+     */
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Append points to the end of the log.
+     *
+     * @throws IOException if a new segment could not be created
+     */
+    public void append(List<InfluxPoint> points) throws IOException {
+        for (InfluxPoint point : points) {
+            byte[] record = encode(point);
+            if (!fits(record)) {
+                continue;
+            }
+            Map.Entry<Long, Segment> last = segments.lastEntry();
+            Segment segment = last != null ? last.getValue() : null;
+            if (segment == null || !segment.hasSpace(record.length)) {
+                segment = createSegment(last != null ? last.getKey() + 1 : FIRST_SEQUENCE);
+            }
+            segment.write(record);
+            size++;
+        }
+        dropOldestSegments();
+    }
+
+    /**
+     * Insert points before all points already present in the log.
+     *
+     * @throws IOException if a new segment could not be created
+     */
+    public void prepend(List<InfluxPoint> points) throws IOException {
+        if (segments.isEmpty()) {
+            append(points);
+            return;
+        }
+
+        // split the records into segments first, as segments are created backwards from the first one
+        List<List<byte[]>> chunks = new ArrayList<>();
+        List<byte[]> chunk = new ArrayList<>();
+        int chunkSize = HEADER_SIZE;
+        for (InfluxPoint point : points) {
+            byte[] record = encode(point);
+            if (!fits(record)) {
+                continue;
+            }
+            if (chunkSize + RECORD_HEADER_SIZE + record.length > segmentSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkSize = HEADER_SIZE;
+            }
+            chunk.add(record);
+            chunkSize += RECORD_HEADER_SIZE + record.length;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        long sequence = segments.firstKey() - chunks.size();
+        for (List<byte[]> records : chunks) {
+            Segment segment = createSegment(sequence++);
+            for (byte[] record : records) {
+                segment.write(record);
+                size++;
+            }
+        }
+        dropOldestSegments();
+    }
+
+    /**
+     * Read the next points without removing them from the log. All points are read from the same segment.
+     *
+     * @param maxPoints the maximum number of points returned
+     * @return the points or an empty list if the log is empty
+     */
+    public List<InfluxPoint> peek(int maxPoints) {
+        pendingSegment = null;
+        for (Segment segment : segments.values()) {
+            if (segment.count == 0) {
+                continue;
+            }
+            List<InfluxPoint> points = new ArrayList<>();
+            int position = segment.readPosition;
+            int count = 0;
+            while (count < maxPoints && position < segment.writePosition) {
+                byte[] bytes;
+                try {
+                    bytes = segment.read(position);
+                } catch (IOException e) {
+                    logger.warn("Failed to read buffered points from {}: {}", segment.path, e.getMessage());
+                    return List.of();
+                }
+                position += RECORD_HEADER_SIZE + bytes.length;
+                count++;
+                try {
+                    points.add(decode(bytes));
+                } catch (IOException | RuntimeException e) {
+                    logger.warn("Skipping unreadable point in {}: {}", segment.path, e.getMessage());
+                }
+            }
+            pendingSegment = segment;
+            pendingPosition = position;
+            pendingCount = count;
+            if (!points.isEmpty()) {
+                return points;
+            }
+            // only unreadable points, skip them
+            acknowledge();
+            return peek(maxPoints);
+        }
+        return List.of();
+    }
+
+    /**
+     * Remove the points returned by the last call of {@link #peek(int)} from the log.
+     */
+    public void acknowledge() {
+        Segment segment = pendingSegment;
+        pendingSegment = null;
+        if (segment == null || segments.get(segment.sequence) != segment) {
+            // nothing pending or the segment has been dropped in the meantime
+            return;
+        }
+        try {
+            segment.writeReadPosition(pendingPosition);
+        } catch (IOException e) {
+            // the points are read again after a restart
+            logger.debug("Failed to update read position of {}: {}", segment.path, e.getMessage());
+        }
+        segment.count -= pendingCount;
+        size -= pendingCount;
+
+        if (size == 0) {
+            // everything has been read, start over with a fresh segment
+            segments.values().forEach(this::deleteSegment);
+            segments.clear();
+        } else if (segment.count == 0 && segment.sequence != segments.lastKey()) {
+            segments.remove(segment.sequence);
+            deleteSegment(segment);
+        }
+    }
+
+    /**
+     * Make sure all changes since the last flush are stored on disk.
+     */
+    public void flush() {
+        for (Segment segment : segments.values()) {
+            if (segment.dirty) {
+                try {
+                    segment.channel.force(false);
+                    segment.dirty = false;
+                } catch (IOException e) {
+                    logger.warn("Failed to flush {}: {}", segment.path, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Flush all segments to disk and release them.
+     */
+    public void close() {
+        flush();
+        segments.values().forEach(this::closeChannel);
+        segments.clear();
+        pendingSegment = null;
+    }
+
+    private void open() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                long sequence;
+                try {
+                    sequence = Long.parseLong(
+                            fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+                } catch (NumberFormatException e) {
+                    logger.debug("Ignoring unexpected file {}", path);
+                    continue;
+                }
+                Segment segment;
+                try {
+                    segment = openSegment(path, sequence, false);
+                } catch (IOException e) {
+                    logger.warn("Failed to load buffered points from {}: {}", path, e.getMessage());
+                    continue;
+                }
+                if (segment.count == 0) {
+                    deleteSegment(segment);
+                } else {
+                    segments.put(sequence, segment);
+                    size += segment.count;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to load buffered points from {}: {}", directory, e.getMessage());
+        }
+        if (size > 0) {
+            logger.info("Found {} buffered points in {}, they will be written when InfluxDB is available.", size,
+                    directory);
+        }
+    }
+
+    private Segment createSegment(long sequence) throws IOException {
+        Files.createDirectories(directory);
+        Path path = directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+        Files.deleteIfExists(path);
+        Segment segment = openSegment(path, sequence, true);
+        segments.put(sequence, segment);
+        return segment;
+    }
+
+    private Segment openSegment(Path path, long sequence, boolean create) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        Segment segment = new Segment(sequence, path, channel, segmentSize);
+        try {
+            if (create) {
+                segment.writeReadPosition(HEADER_SIZE);
+            } else {
+                segment.scan();
+            }
+        } catch (IOException e) {
+            closeChannel(segment);
+            throw e;
+        }
+        return segment;
+    }
+
+    private boolean fits(byte[] record) {
+        if (HEADER_SIZE + RECORD_HEADER_SIZE + record.length > segmentSize) {
+            logger.warn("Dropping point of {} bytes, it exceeds the segment size.", record.length);
+            return false;
+        }
+        return true;
+    }
+
+    private void dropOldestSegments() {
+        while (segments.size() > 1 && (long) segments.size() * segmentSize > maxSize) {
+            Segment segment = segments.remove(segments.firstKey());
+            if (segment == null) {
+                break;
+            }
+            logger.warn("Disk buffer size exceeded, dropping {} buffered points.", segment.count);
+            size -= segment.count;
+            deleteSegment(segment);
+        }
+    }
+
+    private void deleteSegment(Segment segment) {
+        closeChannel(segment);
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            logger.debug("Failed to delete {}: {}", segment.path, e.getMessage());
+        }
+    }
+
+    private void closeChannel(Segment segment) {
+        try {
+            segment.channel.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close {}: {}", segment.path, e.getMessage());
+        }
+    }
+
+    private static byte[] encode(InfluxPoint point) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, point.getMeasurementName());
+        out.writeLong(point.getTime().getEpochSecond());
+        out.writeInt(point.getTime().getNano());
+        switch (point.getValue()) {
+            case BigDecimal value -> {
+                out.writeByte(TYPE_DECIMAL);
+                writeString(out, value.toString());
+            }
+            case Long value -> {
+                out.writeByte(TYPE_LONG);
+                out.writeLong(value);
+            }
+            case Integer value -> {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt(value);
+            }
+            case Double value -> {
+                out.writeByte(TYPE_DOUBLE);
+                out.writeDouble(value);
+            }
+            case Boolean value -> {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean(value);
+            }
+            case Object value -> {
+                out.writeByte(TYPE_STRING);
+                writeString(out, value.toString());
+            }
+        }
+        Map<String, String> tags = point.getTags();
+        out.writeInt(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            writeString(out, tag.getKey());
+            writeString(out, tag.getValue());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static InfluxPoint decode(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        InfluxPoint.Builder builder = InfluxPoint.newBuilder(readString(in));
+        builder.withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+        byte type = in.readByte();
+        builder.withValue(switch (type) {
+            case TYPE_DECIMAL -> new BigDecimal(readString(in));
+            case TYPE_LONG -> in.readLong();
+            case TYPE_INTEGER -> in.readInt();
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_BOOLEAN -> in.readBoolean();
+            case TYPE_STRING -> readString(in);
+            default -> throw new IOException("Unknown value type " + type);
+        });
+        int tagCount = in.readInt();
+        for (int i = 0; i < tagCount; i++) {
+            builder.withTag(readString(in), readString(in));
+        }
+        return builder.build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private static class Segment {
+        private final long sequence;
+        private final Path path;
+        private final FileChannel channel;
+        private final int capacity;
+        private int readPosition = HEADER_SIZE;
+        private int writePosition = HEADER_SIZE;
+        private int count;
+        // whether there are changes which have not been forced to disk yet
+        private boolean dirty;
+
+        private Segment(long sequence, Path path, FileChannel channel, int capacity) {
+            this.sequence = sequence;
+            this.path = path;
+            this.channel = channel;
+            this.capacity = capacity;
+        }
+
+        private boolean hasSpace(int length) {
+            return writePosition + RECORD_HEADER_SIZE + length <= capacity;
+        }
+
+        private void write(byte[] record) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + record.length);
+            buffer.putInt(record.length).putInt(checksum(record)).put(record).flip();
+            writeFully(buffer, writePosition);
+            writePosition += buffer.capacity();
+            count++;
+        }
+
+        private byte[] read(int position) throws IOException {
+            ByteBuffer header = readFully(position, RECORD_HEADER_SIZE);
+            return readFully(position + RECORD_HEADER_SIZE, header.getInt(0)).array();
+        }
+
+        private void writeReadPosition(int position) throws IOException {
+            writeFully(ByteBuffer.allocate(HEADER_SIZE).putLong(0, position), 0);
+            readPosition = position;
+        }
+
+        /**
+         * Determine the read and write position of an existing segment. Incomplete or corrupted records at the end
+         * of the segment, e.g. from a crash during a write, are removed.
+         */
+        private void scan() throws IOException {
+            int fileSize = (int) Math.min(channel.size(), Integer.MAX_VALUE);
+            if (fileSize < HEADER_SIZE) {
+                writePosition = fileSize;
+                readPosition = writePosition;
+                return;
+            }
+            ByteBuffer buffer = readFully(0, fileSize);
+            long storedReadPosition = buffer.getLong(0);
+            int position = HEADER_SIZE;
+            while (position + RECORD_HEADER_SIZE <= fileSize) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || position + RECORD_HEADER_SIZE + length > fileSize) {
+                    break;
+                }
+                byte[] bytes = new byte[length];
+                buffer.get(position + RECORD_HEADER_SIZE, bytes);
+                if (checksum(bytes) != buffer.getInt(position + Integer.BYTES)) {
+                    break;
+                }
+                if (position >= storedReadPosition) {
+                    count++;
+                }
+                position += RECORD_HEADER_SIZE + length;
+            }
+            if (position < fileSize) {
+                // new records are appended at the end of the valid records
+                channel.truncate(position);
+            }
+            writePosition = position;
+            readPosition = (int) Math.min(Math.max(storedReadPosition, HEADER_SIZE), writePosition);
+        }
+
+        private void writeFully(ByteBuffer buffer, long position) throws IOException {
+            long offset = position;
+            while (buffer.hasRemaining()) {
+                offset += channel.write(buffer, offset);
+            }
+            dirty = true;
+        }
+
+        private ByteBuffer readFully(long position, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            long offset = position;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, offset);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of file at position " + offset);
+                }
+                offset += read;
+            }
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queue of {@link InfluxPoint}s waiting to be written to the database.
+ *
+ * Points are kept in memory up to the configured capacity. Further points, and points that could not be written,
+ * are moved to an optional {@link InfluxPointLog} on disk. As long as the log contains points, new points are
+ * appended to the log too, so points are always returned in the order they have been added.
+ *
+ * Points are read in batches with {@link #peek(int)} and only removed when the batch has been written and
+ * {@link #acknowledge()} is called. Reading is expected to be done by a single thread.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointQueue {
+    private final Logger logger = LoggerFactory.getLogger(InfluxPointQueue.class);
+
+    private final int capacity;
+    private final @Nullable InfluxPointLog log;
+    private final Deque<InfluxPoint> memory = new ArrayDeque<>();
+
+    private boolean pendingFromLog;
+    private int pendingCount;
+    private boolean overflowReported;
+
+    /**
+     * @param capacity the maximum number of points kept in memory
+     * @param log the log for points exceeding the capacity, <code>null</code> if these points should be dropped
+     */
+    public InfluxPointQueue(int capacity, @Nullable InfluxPointLog log) {
+        this.capacity = capacity;
+        this.log = log;
+    }
+
+    public synchronized void add(InfluxPoint point) {
+        InfluxPointLog log = this.log;
+        if (log != null && (!log.isEmpty() || memory.size() >= capacity)) {
+            try {
+                log.append(List.of(point));
+                return;
+            } catch (IOException e) {
+                reportOverflow("Failed to buffer points on disk: {}", e.getMessage());
+            }
+        }
+        if (memory.size() < capacity) {
+            memory.add(point);
+        } else {
+            reportOverflow("Queue is full, dropping points until InfluxDB is available again.");
+        }
+    }
+
+    /**
+     * Get the next points without removing them from the queue.
+     *
+     * @param maxPoints the maximum number of points returned
+     * @return the points or an empty list if the queue is empty
+     */
+    public synchronized List<InfluxPoint> peek(int maxPoints) {
+        InfluxPointLog log = this.log;
+        if (!memory.isEmpty() || log == null) {
+            List<InfluxPoint> points = memory.stream().limit(maxPoints).toList();
+            pendingFromLog = false;
+            pendingCount = points.size();
+            return points;
+        }
+        pendingFromLog = true;
+        pendingCount = 0;
+        return log.peek(maxPoints);
+    }
+
+    /**
+     * Remove the points returned by the last call of {@link #peek(int)} from the queue.
+     */
+    public synchronized void acknowledge() {
+        InfluxPointLog log = this.log;
+        if (pendingFromLog && log != null) {
+            log.acknowledge();
+        } else {
+            for (int i = 0; i < pendingCount; i++) {
+                memory.poll();
+            }
+        }
+        pendingFromLog = false;
+        pendingCount = 0;
+        if (isEmpty()) {
+            overflowReported = false;
+        }
+    }
+
+    /**
+     * Move all points kept in memory to the log, so they are not lost if openHAB is stopped. The points are placed
+     * before the points already present in the log, as they have been added earlier.
+     */
+    public synchronized void spill() {
+        InfluxPointLog log = this.log;
+        pendingFromLog = false;
+        pendingCount = 0;
+        if (log == null || memory.isEmpty()) {
+            return;
+        }
+        try {
+            log.prepend(new ArrayList<>(memory));
+            log.flush();
+            logger.debug("Moved {} points to the disk buffer.", memory.size());
+            memory.clear();
+        } catch (IOException e) {
+            logger.warn("Failed to buffer {} points on disk: {}", memory.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Make sure the points in the log are stored on disk.
+     */
+    public synchronized void flush() {
+        InfluxPointLog log = this.log;
+        if (log != null) {
+            log.flush();
+        }
+    }
+
+    public synchronized long size() {
+        InfluxPointLog log = this.log;
+        return memory.size() + (log != null ? log.size() : 0);
+    }
+
+    public synchronized boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Move all points kept in memory to the log and close it.
+     *
+     * @return the number of points that are lost, because they could not be moved to the log
+     */
+    public synchronized int close() {
+        spill();
+        InfluxPointLog log = this.log;
+        if (log != null) {
+            log.close();
+        }
+        return memory.size();
+    }
+
+    private void reportOverflow(String message, @Nullable Object... arguments) {
+        if (!overflowReported) {
+            logger.warn(message, arguments);
+            overflowReported = true;
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.influxdb;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -23,11 +24,13 @@ import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.UR
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.USER_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.VERSION_PARAM;
 
+import java.nio.file.Path;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -37,6 +40,8 @@ import org.openhab.core.items.MetadataRegistry;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBVersion;
+import org.openhab.persistence.influxdb.internal.InfluxPointLog;
+import org.openhab.persistence.influxdb.internal.InfluxPointQueue;
 import org.openhab.persistence.influxdb.internal.ItemTestHelper;
 import org.openhab.persistence.influxdb.internal.UnexpectedConditionException;
 
@@ -75,6 +80,7 @@ public class InfluxDBPersistenceServiceTest {
             RETENTION_POLICY_PARAM, "default");
 
     private @Mock @NonNullByDefault({}) InfluxDBRepository influxDBRepositoryMock;
+    private @TempDir @NonNullByDefault({}) Path tempDir;
 
     private final InfluxDBMetadataService influxDBMetadataService = new InfluxDBMetadataService(
             mock(MetadataRegistry.class));
@@ -124,8 +130,32 @@ public class InfluxDBPersistenceServiceTest {
         verify(influxDBRepositoryMock, never()).write(any());
     }
 
+    @Test
+    public void pointsAreBufferedOnDiskIfWriteFails() throws UnexpectedConditionException {
+        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION,
+                new InfluxPointQueue(100, new InfluxPointLog(tempDir, 1024 * 1024, 4096)));
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(influxDBRepositoryMock.write(any())).thenReturn(false);
+        instance.store(ItemTestHelper.createNumberItem("number", 5));
+        verify(influxDBRepositoryMock, timeout(5000)).write(any());
+        instance.deactivate();
+
+        InfluxPointQueue restarted = new InfluxPointQueue(100, new InfluxPointLog(tempDir, 1024 * 1024, 4096));
+        assertEquals(1, restarted.size());
+        restarted.close();
+    }
+
     private InfluxDBPersistenceService getService(Map<String, Object> config) {
+        return getService(config, new InfluxPointQueue(100, null));
+    }
+
+    private InfluxDBPersistenceService getService(Map<String, Object> config, InfluxPointQueue pointsQueue) {
         return new InfluxDBPersistenceService(mock(ItemRegistry.class), influxDBMetadataService, config) {
+            @Override
+            protected InfluxPointQueue createPointsQueue() {
+                return pointsQueue;
+            }
+
             @Override
             protected InfluxDBRepository createInfluxDBRepository() {
                 return influxDBRepositoryMock;
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointQueueTest {
+    private static final int SEGMENT_SIZE = 4096;
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    private static InfluxPoint point(int i) {
+        return InfluxPoint.newBuilder("measurement").withTime(Instant.ofEpochSecond(1_700_000_000L + i, 123))
+                .withValue(new BigDecimal(i)).withTag(InfluxDBConstants.TAG_ITEM_NAME, "item").build();
+    }
+
+    private static List<Object> values(List<InfluxPoint> points) {
+        return points.stream().map(InfluxPoint::getValue).toList();
+    }
+
+    private static Object[] values(int from, int to) {
+        return IntStream.range(from, to).mapToObj(BigDecimal::new).toArray();
+    }
+
+    private InfluxPointLog createLog(long maxSize) {
+        return new InfluxPointLog(tempDir, maxSize, SEGMENT_SIZE);
+    }
+
+    @Test
+    public void pointsAreKeptUntilAcknowledged() {
+        InfluxPointQueue queue = new InfluxPointQueue(10, null);
+        IntStream.range(0, 5).forEach(i -> queue.add(point(i)));
+
+        assertThat(values(queue.peek(3)), contains(values(0, 3)));
+        assertThat(values(queue.peek(3)), contains(values(0, 3)));
+        queue.acknowledge();
+        assertThat(values(queue.peek(3)), contains(values(3, 5)));
+        queue.acknowledge();
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    public void pointsExceedingCapacityAreDroppedWithoutLog() {
+        InfluxPointQueue queue = new InfluxPointQueue(3, null);
+        IntStream.range(0, 5).forEach(i -> queue.add(point(i)));
+
+        assertThat(queue.size(), is(3L));
+        assertThat(values(queue.peek(10)), contains(values(0, 3)));
+    }
+
+    @Test
+    public void pointsExceedingCapacityAreAppendedToLogInOrder() {
+        InfluxPointQueue queue = new InfluxPointQueue(3, createLog(1024 * 1024));
+        IntStream.range(0, 200).forEach(i -> queue.add(point(i)));
+
+        assertThat(queue.size(), is(200L));
+        // memory holds the oldest points
+        assertThat(values(queue.peek(10)), contains(values(0, 3)));
+        queue.acknowledge();
+        // as long as the log is not empty, new points are appended to the log
+        queue.add(point(200));
+
+        int next = 3;
+        List<InfluxPoint> points;
+        while (!(points = queue.peek(50)).isEmpty()) {
+            assertThat(values(points), contains(values(next, next + points.size())));
+            next += points.size();
+            queue.acknowledge();
+        }
+        assertThat(next, is(201));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    public void spilledPointsAreReplayedAfterRestart() {
+        InfluxPointQueue queue = new InfluxPointQueue(100, createLog(1024 * 1024));
+        IntStream.range(0, 10).forEach(i -> queue.add(point(i)));
+        assertThat(values(queue.peek(4)), contains(values(0, 4)));
+        queue.acknowledge();
+        // a failed write moves the remaining points to disk
+        queue.peek(4);
+        queue.spill();
+        queue.add(point(10));
+        assertThat(queue.close(), is(0));
+
+        InfluxPointQueue restarted = new InfluxPointQueue(100, createLog(1024 * 1024));
+        assertThat(restarted.size(), is(7L));
+        assertThat(values(restarted.peek(3)), contains(values(4, 7)));
+        restarted.acknowledge();
+        restarted.close();
+
+        InfluxPointQueue restartedAgain = new InfluxPointQueue(100, createLog(1024 * 1024));
+        assertThat(values(restartedAgain.peek(100)), contains(values(7, 11)));
+        InfluxPoint point = restartedAgain.peek(1).get(0);
+        assertThat(point.getMeasurementName(), is("measurement"));
+        assertThat(point.getTime(), is(Instant.ofEpochSecond(1_700_000_007L, 123)));
+        assertThat(point.getTags(), hasEntry(InfluxDBConstants.TAG_ITEM_NAME, "item"));
+    }
+
+    @Test
+    public void oldestSegmentsAreDroppedWhenLogIsFull() {
+        InfluxPointQueue queue = new InfluxPointQueue(1, createLog(2 * SEGMENT_SIZE));
+        IntStream.range(0, 1000).forEach(i -> queue.add(point(i)));
+
+        assertThat(queue.size(), is(lessThan(1000L)));
+        List<InfluxPoint> points = queue.peek(1);
+        assertThat(points.get(0).getValue(), is(new BigDecimal(0)));
+        queue.acknowledge();
+        // the remaining points are the newest ones
+        List<Object> remaining = new ArrayList<>();
+        while (!(points = queue.peek(100)).isEmpty()) {
+            remaining.addAll(values(points));
+            queue.acknowledge();
+        }
+        assertThat(remaining.get(remaining.size() - 1), is(new BigDecimal(999)));
+        assertThat(remaining, not(hasItem(new BigDecimal(1))));
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link CompactPersistItem} stores the values of {@link DecimalType}, {@link QuantityType} and {@link OnOffType}
+ * items in primitive ring buffers (epoch milliseconds and the numeric value or switch state). {@link State}s are only
+ * created when the values are read.
+ * <p>
+ * Values are stored with double precision and timestamps with millisecond precision. All timestamps are returned in
+ * the time-zone of the first stored value and all {@link QuantityType}s in the unit of the first stored value.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class CompactPersistItem extends PersistItem {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private enum Kind {
+        DECIMAL,
+        QUANTITY,
+        ON_OFF
+    }
+
+    private final Kind kind;
+    private final @Nullable Unit<?> unit;
+    private final ZoneId zoneId;
+
+    // ring buffers, the logical index i is stored at (head + i) % capacity, entries are sorted by timestamp
+    private long[] timestamps;
+    private double[] values;
+    private byte[] switches;
+    private int capacity;
+    private int head = 0;
+    private int size = 0;
+    // incremented whenever the logical index of stored entries changes
+    private int modCount = 0;
+
+    private CompactPersistItem(Kind kind, @Nullable Unit<?> unit, ZoneId zoneId) {
+        this.kind = kind;
+        this.unit = unit;
+        this.zoneId = zoneId;
+        this.capacity = INITIAL_CAPACITY;
+        this.timestamps = new long[capacity];
+        this.values = kind == Kind.ON_OFF ? new double[0] : new double[capacity];
+        this.switches = kind == Kind.ON_OFF ? new byte[capacity] : new byte[0];
+    }
+
+    /**
+     * Create a {@link CompactPersistItem} for the given state
+     *
+     * @param timestamp the timestamp of the first value
+     * @param state the first value
+     * @return a new {@link CompactPersistItem} or {@code null} if the state can't be stored in a compact way
+     */
+    public static @Nullable CompactPersistItem forState(ZonedDateTime timestamp, State state) {
+        if (state instanceof OnOffType) {
+            return new CompactPersistItem(Kind.ON_OFF, null, timestamp.getZone());
+        } else if (state instanceof QuantityType<?> quantityType && state.getClass() == QuantityType.class) {
+            return new CompactPersistItem(Kind.QUANTITY, quantityType.getUnit(), timestamp.getZone());
+        } else if (state.getClass() == DecimalType.class) {
+            return new CompactPersistItem(Kind.DECIMAL, null, timestamp.getZone());
+        }
+        return null;
+    }
+
+    @Override
+    public boolean add(ZonedDateTime timestamp, State state, long maxEntries) {
+        double value = 0;
+        byte switchValue = 0;
+        switch (kind) {
+            case ON_OFF -> {
+                if (!(state instanceof OnOffType onOffType)) {
+                    return false;
+                }
+                switchValue = onOffType == OnOffType.ON ? (byte) 1 : (byte) 0;
+            }
+            case QUANTITY -> {
+                Unit<?> unit = this.unit;
+                if (!(state instanceof QuantityType<?> quantityType) || state.getClass() != QuantityType.class
+                        || unit == null) {
+                    return false;
+                }
+                QuantityType<?> converted = quantityType.toUnit(unit);
+                if (converted == null) {
+                    return false;
+                }
+                value = converted.doubleValue();
+            }
+            case DECIMAL -> {
+                if (!(state instanceof DecimalType decimalType) || state.getClass() != DecimalType.class) {
+                    return false;
+                }
+                value = decimalType.doubleValue();
+            }
+        }
+
+        long millis = timestamp.toInstant().toEpochMilli();
+        int index = lowerBound(millis);
+        if (index < size && timestampAt(index) == millis) {
+            // replace existing value
+            set(physical(index), millis, value, switchValue);
+            return true;
+        }
+
+        if (maxEntries > 0 && size >= maxEntries) {
+            if (index == 0) {
+                // the new value is older than all other values and would be removed immediately
+                return true;
+            }
+            removeOldest();
+            index--;
+        }
+        if (size == capacity) {
+            grow(maxEntries);
+        }
+
+        // shift all newer values one position to make room for the new value
+        for (int i = size; i > index; i--) {
+            int to = physical(i);
+            int from = physical(i - 1);
+            timestamps[to] = timestamps[from];
+            if (kind == Kind.ON_OFF) {
+                switches[to] = switches[from];
+            } else {
+                values[to] = values[from];
+            }
+        }
+        set(physical(index), millis, value, switchValue);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void remove(@Nullable ZonedDateTime beginDate, @Nullable ZonedDateTime endDate,
+            Predicate<PersistEntry> predicate) {
+        int from = beginDate == null ? 0 : lowerBound(beginDate.toInstant().toEpochMilli());
+        int to = endDate == null ? size : upperBound(endDate.toInstant().toEpochMilli());
+
+        // compact the buffer by moving all retained entries to the front
+        int write = from;
+        for (int read = from; read < size; read++) {
+            int readPos = physical(read);
+            if (read < to && predicate.test(entryAt(readPos))) {
+                continue;
+            }
+            if (write != read) {
+                int writePos = physical(write);
+                timestamps[writePos] = timestamps[readPos];
+                if (kind == Kind.ON_OFF) {
+                    switches[writePos] = switches[readPos];
+                } else {
+                    values[writePos] = values[readPos];
+                }
+            }
+            write++;
+        }
+        if (size != write) {
+            size = write;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Iterable<PersistEntry> entries(@Nullable ZonedDateTime beginDate, @Nullable ZonedDateTime endDate,
+            boolean ascending) {
+        long begin = beginDate == null ? Long.MIN_VALUE : beginDate.toInstant().toEpochMilli();
+        long end = endDate == null ? Long.MAX_VALUE : endDate.toInstant().toEpochMilli();
+        return () -> new EntryIterator(begin, end, ascending);
+    }
+
+    @Override
+    public void trim(long maxEntries) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        while (size > maxEntries) {
+            removeOldest();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @Nullable Instant earliest() {
+        return size == 0 ? null : Instant.ofEpochMilli(timestampAt(0));
+    }
+
+    @Override
+    public @Nullable Instant latest() {
+        return size == 0 ? null : Instant.ofEpochMilli(timestampAt(size - 1));
+    }
+
+    private int physical(int index) {
+        int pos = head + index;
+        return pos >= capacity ? pos - capacity : pos;
+    }
+
+    private long timestampAt(int index) {
+        return timestamps[physical(index)];
+    }
+
+    private void set(int pos, long millis, double value, byte switchValue) {
+        timestamps[pos] = millis;
+        if (kind == Kind.ON_OFF) {
+            switches[pos] = switchValue;
+        } else {
+            values[pos] = value;
+        }
+    }
+
+    private void removeOldest() {
+        head = physical(1);
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Find the first (logical) index with a timestamp equal to or after the given timestamp
+     */
+    private int lowerBound(long millis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(mid) < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the first (logical) index with a timestamp after the given timestamp
+     */
+    private int upperBound(long millis) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestampAt(mid) <= millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void grow(long maxEntries) {
+        long newCapacity = (long) capacity * 2;
+        if (maxEntries > 0) {
+            newCapacity = Math.min(newCapacity, maxEntries);
+        }
+        int newSize = (int) Math.min(Math.max(newCapacity, capacity + 1L), Integer.MAX_VALUE - 8);
+
+        long[] newTimestamps = new long[newSize];
+        double[] newValues = kind == Kind.ON_OFF ? values : new double[newSize];
+        byte[] newSwitches = kind == Kind.ON_OFF ? new byte[newSize] : switches;
+        for (int i = 0; i < size; i++) {
+            int pos = physical(i);
+            newTimestamps[i] = timestamps[pos];
+            if (kind == Kind.ON_OFF) {
+                newSwitches[i] = switches[pos];
+            } else {
+                newValues[i] = values[pos];
+            }
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        switches = newSwitches;
+        capacity = newSize;
+        head = 0;
+    }
+
+    private PersistEntry entryAt(int pos) {
+        return kind == Kind.ON_OFF ? toEntry(timestamps[pos], 0, switches[pos])
+                : toEntry(timestamps[pos], values[pos], (byte) 0);
+    }
+
+    private PersistEntry toEntry(long millis, double value, byte switchValue) {
+        ZonedDateTime timestamp = ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), zoneId);
+        State state = switch (kind) {
+            case ON_OFF -> OnOffType.from(switchValue != 0);
+            case QUANTITY -> new QuantityType<>(BigDecimal.valueOf(value), Objects.requireNonNull(unit));
+            case DECIMAL -> new DecimalType(BigDecimal.valueOf(value));
+        };
+        return new PersistEntry(timestamp, state);
+    }
+
+    /**
+     * Iterates over the entries within the given time range. The iterator is weakly consistent: each step reads one
+     * entry while holding the lock, and if the buffers have been modified since the previous step, the position is
+     * looked up again by the timestamp of the previously returned entry.
+     */
+    private class EntryIterator implements Iterator<PersistEntry> {
+        private final long begin;
+        private final long end;
+        private final boolean ascending;
+
+        private boolean started = false;
+        private boolean finished = false;
+        private int index;
+        private int expectedModCount;
+        private long lastMillis;
+        private @Nullable PersistEntry next;
+
+        private EntryIterator(long begin, long end, boolean ascending) {
+            this.begin = begin;
+            this.end = end;
+            this.ascending = ascending;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public PersistEntry next() {
+            PersistEntry entry = hasNext() ? next : null;
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            next = null;
+            return entry;
+        }
+
+        private void advance() {
+            long millis;
+            double value = 0;
+            byte switchValue = 0;
+
+            lock().lock();
+            try {
+                int i;
+                if (!started) {
+                    i = ascending ? lowerBound(begin) : upperBound(end) - 1;
+                    started = true;
+                } else if (expectedModCount != modCount) {
+                    i = ascending ? upperBound(lastMillis) : lowerBound(lastMillis) - 1;
+                } else {
+                    i = ascending ? index + 1 : index - 1;
+                }
+                if (i < 0 || i >= size || timestampAt(i) < begin || timestampAt(i) > end) {
+                    finished = true;
+                    return;
+                }
+                int pos = physical(i);
+                millis = timestamps[pos];
+                if (kind == Kind.ON_OFF) {
+                    switchValue = switches[pos];
+                } else {
+                    value = values[pos];
+                }
+                index = i;
+                expectedModCount = modCount;
+                lastMillis = millis;
+            } finally {
+                lock().unlock();
+            }
+
+            // states are created without holding the lock
+            next = toEntry(millis, value, switchValue);
+        }
+    }
+}
@@ -14,18 +14,16 @@ package org.openhab.persistence.inmemory.internal;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -66,11 +64,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     protected static final String CONFIG_URI = "persistence:inmemory";
     private final String MAX_ENTRIES_CONFIG = "maxEntries";
     private final long MAX_ENTRIES_DEFAULT = 512;
+    private final String COMPACT_STORAGE_CONFIG = "compactStorage";
+    private final boolean COMPACT_STORAGE_DEFAULT = false;
 
     private final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
     private final Map<String, PersistItem> persistMap = new ConcurrentHashMap<>();
     private long maxEntries = MAX_ENTRIES_DEFAULT;
+    private boolean compactStorage = COMPACT_STORAGE_DEFAULT;
 
     @Activate
     public void activate(Map<String, Object> config) {
@@ -81,14 +82,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     @Modified
     public void modified(Map<String, Object> config) {
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
+        compactStorage = ConfigParser.valueAsOrElse(config.get(COMPACT_STORAGE_CONFIG), Boolean.class,
+                COMPACT_STORAGE_DEFAULT);
 
         persistMap.values().forEach(persistItem -> {
             Lock lock = persistItem.lock();
             lock.lock();
             try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
-                }
+                persistItem.trim(maxEntries);
             } finally {
                 lock.unlock();
             }
@@ -143,20 +144,25 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return false;
         }
 
-        PersistItem persistItem = persistMap.get(itemName);
-        if (persistItem == null) {
-            return false;
-        }
+        while (true) {
+            PersistItem persistItem = persistMap.get(itemName);
+            if (persistItem == null) {
+                return false;
+            }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
-            toRemove.forEach(persistItem.database()::remove);
-        } finally {
-            lock.unlock();
+            Lock lock = persistItem.lock();
+            lock.lock();
+            try {
+                if (persistItem.isRetired()) {
+                    // the item has been replaced concurrently, try again
+                    continue;
+                }
+                persistItem.remove(filter.getBeginDate(), filter.getEndDate(), e -> applies(e, filter));
+                return true;
+            } finally {
+                lock.unlock();
+            }
         }
-        return true;
     }
 
     @Override
@@ -171,19 +177,13 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return List.of();
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-
-        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
-                ? Comparator.comparing(PersistEntry::timestamp)
-                : Comparator.comparing(PersistEntry::timestamp).reversed();
+        Iterable<PersistEntry> entries = persistItem.entries(filter.getBeginDate(), filter.getEndDate(),
+                filter.getOrdering() == FilterCriteria.Ordering.ASCENDING);
+        long offset = (long) filter.getPageNumber() * filter.getPageSize();
+        int pageSize = filter.getPageSize();
 
-        try {
-            return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
-                    .map(e -> toHistoricItem(itemName, e)).toList();
-        } finally {
-            lock.unlock();
-        }
+        return () -> StreamSupport.stream(entries.spliterator(), false).filter(e -> applies(e, filter)).skip(offset)
+                .limit(pageSize).map(e -> toHistoricItem(itemName, e)).iterator();
     }
 
     @Override
@@ -197,9 +197,11 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         lock.lock();
         try {
             String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
+            Integer count = itemEntry.getValue().size();
+            @Nullable
+            Instant earliest = itemEntry.getValue().earliest();
+            @Nullable
+            Instant latest = itemEntry.getValue().latest();
             return new PersistenceItemInfo() {
 
                 @Override
@@ -214,12 +216,12 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
 
                 @Override
                 public @Nullable Date getEarliest() {
-                    return Date.from(earliest);
+                    return earliest == null ? null : Date.from(earliest);
                 }
 
                 @Override
                 public @Nullable Date getLatest() {
-                    return Date.from(latest);
+                    return latest == null ? null : Date.from(latest);
                 }
             };
         } finally {
@@ -251,34 +253,53 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
+        while (true) {
+            PersistItem persistItem = Objects
+                    .requireNonNull(persistMap.computeIfAbsent(itemName, k -> createPersistItem(timestamp, state)));
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
+            Lock lock = persistItem.lock();
+            lock.lock();
+            try {
+                if (persistItem.isRetired()) {
+                    // the item has been replaced concurrently, try again
+                    continue;
+                }
+                if (!persistItem.add(timestamp, state, maxEntries)) {
+                    // the state does not fit the compact storage layout, move all values to an object based storage
+                    logger.debug("Item '{}' can't be stored in compact storage, switching to object storage.",
+                            itemName);
+                    PersistItem replacement = new ObjectPersistItem();
+                    persistItem.entries(null, null, true).forEach(e -> replacement.add(e.timestamp(), e.state(), 0));
+                    replacement.add(timestamp, state, 0);
+                    replacement.trim(maxEntries);
+                    persistItem.retire();
+                    persistMap.put(itemName, replacement);
+                    return;
+                }
+                persistItem.trim(maxEntries);
+                return;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
 
-            while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
+    private PersistItem createPersistItem(ZonedDateTime timestamp, State state) {
+        if (compactStorage) {
+            PersistItem persistItem = CompactPersistItem.forState(timestamp, state);
+            if (persistItem != null) {
+                return persistItem;
             }
-        } finally {
-            lock.unlock();
         }
+        return new ObjectPersistItem();
     }
 
+    /**
+     * Check if an entry matches the state condition of the filter. Begin and end date are already handled by
+     * the {@link PersistItem}.
+     */
     @SuppressWarnings("unchecked")
     private boolean applies(PersistEntry entry, FilterCriteria filter) {
-        ZonedDateTime beginDate = filter.getBeginDate();
-        if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
-            return false;
-        }
-        ZonedDateTime endDate = filter.getEndDate();
-        if (endDate != null && endDate.isBefore(entry.timestamp())) {
-            return false;
-        }
-
         State refState = filter.getState();
         FilterCriteria.Operator operator = filter.getOperator();
         if (refState == null) {
@@ -294,7 +315,7 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return !entry.state().equals(refState);
         }
 
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
+        if (entry.state() instanceof Comparable comparableState && entry.state().getClass().equals(refState.getClass())) {
             if (operator == FilterCriteria.Operator.GT) {
                 return comparableState.compareTo(refState) > 0;
             }
@@ -312,10 +333,4 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         }
         return true;
     }
-
-    private record PersistEntry(ZonedDateTime timestamp, State state) {
-    }
-
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
-    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link ObjectPersistItem} stores the values of an item as {@link PersistEntry}s. Entries are indexed by their
+ * instant, so that range lookups do not need to scan the whole series. Reads use the weakly consistent views of the
+ * map and therefore do not need to hold the lock.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ObjectPersistItem extends PersistItem {
+    private final ConcurrentSkipListMap<Instant, PersistEntry> database = new ConcurrentSkipListMap<>();
+    // ConcurrentSkipListMap.size() is not a constant-time operation, so we keep track of the size (guarded by lock)
+    private int size = 0;
+
+    @Override
+    public boolean add(ZonedDateTime timestamp, State state, long maxEntries) {
+        if (database.put(timestamp.toInstant(), new PersistEntry(timestamp, state)) == null) {
+            size++;
+        }
+        return true;
+    }
+
+    @Override
+    public void remove(@Nullable ZonedDateTime beginDate, @Nullable ZonedDateTime endDate,
+            Predicate<PersistEntry> predicate) {
+        Iterator<PersistEntry> iterator = range(beginDate, endDate).values().iterator();
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.next())) {
+                iterator.remove();
+                size--;
+            }
+        }
+    }
+
+    @Override
+    public Iterable<PersistEntry> entries(@Nullable ZonedDateTime beginDate, @Nullable ZonedDateTime endDate,
+            boolean ascending) {
+        NavigableMap<Instant, PersistEntry> range = range(beginDate, endDate);
+        return ascending ? range.values() : range.descendingMap().values();
+    }
+
+    @Override
+    public void trim(long maxEntries) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        while (size > maxEntries && database.pollFirstEntry() != null) {
+            size--;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @Nullable Instant earliest() {
+        return database.isEmpty() ? null : database.firstKey();
+    }
+
+    @Override
+    public @Nullable Instant latest() {
+        return database.isEmpty() ? null : database.lastKey();
+    }
+
+    private NavigableMap<Instant, PersistEntry> range(@Nullable ZonedDateTime beginDate,
+            @Nullable ZonedDateTime endDate) {
+        if (beginDate != null && endDate != null) {
+            Instant begin = beginDate.toInstant();
+            Instant end = endDate.toInstant();
+            return begin.isAfter(end) ? new ConcurrentSkipListMap<>() : database.subMap(begin, true, end, true);
+        } else if (beginDate != null) {
+            return database.tailMap(beginDate.toInstant(), true);
+        } else if (endDate != null) {
+            return database.headMap(endDate.toInstant(), true);
+        }
+        return database;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link PersistItem} is the base class for the per-item storage of the {@link InMemoryPersistenceService}.
+ * <p>
+ * All modifying methods and the size/earliest/latest getters must be called while holding the {@link #lock()}.
+ * {@link #entries(ZonedDateTime, ZonedDateTime, boolean)} can be called without holding the lock.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+abstract class PersistItem {
+    private final Lock lock = new ReentrantLock();
+    private boolean retired = false;
+
+    public Lock lock() {
+        return lock;
+    }
+
+    /**
+     * Check if this item has been replaced by another item (e.g. because the storage layout changed)
+     *
+     * @return {@code true} if this item must not be used anymore
+     */
+    public boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * Mark this item as replaced
+     */
+    public void retire() {
+        retired = true;
+    }
+
+    /**
+     * Add (or replace) a value
+     *
+     * @param timestamp the timestamp of the value
+     * @param state the value
+     * @param maxEntries the maximum number of entries, {@code 0} for no limit
+     * @return {@code false} if the value can't be represented by this storage layout, {@code true} otherwise
+     */
+    public abstract boolean add(ZonedDateTime timestamp, State state, long maxEntries);
+
+    /**
+     * Remove all entries between begin and end date (both inclusive) that match the given predicate
+     *
+     * @param beginDate the begin date, {@code null} for no lower bound
+     * @param endDate the end date, {@code null} for no upper bound
+     * @param predicate the condition for removal
+     */
+    public abstract void remove(@Nullable ZonedDateTime beginDate, @Nullable ZonedDateTime endDate,
+            Predicate<PersistEntry> predicate);
+
+    /**
+     * Get all entries between begin and end date (both inclusive).
+     * <p>
+     * The returned {@link Iterable} is evaluated lazily and must not be modified.
+     *
+     * @param beginDate the begin date, {@code null} for no lower bound
+     * @param endDate the end date, {@code null} for no upper bound
+     * @param ascending {@code true} if the entries shall be returned in ascending order
+     * @return the requested entries
+     */
+    public abstract Iterable<PersistEntry> entries(@Nullable ZonedDateTime beginDate, @Nullable ZonedDateTime endDate,
+            boolean ascending);
+
+    /**
+     * Remove the oldest entries until the size limit is observed
+     *
+     * @param maxEntries the maximum number of entries, {@code 0} disables purging
+     */
+    public abstract void trim(long maxEntries);
+
+    public abstract int size();
+
+    public abstract @Nullable Instant earliest();
+
+    public abstract @Nullable Instant latest();
+}
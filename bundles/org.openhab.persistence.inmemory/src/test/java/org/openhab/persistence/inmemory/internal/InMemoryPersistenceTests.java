@@ -20,7 +20,9 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -34,8 +36,11 @@ import org.mockito.quality.Strictness;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
@@ -175,6 +180,64 @@ public class InMemoryPersistenceTests {
         assertThat(resultSet, contains(3, 2, 1));
     }
 
+    @Test
+    public void querySupportsPagination() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 10; i++) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        filterCriteria.setPageSize(3);
+        filterCriteria.setPageNumber(1);
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(3, 4, 5));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.DESCENDING);
+        filterCriteria.setPageNumber(3);
+
+        resultSet.clear();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(0));
+    }
+
+    @Test
+    public void queryRangeIsObservedWithOrderingAndPagination() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 10; i++) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.DESCENDING);
+        filterCriteria.setBeginDate(start.plusHours(2));
+        filterCriteria.setEndDate(start.plusHours(7));
+        filterCriteria.setPageSize(4);
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(7, 6, 5, 4));
+
+        // begin date after end date returns nothing
+        filterCriteria.setBeginDate(start.plusHours(8));
+        resultSet.clear();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, is(empty()));
+    }
+
+    @Test
+    public void storeSameTimestampReplacesValue() {
+        ZonedDateTime time = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, time, new DecimalType(1));
+        service.store(item, time, new DecimalType(2));
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(2));
+        assertThat(service.getItemInfo().iterator().next().getCount(), is(1));
+    }
+
     @Test
     public void removeBetweenTimes() {
         State historicState1 = new StringType("value1");
@@ -275,4 +338,94 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void compactStorageStoresAndQueriesNumbers() {
+        service.activate(Map.of("compactStorage", true, "maxEntries", 5));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        // store out of order and more than maxEntries
+        for (int i = 6; i >= 0; i -= 2) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+        for (int i = 7; i >= 1; i -= 2) {
+            service.store(item, start.plusHours(i), new DecimalType(i));
+        }
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(3, 4, 5, 6, 7));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.DESCENDING);
+        filterCriteria.setBeginDate(start.plusHours(4));
+        filterCriteria.setEndDate(start.plusHours(6));
+        resultSet.clear();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(6, 5, 4));
+
+        service.remove(filterCriteria);
+        filterCriteria = new FilterCriteria();
+        filterCriteria.setItemName(ITEM_NAME);
+        List<HistoricItem> historicItems = new ArrayList<>();
+        service.query(filterCriteria).forEach(historicItems::add);
+        assertThat(historicItems, hasSize(2));
+        assertThat(historicItems.get(0).getTimestamp(), is(start.plusHours(3)));
+        assertThat(historicItems.get(1).getTimestamp(), is(start.plusHours(7)));
+        assertThat(service.getItemInfo().iterator().next().getCount(), is(2));
+    }
+
+    @Test
+    public void compactStorageStoresQuantitiesAndSwitches() {
+        service.activate(Map.of("compactStorage", true));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new QuantityType<>(20.5, SIUnits.CELSIUS));
+        service.store(item, start.plusHours(1), new QuantityType<>(300, SIUnits.CELSIUS.getSystemUnit()));
+        service.store(item, start, OnOffType.ON, ALIAS);
+        service.store(item, start.plusHours(1), OnOffType.OFF, ALIAS);
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+        assertThat(resultSet, hasSize(2));
+        assertThat(resultSet.get(0), is(new QuantityType<>(20.5, SIUnits.CELSIUS)));
+        assertThat(((QuantityType<?>) resultSet.get(1)).getUnit(), is(SIUnits.CELSIUS));
+        assertThat(((QuantityType<?>) resultSet.get(1)).doubleValue(), is(closeTo(26.85, 0.001)));
+
+        filterCriteria.setItemName(ALIAS);
+        resultSet.clear();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+        assertThat(resultSet, contains(OnOffType.ON, OnOffType.OFF));
+    }
+
+    @Test
+    public void compactStorageQueryIsEvaluatedLazily() {
+        service.activate(Map.of("compactStorage", true, "maxEntries", 5));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 5; i++) {
+            service.store(item, start.plusHours(2 * i), new DecimalType(2 * i));
+        }
+
+        Iterator<HistoricItem> iterator = service.query(filterCriteria).iterator();
+        List<Integer> resultSet = new ArrayList<>();
+        resultSet.add(((DecimalType) iterator.next().getState()).intValue());
+        resultSet.add(((DecimalType) iterator.next().getState()).intValue());
+        // insert a value after the current position and purge the oldest value while iterating
+        service.store(item, start.plusHours(5), new DecimalType(5));
+        iterator.forEachRemaining(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+        assertThat(resultSet, contains(0, 2, 4, 5, 6, 8));
+    }
+
+    @Test
+    public void compactStorageSwitchesToObjectStorageForIncompatibleStates() {
+        service.activate(Map.of("compactStorage", true));
+
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(1), new StringType("value"));
+
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+        assertThat(resultSet, contains(new DecimalType(1), new StringType("value")));
+    }
 }
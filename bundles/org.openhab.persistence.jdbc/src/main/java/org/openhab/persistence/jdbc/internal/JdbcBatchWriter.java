@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.ItemStateVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JdbcBatchWriter} implements a write-behind pipeline for the JDBC persistence service.
+ *
+ * States are collected in a queue and flushed periodically or as soon as the configured batch size is reached.
+ * On flush, pending states are grouped per item (table) and written as JDBC batches by a small pool of worker
+ * threads. All states of an item are written by a single task, so they are stored in the order they have been added.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchWriter {
+
+    /**
+     * Writes a batch of states for a single item.
+     */
+    @FunctionalInterface
+    public interface BatchStore {
+        /**
+         * @param item the item
+         * @param alias the alias of the item, {@code null} if the item name is used
+         * @param states the states to store, ordered by the time they have been added
+         */
+        void store(Item item, @Nullable String alias, List<ItemStateVO> states);
+    }
+
+    private record PendingState(Item item, @Nullable String alias, ItemStateVO state) {
+        String key() {
+            String alias = this.alias;
+            return alias != null ? alias : item.getName();
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcBatchWriter.class);
+
+    private final BatchStore batchStore;
+    private final int batchSize;
+    private final Queue<PendingState> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flushScheduler;
+    private final ExecutorService workers;
+    private final ScheduledFuture<?> flushJob;
+    // add() holds the read lock, stop() the write lock, so no state is added after the final flush
+    private final ReadWriteLock stopLock = new ReentrantReadWriteLock();
+    private boolean stopped = false;
+
+    // statistics
+    private final AtomicInteger maxQueueSize = new AtomicInteger();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong storedCount = new AtomicLong();
+    private volatile long lastFlushDuration = 0;
+    private volatile long maxFlushDuration = 0;
+    private volatile long totalFlushDuration = 0;
+
+    public JdbcBatchWriter(BatchStore batchStore, int batchSize, int flushInterval, int threads) {
+        this.batchStore = batchStore;
+        this.batchSize = batchSize;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID + "-flush"));
+        this.workers = Executors.newFixedThreadPool(threads,
+                new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID + "-writer"));
+        this.flushJob = flushScheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Add a state to the queue
+     *
+     * @param item the item
+     * @param alias the alias, {@code null} if the item name shall be used
+     * @param state the state
+     * @param date the time the state has been recorded
+     * @return {@code false} if the writer has been stopped and the state has not been added
+     */
+    public boolean add(Item item, @Nullable String alias, State state, ZonedDateTime date) {
+        stopLock.readLock().lock();
+        try {
+            if (stopped) {
+                return false;
+            }
+            queue.add(new PendingState(item, alias, new ItemStateVO(state, date)));
+            int size = queueSize.incrementAndGet();
+            maxQueueSize.accumulateAndGet(size, Math::max);
+            if (size >= batchSize && flushRequested.compareAndSet(false, true)) {
+                flushScheduler.execute(this::flush);
+            }
+            return true;
+        } finally {
+            stopLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stop the writer. All pending states are written before the method returns.
+     */
+    public void stop() {
+        stopLock.writeLock().lock();
+        try {
+            stopped = true;
+        } finally {
+            stopLock.writeLock().unlock();
+        }
+        flushJob.cancel(false);
+        flushScheduler.shutdown();
+        try {
+            if (!flushScheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("JDBC::stop: Timeout while waiting for the pending flush to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        workers.shutdown();
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+        if (queue.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+
+        // group all pending states by item, keeping the order of the states per item
+        Map<String, List<PendingState>> pendingStatesByItem = new LinkedHashMap<>();
+        int count = 0;
+        PendingState pendingState;
+        while ((pendingState = queue.poll()) != null) {
+            pendingStatesByItem.computeIfAbsent(pendingState.key(), k -> new ArrayList<>()).add(pendingState);
+            count++;
+        }
+        queueSize.addAndGet(-count);
+
+        // one task per item writes its batches one after the other, the next flush waits for all tasks
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (List<PendingState> pendingStates : pendingStatesByItem.values()) {
+            PendingState last = pendingStates.get(pendingStates.size() - 1);
+            List<ItemStateVO> states = pendingStates.stream().map(PendingState::state).toList();
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < states.size(); i += batchSize) {
+                    store(last.item(), last.alias(), states.subList(i, Math.min(i + batchSize, states.size())));
+                }
+            }, workers));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (RuntimeException e) {
+            logger.warn("JDBC::flush: Failed to store states", e);
+        }
+
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastFlushDuration = duration;
+        maxFlushDuration = Math.max(maxFlushDuration, duration);
+        totalFlushDuration += duration;
+        flushCount.incrementAndGet();
+        storedCount.addAndGet(count);
+        logger.debug("JDBC::flush: Flushed {} states of {} items in {} ms", count, pendingStatesByItem.size(),
+                duration);
+    }
+
+    private void store(Item item, @Nullable String alias, List<ItemStateVO> states) {
+        try {
+            batchStore.store(item, alias, states);
+        } catch (RuntimeException e) {
+            logger.warn("JDBC::store: Unable to store {} states of item '{}'", states.size(), item.getName(), e);
+        }
+    }
+
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getStoredCount() {
+        return storedCount.get();
+    }
+
+    public long getLastFlushDuration() {
+        return lastFlushDuration;
+    }
+
+    public long getMaxFlushDuration() {
+        return maxFlushDuration;
+    }
+
+    public long getAverageFlushDuration() {
+        long flushes = flushCount.get();
+        return flushes == 0 ? 0 : totalFlushDuration / flushes;
+    }
+}
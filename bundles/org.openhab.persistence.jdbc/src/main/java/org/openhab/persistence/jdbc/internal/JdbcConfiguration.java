@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Map;
@@ -21,10 +22,12 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.internal.dto.AggregationFunction;
 import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
 import org.slf4j.Logger;
@@ -66,6 +69,16 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    // write-behind batching, disabled if batchSize is 0
+    private int batchSize = 0;
+    private int batchFlushInterval = 1000;
+    private int batchWriterThreads = 2;
+
+    // server-side aggregation of queries for the items in aggregationItems, disabled if aggregationMaxPoints is 0
+    private int aggregationMaxPoints = 0;
+    private AggregationFunction aggregationFunction = AggregationFunction.AVG;
+    private Set<String> aggregationItems = Set.of();
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +204,47 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Integer.parseInt(bs);
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bfi = (String) configuration.get("batchFlushInterval");
+        if (bfi != null && !bfi.isBlank() && isNumericPattern.matcher(bfi).matches()) {
+            batchFlushInterval = Math.max(Integer.parseInt(bfi), 10);
+            logger.debug("JDBC::updateConfig: batchFlushInterval={}", batchFlushInterval);
+        }
+
+        String bwt = (String) configuration.get("batchWriterThreads");
+        if (bwt != null && !bwt.isBlank() && isNumericPattern.matcher(bwt).matches()) {
+            batchWriterThreads = Math.max(Integer.parseInt(bwt), 1);
+            logger.debug("JDBC::updateConfig: batchWriterThreads={}", batchWriterThreads);
+        }
+
+        String amp = (String) configuration.get("aggregationMaxPoints");
+        if (amp != null && !amp.isBlank() && isNumericPattern.matcher(amp).matches()) {
+            aggregationMaxPoints = Integer.parseInt(amp);
+            logger.debug("JDBC::updateConfig: aggregationMaxPoints={}", aggregationMaxPoints);
+        }
+
+        String af = (String) configuration.get("aggregationFunction");
+        if (af != null && !af.isBlank()) {
+            try {
+                aggregationFunction = AggregationFunction.valueOf(af.trim().toUpperCase());
+                logger.debug("JDBC::updateConfig: aggregationFunction={}", aggregationFunction);
+            } catch (IllegalArgumentException e) {
+                logger.warn("JDBC::updateConfig: unknown aggregationFunction '{}', using {}", af, aggregationFunction);
+            }
+        }
+
+        String ai = (String) configuration.get("aggregationItems");
+        if (ai != null && !ai.isBlank()) {
+            aggregationItems = Arrays.stream(ai.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+            logger.debug("JDBC::updateConfig: aggregationItems={}", aggregationItems);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -404,6 +458,30 @@ public class JdbcConfiguration {
         return tableIdDigitCount;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchFlushInterval() {
+        return batchFlushInterval;
+    }
+
+    public int getBatchWriterThreads() {
+        return batchWriterThreads;
+    }
+
+    public int getAggregationMaxPoints() {
+        return aggregationMaxPoints;
+    }
+
+    public AggregationFunction getAggregationFunction() {
+        return aggregationFunction;
+    }
+
+    public Set<String> getAggregationItems() {
+        return aggregationItems;
+    }
+
     public JdbcBaseDAO getDBDAO() {
         return dBDAO;
     }
@@ -32,7 +32,9 @@ import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceItemInfo;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.AggregationVO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
+import org.openhab.persistence.jdbc.internal.dto.ItemStateVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
@@ -56,8 +58,10 @@ public class JdbcMapper {
     private final TimeZoneProvider timeZoneProvider;
 
     // Error counter - used to reconnect to database on error
-    protected int errCnt;
-    protected boolean initialized = false;
+    protected volatile int errCnt;
+    protected volatile boolean initialized = false;
+    // guards opening, closing and checking the connection, which is also done by the batch writer threads
+    private final Object connectionLock = new Object();
     protected @NonNullByDefault({}) JdbcConfiguration conf;
     protected final Map<String, String> itemNameToTableNameMap = new HashMap<>();
     protected @NonNullByDefault({}) NamingStrategy namingStrategy;
@@ -226,6 +230,18 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    protected void storeItemValues(Item item, String tableName, List<ItemStateVO> states) throws JdbcException {
+        logger.debug("JDBC::storeItemValues: item={} states={}", item, states.size());
+        long timerStart = System.currentTimeMillis();
+        int failed = conf.getDBDAO().doStoreItemValues(item, tableName, states);
+        if (failed > 0) {
+            logger.warn("JDBC::storeItemValues: {} of {} states of item '{}' could not be stored", failed,
+                    states.size(), item.getName());
+        }
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -243,6 +259,19 @@ public class JdbcMapper {
         return result;
     }
 
+    protected List<HistoricItem> getHistItemAggregateQuery(FilterCriteria filter, AggregationVO aggregation,
+            int numberDecimalcount, String table, Item item) throws JdbcSQLException {
+        logger.debug(
+                "JDBC::getHistItemAggregateQuery aggregation='{}' numberDecimalcount='{}' table='{}' itemName='{}'",
+                aggregation, numberDecimalcount, table, item.getName());
+        long timerStart = System.currentTimeMillis();
+        List<HistoricItem> result = conf.getDBDAO().doGetHistItemAggregateQuery(item, filter, aggregation,
+                numberDecimalcount, table, item.getName(), timeZoneProvider.getTimeZone());
+        logTime("getHistItemAggregateQuery", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
@@ -255,37 +284,41 @@ public class JdbcMapper {
      * DATABASE CONNECTION *
      ***********************/
     protected boolean openConnection() {
-        logger.debug("JDBC::openConnection isDriverAvailable: {}", conf.isDriverAvailable());
-        if (conf.isDriverAvailable() && !conf.isDbConnected()) {
-            logger.info("JDBC::openConnection: Driver is available::Yank setupDataSource");
-            try {
-                Yank.setupDefaultConnectionPool(conf.getHikariConfiguration());
-                Yank.setThrowWrappedExceptions(true);
-                conf.setDbConnected(true);
-                return true;
-            } catch (PoolInitializationException e) {
-                Throwable cause = e.getCause();
-                if (cause instanceof SQLInvalidAuthorizationSpecException) {
-                    logger.warn("JDBC::openConnection: failed to open connection: {}", cause.getMessage());
-                } else {
-                    logger.warn("JDBC::openConnection: failed to open connection: {}", e.getMessage());
+        synchronized (connectionLock) {
+            logger.debug("JDBC::openConnection isDriverAvailable: {}", conf.isDriverAvailable());
+            if (conf.isDriverAvailable() && !conf.isDbConnected()) {
+                logger.info("JDBC::openConnection: Driver is available::Yank setupDataSource");
+                try {
+                    Yank.setupDefaultConnectionPool(conf.getHikariConfiguration());
+                    Yank.setThrowWrappedExceptions(true);
+                    conf.setDbConnected(true);
+                    return true;
+                } catch (PoolInitializationException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof SQLInvalidAuthorizationSpecException) {
+                        logger.warn("JDBC::openConnection: failed to open connection: {}", cause.getMessage());
+                    } else {
+                        logger.warn("JDBC::openConnection: failed to open connection: {}", e.getMessage());
+                    }
+                    initialized = false;
+                    return false;
                 }
+            } else if (!conf.isDriverAvailable()) {
+                logger.warn("JDBC::openConnection: no driver available!");
                 initialized = false;
                 return false;
             }
-        } else if (!conf.isDriverAvailable()) {
-            logger.warn("JDBC::openConnection: no driver available!");
-            initialized = false;
-            return false;
+            return true;
         }
-        return true;
     }
 
     protected void closeConnection() {
         logger.debug("JDBC::closeConnection");
-        // Closes all open connection pools
-        Yank.releaseDefaultConnectionPool();
-        conf.setDbConnected(false);
+        synchronized (connectionLock) {
+            // Closes all open connection pools
+            Yank.releaseDefaultConnectionPool();
+            conf.setDbConnected(false);
+        }
     }
 
     protected boolean checkDBAccessability() {
@@ -293,21 +326,23 @@ public class JdbcMapper {
         if (initialized) {
             return true;
         }
-        try {
-            // first
-            boolean p = pingDB();
-            if (p) {
-                logger.debug("JDBC::checkDBAcessability, first try connection: {}", p);
-                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
-            } else {
-                // second
-                p = pingDB();
-                logger.debug("JDBC::checkDBAcessability, second try connection: {}", p);
-                return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
+        synchronized (connectionLock) {
+            try {
+                // first
+                boolean p = pingDB();
+                if (p) {
+                    logger.debug("JDBC::checkDBAcessability, first try connection: {}", p);
+                    return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
+                } else {
+                    // second
+                    p = pingDB();
+                    logger.debug("JDBC::checkDBAcessability, second try connection: {}", p);
+                    return (p && !(conf.getErrReconnectThreshold() > 0 && errCnt <= conf.getErrReconnectThreshold()));
+                }
+            } catch (JdbcSQLException e) {
+                logger.warn("Unable to ping database", e);
+                return false;
             }
-        } catch (JdbcSQLException e) {
-            logger.warn("Unable to ping database", e);
-            return false;
         }
     }
 
@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,6 +35,7 @@ import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
@@ -44,7 +46,10 @@ import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.internal.dto.AggregationFunction;
+import org.openhab.persistence.jdbc.internal.dto.AggregationVO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
+import org.openhab.persistence.jdbc.internal.dto.ItemStateVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -76,6 +81,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
+    private volatile @Nullable JdbcBatchWriter batchWriter;
 
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -121,6 +127,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
         // closeConnection();
+        stopBatchWriter();
         initialized = false;
     }
 
@@ -137,22 +144,41 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        scheduleStore(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        scheduleStore(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        scheduleStore(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        scheduleStore(item, date, state, alias);
+    }
+
+    private void scheduleStore(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter == null) {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+            return;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // the time has to be recorded now, as the state is written later
+        ZonedDateTime recordedDate = date != null ? date : ZonedDateTime.now();
+        if (!batchWriter.add(item, alias, state, recordedDate)) {
+            // the batch writer has just been stopped
+            scheduler.execute(() -> internalStore(item, recordedDate, state, alias));
+        }
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -180,6 +206,39 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    private void internalStoreBatch(Item item, @Nullable String alias, List<ItemStateVO> states) {
+        if (!checkDBAccessability()) {
+            logger.warn(
+                    "JDBC::store: No connection to database. Cannot persist {} states for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    states.size(), item, errCnt, conf.getErrReconnectThreshold());
+            return;
+        }
+        try {
+            long timerStart = System.currentTimeMillis();
+            String tableName;
+            // table creation is not thread-safe
+            synchronized (this) {
+                tableName = getTable(item, alias);
+            }
+            storeItemValues(item, tableName, states);
+            if (logger.isDebugEnabled()) {
+                logger.debug("JDBC: Stored {} states of item '{}' in SQL database at {} in {} ms.", states.size(),
+                        item.getName(), new Date(), System.currentTimeMillis() - timerStart);
+            }
+        } catch (JdbcException e) {
+            logger.warn("JDBC::store: Unable to store item", e);
+        }
+    }
+
+    /**
+     * Get the write-behind batch writer.
+     *
+     * @return the batch writer, {@code null} if batching is disabled
+     */
+    public @Nullable JdbcBatchWriter getBatchWriter() {
+        return batchWriter;
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return getItems();
@@ -252,7 +311,10 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
         try {
             long timerStart = System.currentTimeMillis();
-            List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            AggregationVO aggregation = getAggregation(filter, item, localAlias);
+            List<HistoricItem> items = aggregation == null
+                    ? getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item)
+                    : getHistItemAggregateQuery(filter, aggregation, conf.getNumberDecimalcount(), table, item);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
                         System.currentTimeMillis() - timerStart);
@@ -266,6 +328,32 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    /**
+     * Determine the server-side aggregation for a query. Only unpaged queries with a begin and end date for items
+     * which have been configured in aggregationItems are aggregated, the bucket length is chosen so that at most
+     * aggregationMaxPoints values are returned.
+     *
+     * @param filter the filter of the query
+     * @param item the item
+     * @param name the item name or alias used for the table
+     * @return the aggregation or null if the raw values shall be queried
+     */
+    @Nullable AggregationVO getAggregation(FilterCriteria filter, Item item, String name) {
+        int maxPoints = conf.getAggregationMaxPoints();
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        if (maxPoints <= 0 || !conf.getAggregationItems().contains(name) || beginDate == null || endDate == null
+                || filter.getPageSize() != Integer.MAX_VALUE) {
+            return null;
+        }
+        AggregationFunction function = conf.getAggregationFunction();
+        if (function != AggregationFunction.LAST && !(item instanceof NumberItem)) {
+            return null;
+        }
+        long intervalSeconds = Math.ceilDiv(Duration.between(beginDate, endDate).toSeconds(), maxPoints);
+        return intervalSeconds > 1 ? new AggregationVO(function, intervalSeconds) : null;
+    }
+
     private void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
@@ -284,9 +372,23 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             initialized = false;
         }
 
+        stopBatchWriter();
+        if (conf.getBatchSize() > 0) {
+            batchWriter = new JdbcBatchWriter(this::internalStoreBatch, conf.getBatchSize(),
+                    conf.getBatchFlushInterval(), conf.getBatchWriterThreads());
+        }
+
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
 
+    private void stopBatchWriter() {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            this.batchWriter = null;
+            batchWriter.stop();
+        }
+    }
+
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.CHANGE);
@@ -57,6 +57,9 @@ import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
 import org.openhab.persistence.jdbc.internal.dto.Column;
+import org.openhab.persistence.jdbc.internal.dto.AggregationFunction;
+import org.openhab.persistence.jdbc.internal.dto.AggregationVO;
+import org.openhab.persistence.jdbc.internal.dto.ItemStateVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
@@ -446,12 +449,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        String sql = storeItemValueWithDateSqlProvider(storedVO);
+        Object[] params = storeItemValueWithDateParamsProvider(storedVO, date);
+        logger.debug("JDBC::doStoreItemValue sql={} date={} value='{}'", sql, date, storedVO.getValue());
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -459,10 +459,77 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Store multiple states of an item in one JDBC batch. If the batch fails (e.g. because of a duplicate key on
+     * databases without upsert support), the states are stored one by one, so that a single invalid row does not
+     * discard the whole batch.
+     *
+     * @param item the item
+     * @param tableName the table of the item
+     * @param states the states to store
+     * @return the number of states that could not be stored
+     * @throws JdbcSQLException if no state could be stored
+     */
+    public int doStoreItemValues(Item item, String tableName, List<ItemStateVO> states) throws JdbcSQLException {
+        if (states.isEmpty()) {
+            return 0;
+        }
+        String sql = "";
+        Object[][] params = new Object[states.size()][];
+        for (int i = 0; i < states.size(); i++) {
+            ItemStateVO state = states.get(i);
+            ItemVO storedVO = storeItemValueProvider(item, state.state(), new ItemVO(tableName, null));
+            sql = storeItemValueWithDateSqlProvider(storedVO);
+            params[i] = storeItemValueWithDateParamsProvider(storedVO, state.date());
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+            return 0;
+        } catch (YankSQLException e) {
+            logger.debug("JDBC::doStoreItemValues batch failed, storing rows individually: {}", e.getMessage());
+        }
+
+        int failed = 0;
+        @Nullable
+        YankSQLException lastException = null;
+        for (Object[] rowParams : params) {
+            try {
+                Yank.execute(sql, rowParams);
+            } catch (YankSQLException e) {
+                failed++;
+                lastException = e;
+            }
+        }
+        if (lastException != null && failed == params.length) {
+            throw new JdbcSQLException(lastException);
+        }
+        return failed;
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
         logger.debug("JDBC::doGetHistItemFilterQuery sql={}", sql);
+        return queryHistItems(item, sql);
+    }
+
+    /**
+     * Query the values of an item aggregated into time buckets. Falls back to the raw values if the database does not
+     * support server-side aggregation.
+     */
+    public List<HistoricItem> doGetHistItemAggregateQuery(Item item, FilterCriteria filter, AggregationVO aggregation,
+            int numberDecimalcount, String table, String name, ZoneId timeZone) throws JdbcSQLException {
+        String sql = histItemAggregateQueryProvider(filter, aggregation, numberDecimalcount, table, name, timeZone);
+        if (sql == null) {
+            logger.debug("JDBC::doGetHistItemAggregateQuery aggregation not supported, querying raw values");
+            return doGetHistItemFilterQuery(item, filter, numberDecimalcount, table, name, timeZone);
+        }
+        logger.debug("JDBC::doGetHistItemAggregateQuery sql={}", sql);
+        return queryHistItems(item, sql);
+    }
+
+    private List<HistoricItem> queryHistItems(Item item, String sql) throws JdbcSQLException {
         List<Object[]> m;
         try {
             m = Yank.queryObjectArrays(sql, null);
@@ -470,7 +537,7 @@ public class JdbcBaseDAO {
             throw new JdbcSQLException(e);
         }
         if (m == null) {
-            logger.debug("JDBC::doGetHistItemFilterQuery Query failed. Returning an empty list.");
+            logger.debug("JDBC::queryHistItems Query failed. Returning an empty list.");
             return List.of();
         }
         // we already retrieve the unit here once as it is a very costly operation
@@ -531,6 +598,57 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Provides the SQL statement for querying the values of an item aggregated into time buckets, or {@code null} if
+     * aggregation is not supported by the database. For {@link AggregationFunction#LAST} the last row of each bucket
+     * is returned, for all other functions the time of the first row of each bucket is used.
+     */
+    protected @Nullable String histItemAggregateQueryProvider(FilterCriteria filter, AggregationVO aggregation,
+            int numberDecimalcount, String table, String simpleName, ZoneId timeZone) {
+        logger.debug("JDBC::histItemAggregateQueryProvider filter = {}, aggregation = {}, table = {}", filter,
+                aggregation, table);
+
+        String bucket = timeBucketProvider(aggregation.intervalSeconds());
+        if (bucket == null) {
+            return null;
+        }
+        boolean round = "NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1;
+        String direction = filter.getOrdering() == Ordering.ASCENDING ? " ASC" : " DESC";
+        String filterString = resolveTimeFilter(filter, timeZone);
+
+        String queryString;
+        if (aggregation.function() == AggregationFunction.LAST) {
+            // SELECT time, value FROM number_item_0114 WHERE time IN (SELECT MAX(time) FROM number_item_0114 WHERE
+            // ... GROUP BY <bucket>) ORDER BY time ASC
+            String value = round ? roundProvider("value", numberDecimalcount) : "value";
+            queryString = "SELECT time, " + value + " FROM " + formattedIdentifier(table)
+                    + " WHERE time IN (SELECT MAX(time) FROM " + formattedIdentifier(table) + filterString
+                    + " GROUP BY " + bucket + ") ORDER BY time" + direction;
+        } else {
+            // SELECT MIN(time), AVG(value) FROM number_item_0114 WHERE ... GROUP BY <bucket> ORDER BY MIN(time) ASC
+            String value = aggregation.function().name() + "(value)";
+            if (round) {
+                value = roundProvider(value, numberDecimalcount);
+            }
+            queryString = "SELECT MIN(time), " + value + " FROM " + formattedIdentifier(table) + filterString
+                    + " GROUP BY " + bucket + " ORDER BY MIN(time)" + direction;
+        }
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    /**
+     * Provides the SQL expression assigning the rows of an item table to buckets of the given length, or {@code null}
+     * if server-side aggregation is not supported by the database.
+     */
+    protected @Nullable String timeBucketProvider(long intervalSeconds) {
+        return null;
+    }
+
+    protected String roundProvider(String valueExpression, int numberDecimalcount) {
+        return "ROUND(" + valueExpression + "," + numberDecimalcount + ")";
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -567,6 +685,24 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Provides the SQL statement for storing a value with an explicit timestamp. The statement is used for single
+     * inserts as well as for batched inserts, so it must not contain any value specific parts.
+     */
+    protected String storeItemValueWithDateSqlProvider(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    /**
+     * Provides the parameters for the statement returned by {@link #storeItemValueWithDateSqlProvider(ItemVO)}.
+     */
+    protected Object[] storeItemValueWithDateParamsProvider(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     protected ItemVO storeItemValueProvider(Item item, State itemState, ItemVO vo) {
         String itemType = getItemType(item);
 
@@ -116,6 +116,11 @@ public class JdbcMariadbDAO extends JdbcBaseDAO {
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected @Nullable String timeBucketProvider(long intervalSeconds) {
+        return "FLOOR(UNIX_TIMESTAMP(time) / " + intervalSeconds + ")";
+    }
+
     /*****************
      * H E L P E R S *
      *****************/
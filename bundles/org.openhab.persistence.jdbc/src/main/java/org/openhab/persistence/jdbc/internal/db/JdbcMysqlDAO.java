@@ -120,6 +120,11 @@ public class JdbcMysqlDAO extends JdbcBaseDAO {
      * SQL generation Providers *
      ****************************/
 
+    @Override
+    protected @Nullable String timeBucketProvider(long intervalSeconds) {
+        return "FLOOR(UNIX_TIMESTAMP(time) / " + intervalSeconds + ")";
+    }
+
     /*****************
      * H E L P E R S *
      *****************/
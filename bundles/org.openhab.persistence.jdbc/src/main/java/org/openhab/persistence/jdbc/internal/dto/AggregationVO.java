@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.dto;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Describes a server-side aggregation of a query, the rows are grouped into buckets of the given length and reduced
+ * by the given function.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public record AggregationVO(AggregationFunction function, long intervalSeconds) {
+}
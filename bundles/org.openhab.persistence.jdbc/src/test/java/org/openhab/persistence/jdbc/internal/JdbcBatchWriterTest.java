@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.items.Item;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.ItemStateVO;
+
+/**
+ * Tests the {@link JdbcBatchWriter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchWriterTest {
+
+    private final Map<String, List<List<State>>> batches = new ConcurrentHashMap<>();
+
+    private void store(Item item, @Nullable String alias, List<ItemStateVO> states) {
+        String name = alias != null ? alias : item.getName();
+        batches.computeIfAbsent(name, k -> new ArrayList<>()).add(states.stream().map(ItemStateVO::state).toList());
+    }
+
+    private Item mockItem(String name) {
+        Item item = mock(Item.class);
+        when(item.getName()).thenReturn(name);
+        return item;
+    }
+
+    @Test
+    void statesAreGroupedPerItemAndSplitIntoBatches() {
+        JdbcBatchWriter batchWriter = new JdbcBatchWriter(this::store, 3, 60000, 2);
+        Item item1 = mockItem("item1");
+        Item item2 = mockItem("item2");
+        ZonedDateTime now = ZonedDateTime.now();
+
+        for (int i = 0; i < 2; i++) {
+            batchWriter.add(item1, null, new DecimalType(i), now.plusSeconds(i));
+            batchWriter.add(item2, null, new DecimalType(i), now.plusSeconds(i));
+            batchWriter.add(item2, "alias", new DecimalType(i), now.plusSeconds(i));
+        }
+        batchWriter.stop();
+
+        assertThat(batchWriter.getQueueSize(), is(0));
+        assertThat(batchWriter.getStoredCount(), is(6L));
+        assertThat(batches.keySet(), containsInAnyOrder("item1", "item2", "alias"));
+        for (List<List<State>> itemBatches : batches.values()) {
+            List<State> states = itemBatches.stream().flatMap(List::stream).toList();
+            assertThat(states, contains(new DecimalType(0), new DecimalType(1)));
+        }
+    }
+
+    @Test
+    void batchesDoNotExceedBatchSize() {
+        JdbcBatchWriter batchWriter = new JdbcBatchWriter(this::store, 2, 60000, 1);
+        Item item = mockItem("item");
+        ZonedDateTime now = ZonedDateTime.now();
+
+        for (int i = 0; i < 5; i++) {
+            batchWriter.add(item, null, new DecimalType(i), now.plusSeconds(i));
+        }
+        batchWriter.stop();
+
+        List<List<State>> itemBatches = batches.get("item");
+        assertThat(itemBatches, is(notNullValue()));
+        itemBatches.forEach(batch -> assertThat(batch.size(), is(lessThanOrEqualTo(2))));
+        assertThat(itemBatches.stream().flatMap(List::stream).toList(), contains(new DecimalType(0),
+                new DecimalType(1), new DecimalType(2), new DecimalType(3), new DecimalType(4)));
+    }
+
+    @Test
+    void batchesOfAnItemAreStoredInOrder() {
+        List<State> stored = Collections.synchronizedList(new ArrayList<>());
+        JdbcBatchWriter batchWriter = new JdbcBatchWriter((item, alias, states) -> {
+            // make the first batch the slowest one
+            if (states.getFirst().state().equals(new DecimalType(0))) {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            states.forEach(state -> stored.add(state.state()));
+        }, 2, 60000, 4);
+        Item item = mockItem("item");
+        ZonedDateTime now = ZonedDateTime.now();
+
+        for (int i = 0; i < 8; i++) {
+            batchWriter.add(item, null, new DecimalType(i), now.plusSeconds(i));
+        }
+        batchWriter.stop();
+
+        assertThat(stored, contains(new DecimalType(0), new DecimalType(1), new DecimalType(2), new DecimalType(3),
+                new DecimalType(4), new DecimalType(5), new DecimalType(6), new DecimalType(7)));
+    }
+
+    @Test
+    void statesAreNotAddedAfterStop() {
+        JdbcBatchWriter batchWriter = new JdbcBatchWriter(this::store, 1, 60000, 1);
+        Item item = mockItem("item");
+        batchWriter.stop();
+
+        assertFalse(batchWriter.add(item, null, new DecimalType(1), ZonedDateTime.now()));
+        assertThat(batchWriter.getQueueSize(), is(0));
+        assertThat(batches.keySet(), is(empty()));
+    }
+}
@@ -12,15 +12,24 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
+import java.time.ZonedDateTime;
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.StringItem;
 import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.persistence.jdbc.internal.dto.AggregationFunction;
+import org.openhab.persistence.jdbc.internal.dto.AggregationVO;
 
 /**
  * Tests the {@link JdbcPersistenceService}.
@@ -48,4 +57,42 @@ public class JdbcPersistenceServiceTest {
     void removeThrowsIllegalArgumentExceptionIfItemNameOfFilterIsNull() {
         assertThrows(IllegalArgumentException.class, () -> jdbcPersistenceService.remove(filter));
     }
+
+    @Test
+    void queriesAreOnlyAggregatedForConfiguredItems() {
+        jdbcPersistenceService.conf = new JdbcConfiguration(Map.<Object, Object> of("url", "jdbc:h2:./testH2",
+                "aggregationMaxPoints", "100", "aggregationItems", "Temperature, Humidity"));
+        ZonedDateTime now = ZonedDateTime.now();
+        filter.setBeginDate(now.minusHours(24));
+        filter.setEndDate(now);
+
+        assertEquals(new AggregationVO(AggregationFunction.AVG, 864),
+                jdbcPersistenceService.getAggregation(filter, new NumberItem("Temperature"), "Temperature"));
+        assertEquals(new AggregationVO(AggregationFunction.AVG, 864),
+                jdbcPersistenceService.getAggregation(filter, new NumberItem("Humidity"), "Humidity"));
+        assertNull(jdbcPersistenceService.getAggregation(filter, new NumberItem("Energy"), "Energy"));
+        // aggregation functions other than LAST are only applicable to numbers
+        assertNull(jdbcPersistenceService.getAggregation(filter, new StringItem("Temperature"), "Temperature"));
+    }
+
+    @Test
+    void queriesAreNotAggregatedByDefault() {
+        jdbcPersistenceService.conf = new JdbcConfiguration(
+                Map.<Object, Object> of("url", "jdbc:h2:./testH2", "aggregationItems", "Temperature"));
+        filter.setBeginDate(ZonedDateTime.now().minusDays(1));
+        filter.setEndDate(ZonedDateTime.now());
+
+        assertNull(jdbcPersistenceService.getAggregation(filter, new NumberItem("Temperature"), "Temperature"));
+    }
+
+    @Test
+    void pagedQueriesAreNotAggregated() {
+        jdbcPersistenceService.conf = new JdbcConfiguration(Map.<Object, Object> of("url", "jdbc:h2:./testH2",
+                "aggregationMaxPoints", "100", "aggregationItems", "Temperature"));
+        filter.setBeginDate(ZonedDateTime.now().minusDays(1));
+        filter.setEndDate(ZonedDateTime.now());
+        filter.setPageSize(1);
+
+        assertNull(jdbcPersistenceService.getAggregation(filter, new NumberItem("Temperature"), "Temperature"));
+    }
 }
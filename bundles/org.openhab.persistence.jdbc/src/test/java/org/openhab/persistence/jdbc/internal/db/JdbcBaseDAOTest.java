@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -66,6 +67,8 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.dto.AggregationFunction;
+import org.openhab.persistence.jdbc.internal.dto.AggregationVO;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -81,6 +84,12 @@ public class JdbcBaseDAOTest {
     private static final String DB_TABLE_NAME = "testitem";
 
     private final JdbcBaseDAO jdbcBaseDAO = new JdbcBaseDAO();
+    private final JdbcBaseDAO aggregatingDAO = new JdbcBaseDAO() {
+        @Override
+        protected @Nullable String timeBucketProvider(long intervalSeconds) {
+            return "bucket(" + intervalSeconds + ")";
+        }
+    };
     private @NonNullByDefault({}) FilterCriteria filter;
 
     @BeforeEach
@@ -192,6 +201,33 @@ public class JdbcBaseDAOTest {
         assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 0,1"));
     }
 
+    @Test
+    void testHistItemAggregateQueryProviderReturnsNullIfAggregationIsNotSupported() {
+        String sql = jdbcBaseDAO.histItemAggregateQueryProvider(filter,
+                new AggregationVO(AggregationFunction.AVG, 60), 0, DB_TABLE_NAME, "TEST", UTC_ZONE_ID);
+        assertThat(sql, is(nullValue()));
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderReturnsGroupedSelectQuery() {
+        filter.setOrdering(Ordering.ASCENDING);
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+
+        String sql = aggregatingDAO.histItemAggregateQueryProvider(filter,
+                new AggregationVO(AggregationFunction.AVG, 60), 2, DB_TABLE_NAME, "NUMBERITEM", UTC_ZONE_ID);
+        assertThat(sql, is("SELECT MIN(time), ROUND(AVG(value),2) FROM " + DB_TABLE_NAME + " WHERE TIME>='"
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate()))
+                + "' GROUP BY bucket(60) ORDER BY MIN(time) ASC"));
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderReturnsLastValuePerBucket() {
+        String sql = aggregatingDAO.histItemAggregateQueryProvider(filter,
+                new AggregationVO(AggregationFunction.LAST, 300), 0, DB_TABLE_NAME, "TEST", UTC_ZONE_ID);
+        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE time IN (SELECT MAX(time) FROM "
+                + DB_TABLE_NAME + " GROUP BY bucket(300)) ORDER BY time DESC"));
+    }
+
     @Test
     void testHistItemFilterDeleteProviderReturnsDeleteQueryWithoutWhereClause() {
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
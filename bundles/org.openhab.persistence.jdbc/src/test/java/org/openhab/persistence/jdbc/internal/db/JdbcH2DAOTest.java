@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Properties;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.knowm.yank.Yank;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.AggregationFunction;
+import org.openhab.persistence.jdbc.internal.dto.AggregationVO;
+
+/**
+ * Tests the server-side aggregation of {@link JdbcBaseDAO} against an in-memory H2 database.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcH2DAOTest {
+
+    private static final String TABLE = "aggregation_test";
+    private static final ZoneId ZONE_ID = ZoneId.systemDefault();
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final JdbcH2DAO dao = new JdbcH2DAO();
+    private final NumberItem item = new NumberItem("test");
+
+    @BeforeEach
+    public void setup() {
+        Properties properties = dao.getConnectionProperties();
+        properties.setProperty("jdbcUrl", "jdbc:h2:mem:aggregation;DB_CLOSE_DELAY=-1");
+        properties.setProperty("username", "sa");
+        properties.setProperty("password", "");
+        Yank.setupDefaultConnectionPool(properties);
+
+        Yank.execute("CREATE TABLE " + TABLE + " (time TIMESTAMP NOT NULL, value DOUBLE, PRIMARY KEY(time))", null);
+        // one value every 10 seconds for two minutes: 0, 1, ..., 11
+        for (int i = 0; i < 12; i++) {
+            Yank.execute("INSERT INTO " + TABLE + " (time, value) VALUES (?, ?)",
+                    new Object[] { Timestamp.valueOf(START.plusSeconds(i * 10L)), (double) i });
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Yank.execute("DROP TABLE " + TABLE, null);
+        Yank.releaseDefaultConnectionPool();
+    }
+
+    @Test
+    void averageIsCalculatedPerBucket() throws Exception {
+        List<HistoricItem> items = dao.doGetHistItemAggregateQuery(item, filter(Ordering.ASCENDING),
+                new AggregationVO(AggregationFunction.AVG, 60), -1, TABLE, "NUMBERITEM", ZONE_ID);
+
+        assertEquals(2, items.size());
+        assertHistoricItem(items.get(0), START, 2.5);
+        assertHistoricItem(items.get(1), START.plusMinutes(1), 8.5);
+    }
+
+    @Test
+    void minAndMaxAreCalculatedPerBucket() throws Exception {
+        List<HistoricItem> min = dao.doGetHistItemAggregateQuery(item, filter(Ordering.ASCENDING),
+                new AggregationVO(AggregationFunction.MIN, 60), -1, TABLE, "NUMBERITEM", ZONE_ID);
+        List<HistoricItem> max = dao.doGetHistItemAggregateQuery(item, filter(Ordering.ASCENDING),
+                new AggregationVO(AggregationFunction.MAX, 60), -1, TABLE, "NUMBERITEM", ZONE_ID);
+
+        assertEquals(2, min.size());
+        assertHistoricItem(min.get(0), START, 0);
+        assertHistoricItem(min.get(1), START.plusMinutes(1), 6);
+        assertEquals(2, max.size());
+        assertHistoricItem(max.get(0), START, 5);
+        assertHistoricItem(max.get(1), START.plusMinutes(1), 11);
+    }
+
+    @Test
+    void lastReturnsTheLastRowOfEachBucket() throws Exception {
+        List<HistoricItem> items = dao.doGetHistItemAggregateQuery(item, filter(Ordering.DESCENDING),
+                new AggregationVO(AggregationFunction.LAST, 60), -1, TABLE, "NUMBERITEM", ZONE_ID);
+
+        assertEquals(2, items.size());
+        assertHistoricItem(items.get(0), START.plusSeconds(110), 11);
+        assertHistoricItem(items.get(1), START.plusSeconds(50), 5);
+    }
+
+    @Test
+    void aggregationMatchesRawValuesForSingleValueBuckets() throws Exception {
+        List<HistoricItem> raw = dao.doGetHistItemFilterQuery(item, filter(Ordering.ASCENDING), -1, TABLE,
+                "NUMBERITEM", ZONE_ID);
+        List<HistoricItem> aggregated = dao.doGetHistItemAggregateQuery(item, filter(Ordering.ASCENDING),
+                new AggregationVO(AggregationFunction.AVG, 10), -1, TABLE, "NUMBERITEM", ZONE_ID);
+
+        assertEquals(12, raw.size());
+        assertEquals(raw.size(), aggregated.size());
+        for (int i = 0; i < raw.size(); i++) {
+            assertEquals(raw.get(i).getInstant(), aggregated.get(i).getInstant());
+            assertEquals(raw.get(i).getState(), aggregated.get(i).getState());
+        }
+    }
+
+    private FilterCriteria filter(Ordering ordering) {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(item.getName());
+        filter.setBeginDate(START.minusMinutes(1).atZone(ZONE_ID));
+        filter.setEndDate(START.plusMinutes(3).atZone(ZONE_ID));
+        filter.setOrdering(ordering);
+        return filter;
+    }
+
+    private void assertHistoricItem(HistoricItem historicItem, LocalDateTime expectedTime, double expectedValue) {
+        assertEquals(expectedTime.atZone(ZONE_ID).toInstant(), historicItem.getInstant());
+        assertEquals(new DecimalType(expectedValue), historicItem.getState());
+    }
+}
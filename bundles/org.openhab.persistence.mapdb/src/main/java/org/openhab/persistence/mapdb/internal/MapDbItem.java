@@ -106,6 +106,22 @@ class MapDbItem implements PersistedItem, PersistenceItemInfo {
         return null;
     }
 
+    /**
+     * Create a copy of this item with a different name.
+     *
+     * @param name the name of the copy
+     * @return the copy
+     */
+    MapDbItem withName(String name) {
+        MapDbItem item = new MapDbItem();
+        item.name = name;
+        item.state = state;
+        item.timestamp = timestamp;
+        item.lastState = lastState;
+        item.lastStateChange = lastStateChange;
+        return item;
+    }
+
     boolean isValid() {
         return name != null && state != null && timestamp != null;
     }
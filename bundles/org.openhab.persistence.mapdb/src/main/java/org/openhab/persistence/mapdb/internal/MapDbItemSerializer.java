@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A compact binary serializer for {@link MapDbItem}s.
+ *
+ * Common state types are written in a type specific format, all other states are written with their class name and
+ * their string representation, like the {@link StateTypeAdapter} does.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemSerializer {
+    private static final byte VERSION = 1;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final byte TAG_NONE = 0;
+    private static final byte TAG_GENERIC = 1;
+    private static final byte TAG_DECIMAL = 2;
+    private static final byte TAG_PERCENT = 3;
+    private static final byte TAG_QUANTITY = 4;
+    private static final byte TAG_ON = 5;
+    private static final byte TAG_OFF = 6;
+    private static final byte TAG_OPEN = 7;
+    private static final byte TAG_CLOSED = 8;
+    private static final byte TAG_STRING = 9;
+    private static final byte TAG_DATETIME = 10;
+    private static final byte TAG_HSB = 11;
+
+    private final Logger logger = LoggerFactory.getLogger(MapDbItemSerializer.class);
+
+    byte[] serialize(MapDbItem item) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, item.getName());
+            out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+            writeState(out, item.getState());
+            writeState(out, item.getLastState());
+            ZonedDateTime lastStateChange = item.getLastStateChange();
+            out.writeLong(lastStateChange != null ? lastStateChange.toInstant().toEpochMilli() : NO_TIMESTAMP);
+        } catch (IOException e) {
+            // can't happen when writing to a byte array
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Nullable
+    MapDbItem deserialize(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                logger.warn("Couldn't deserialize item: unknown version {}", version);
+                return null;
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(readString(in));
+            item.setTimestamp(new Date(in.readLong()));
+            State state = readState(in);
+            if (state == null) {
+                logger.warn("Couldn't deserialize state of item '{}'", item.getName());
+                return null;
+            }
+            item.setState(state);
+            item.setLastState(readState(in));
+            long lastStateChange = in.readLong();
+            item.setLastStateChange(lastStateChange != NO_TIMESTAMP ? new Date(lastStateChange) : null);
+            return item;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Couldn't deserialize item: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeState(DataOutputStream out, @Nullable State state) throws IOException {
+        if (state == null) {
+            out.writeByte(TAG_NONE);
+        } else if (state instanceof PercentType percent && state.getClass() == PercentType.class) {
+            out.writeByte(TAG_PERCENT);
+            writeDecimal(out, percent.toBigDecimal());
+        } else if (state instanceof DecimalType decimal && state.getClass() == DecimalType.class) {
+            out.writeByte(TAG_DECIMAL);
+            writeDecimal(out, decimal.toBigDecimal());
+        } else if (state instanceof QuantityType<?>) {
+            out.writeByte(TAG_QUANTITY);
+            writeString(out, state.toFullString());
+        } else if (state == OnOffType.ON) {
+            out.writeByte(TAG_ON);
+        } else if (state == OnOffType.OFF) {
+            out.writeByte(TAG_OFF);
+        } else if (state == OpenClosedType.OPEN) {
+            out.writeByte(TAG_OPEN);
+        } else if (state == OpenClosedType.CLOSED) {
+            out.writeByte(TAG_CLOSED);
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TAG_STRING);
+            writeString(out, state.toFullString());
+        } else if (state.getClass() == DateTimeType.class) {
+            out.writeByte(TAG_DATETIME);
+            writeString(out, state.toFullString());
+        } else if (state.getClass() == HSBType.class) {
+            out.writeByte(TAG_HSB);
+            writeString(out, state.toFullString());
+        } else {
+            out.writeByte(TAG_GENERIC);
+            writeString(out, state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    private @Nullable State readState(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NONE:
+                return null;
+            case TAG_DECIMAL:
+                return new DecimalType(readDecimal(in));
+            case TAG_PERCENT:
+                return new PercentType(readDecimal(in));
+            case TAG_QUANTITY:
+                return new QuantityType<>(readString(in));
+            case TAG_ON:
+                return OnOffType.ON;
+            case TAG_OFF:
+                return OnOffType.OFF;
+            case TAG_OPEN:
+                return OpenClosedType.OPEN;
+            case TAG_CLOSED:
+                return OpenClosedType.CLOSED;
+            case TAG_STRING:
+                return new StringType(readString(in));
+            case TAG_DATETIME:
+                return new DateTimeType(readString(in));
+            case TAG_HSB:
+                return new HSBType(readString(in));
+            case TAG_GENERIC:
+                String typeName = readString(in);
+                String value = readString(in);
+                try {
+                    @SuppressWarnings("unchecked")
+                    Class<? extends State> type = (Class<? extends State>) Class.forName(typeName);
+                    return TypeParser.parseState(List.of(type), value);
+                } catch (ClassNotFoundException e) {
+                    logger.warn("Couldn't deserialize state '{}': unknown type '{}'", value, typeName);
+                    return null;
+                }
+            default:
+                throw new IOException("Unknown state tag " + tag);
+        }
+    }
+
+    private void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeInt(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readInt()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
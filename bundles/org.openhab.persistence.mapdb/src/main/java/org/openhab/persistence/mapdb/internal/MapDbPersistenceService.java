@@ -25,9 +25,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,6 +37,8 @@ import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -64,19 +68,30 @@ import com.google.gson.GsonBuilder;
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
     private static final String SERVICE_ID = "mapdb";
     private static final String SERVICE_LABEL = "MapDB";
+    protected static final String CONFIG_URI = "persistence:mapdb";
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    private static final String JSON_MAP_NAME = "itemStore";
+    private static final String BINARY_MAP_NAME = "itemStoreBinary";
+
+    private static final String CONFIG_COMPACT_STORAGE = "compactStorage";
+    private static final String CONFIG_COMMIT_INTERVAL = "commitInterval";
+    private static final String CONFIG_COMMIT_BATCH_SIZE = "commitBatchSize";
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
     private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(getClass().getSimpleName() + "-commit");
 
     /**
      * holds the local instance of the MapDB database
@@ -84,14 +99,33 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     private @NonNullByDefault({}) DB db;
     private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> binaryMap;
+
+    /**
+     * holds the last persisted state of all items, so that queries don't need to deserialize the stored values
+     */
+    private final Map<String, MapDbItem> index = new ConcurrentHashMap<>();
 
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+    private final MapDbItemSerializer binarySerializer = new MapDbItemSerializer();
+
+    private boolean compactStorage = false;
+    private long commitInterval = 1000;
+    private int commitBatchSize = 100;
+    private int uncommittedUpdates = 0;
+    private @Nullable ScheduledFuture<?> commitJob;
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
 
+        compactStorage = ConfigParser.valueAsOrElse(config.get(CONFIG_COMPACT_STORAGE), Boolean.class, false);
+        commitInterval = Math.max(0,
+                ConfigParser.valueAsOrElse(config.get(CONFIG_COMMIT_INTERVAL), Integer.class, 1000));
+        commitBatchSize = Math.max(1,
+                ConfigParser.valueAsOrElse(config.get(CONFIG_COMMIT_BATCH_SIZE), Integer.class, 100));
+
         try {
             Files.createDirectories(DB_DIR);
         } catch (IOException e) {
@@ -103,7 +137,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
             db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            map = db.createTreeMap(JSON_MAP_NAME).makeOrGet();
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -135,12 +169,15 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                 }
 
                 db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                map = db.createTreeMap(JSON_MAP_NAME).makeOrGet();
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
+                return;
             }
         }
+        binaryMap = db.createTreeMap(BINARY_MAP_NAME).makeOrGet();
+        loadIndex();
         logger.debug("MapDB persistence service is now activated");
     }
 
@@ -148,10 +185,27 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
         if (db != null) {
+            commit();
             db.close();
         }
     }
 
+    /**
+     * Fill the index with the stored values of both storage formats. Values in the format that is not configured are
+     * converted when the item is stored the next time.
+     */
+    private void loadIndex() {
+        index.clear();
+        map.forEach((name, json) -> deserialize(json).ifPresent(item -> index.put(name, item)));
+        binaryMap.forEach((name, data) -> {
+            MapDbItem item = binarySerializer.deserialize(data);
+            if (item != null) {
+                index.put(name, item);
+            }
+        });
+        logger.debug("Loaded {} items from MapDB database", index.size());
+    }
+
     @Override
     public String getId() {
         return SERVICE_ID;
@@ -164,8 +218,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
-                .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
+        return Set.copyOf(index.values());
     }
 
     @Override
@@ -192,36 +245,59 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setTimestamp(lastStateUpdate != null ? Date.from(lastStateUpdate.toInstant()) : new Date());
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
+        index.put(localAlias, mItem);
         threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
+            if (compactStorage) {
+                binaryMap.put(localAlias, binarySerializer.serialize(mItem));
+                map.remove(localAlias);
+                logger.debug("Stored '{}' with state '{}' in MapDB database", localAlias, state);
+            } else {
+                String json = serialize(mItem);
+                map.put(localAlias, json);
+                binaryMap.remove(localAlias);
+                logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
+            }
+            scheduleCommit();
         });
     }
 
+    /**
+     * Commit the stored values either immediately or coalesced with other updates, depending on the configured commit
+     * interval and batch size.
+     */
+    private synchronized void scheduleCommit() {
+        uncommittedUpdates++;
+        if (commitInterval == 0 || uncommittedUpdates >= commitBatchSize) {
+            commit();
+        } else if (commitJob == null) {
+            commitJob = scheduler.schedule(this::commit, commitInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void commit() {
+        ScheduledFuture<?> job = commitJob;
+        if (job != null) {
+            job.cancel(false);
+            commitJob = null;
+        }
+        if (uncommittedUpdates > 0) {
+            db.commit();
+            logger.trace("Committed {} updates to MapDB database", uncommittedUpdates);
+            uncommittedUpdates = 0;
+        }
+    }
+
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
-            return List.of();
-        }
-        Optional<MapDbItem> item = deserialize(json);
-        return item.isPresent() ? List.of(item.get()) : List.of();
+        String itemName = filter.getItemName();
+        MapDbItem item = itemName != null ? index.get(itemName) : null;
+        return item != null ? List.of(item) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
-            return null;
-        }
-        Optional<MapDbItem> item = deserialize(json);
-        MapDbItem dbItem = item.orElse(null);
-        if (dbItem != null) {
-            dbItem.setName(itemName);
-        }
-        return dbItem;
+        MapDbItem item = index.get(alias != null ? alias : itemName);
+        return item != null ? item.withName(itemName) : null;
     }
 
     private String serialize(MapDbItem item) {
@@ -241,10 +317,6 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return Optional.of(item);
     }
 
-    private static <T> Stream<T> streamOptional(Optional<T> opt) {
-        return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
-    }
-
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.RESTORE, PersistenceStrategy.Globals.CHANGE);
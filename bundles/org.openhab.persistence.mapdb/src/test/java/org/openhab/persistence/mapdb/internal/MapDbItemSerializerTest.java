@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.State;
+
+/**
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemSerializerTest {
+    private final MapDbItemSerializer serializer = new MapDbItemSerializer();
+
+    @ParameterizedTest
+    @MethodSource
+    public void serializeDeserializeRoundtripShouldRecreateTheState(State state) {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(state);
+        item.setTimestamp(new Date(1700000000123L));
+
+        MapDbItem actual = Objects.requireNonNull(serializer.deserialize(serializer.serialize(item)));
+
+        assertThat(actual.getName(), is("item"));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getState().getClass(), is(equalTo(state.getClass())));
+        assertThat(actual.getTimestamp(), is(equalTo(item.getTimestamp())));
+        assertThat(actual.getLastState(), is(nullValue()));
+        assertThat(actual.getLastStateChange(), is(nullValue()));
+    }
+
+    public static Stream<State> serializeDeserializeRoundtripShouldRecreateTheState() {
+        return Stream.of(DecimalType.ZERO, new DecimalType(1.123), new DecimalType(new BigDecimal("1E+400")),
+                PercentType.HUNDRED, PercentType.valueOf("99.999"), HSBType.fromRGB(11, 22, 33),
+                QuantityType.valueOf(20, Units.AMPERE), new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+                OnOffType.ON, OnOffType.OFF, OpenClosedType.OPEN, OpenClosedType.CLOSED, StringType.valueOf(""),
+                StringType.valueOf("@@@###   @@@ äöü"), new DateTimeType("2024-01-02T03:04:05.678+0100"),
+                UpDownType.DOWN, new PointType("52.5,13.4"));
+    }
+
+    @Test
+    public void serializeDeserializeShouldKeepLastState() {
+        MapDbItem item = new MapDbItem();
+        item.setName("item");
+        item.setState(OnOffType.ON);
+        item.setTimestamp(new Date(1700000000123L));
+        item.setLastState(OnOffType.OFF);
+        item.setLastStateChange(new Date(1600000000456L));
+
+        MapDbItem actual = Objects.requireNonNull(serializer.deserialize(serializer.serialize(item)));
+
+        assertThat(actual.getLastState(), is(OnOffType.OFF));
+        assertThat(actual.getLastStateChange(), is(equalTo(item.getLastStateChange())));
+    }
+
+    @Test
+    public void deserializeShouldRejectInvalidData() {
+        assertThat(serializer.deserialize(new byte[0]), is(nullValue()));
+        assertThat(serializer.deserialize(new byte[] { 42 }), is(nullValue()));
+        // truncated name
+        assertThat(serializer.deserialize(new byte[] { 1, 0, 0, 0, 100 }), is(nullValue()));
+    }
+}
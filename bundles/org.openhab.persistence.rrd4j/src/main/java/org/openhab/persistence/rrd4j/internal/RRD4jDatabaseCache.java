@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RRD4jDatabaseCache} keeps recently used databases open, so that storing values does not need to open and
+ * close the database file every time.
+ *
+ * The cache is ordered by access. If it is full, the least recently used database is closed. Databases that have not
+ * been used for longer than the idle timeout are closed by {@link #evictIdle()}.
+ *
+ * Databases are opened outside of the cache lock, so opening a database file does not block access to other
+ * databases. Concurrent requests for a database that is currently being opened wait for that database.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDatabaseCache {
+
+    private static class Entry {
+        private final RrdDb db;
+        private long lastAccess;
+        private int users = 0;
+
+        private Entry(RrdDb db) {
+            this.db = db;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jDatabaseCache.class);
+
+    private final Map<String, Entry> databases = new LinkedHashMap<>(16, 0.75f, true);
+    // evicted databases that are still in use, they are closed when they are released
+    private final Map<String, Entry> evictedDatabases = new HashMap<>();
+    // databases that are currently being opened
+    private final Map<String, CompletableFuture<@Nullable RrdDb>> openingDatabases = new HashMap<>();
+    // incremented by clear(), databases opened before are not cached anymore
+    private long generation = 0;
+    private int maxSize;
+    private long idleTimeout;
+
+    // statistics
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * @param maxSize the maximum number of open databases, 0 disables the cache
+     * @param idleTimeout the time in milliseconds after which an unused database is closed
+     */
+    public RRD4jDatabaseCache(int maxSize, long idleTimeout) {
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Change the limits of the cache. Databases exceeding the new size are closed.
+     *
+     * @param maxSize the maximum number of open databases, 0 disables the cache
+     * @param idleTimeout the time in milliseconds after which an unused database is closed
+     */
+    public synchronized void setLimits(int maxSize, long idleTimeout) {
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout;
+        trim();
+    }
+
+    /**
+     * Get a database from the cache, opening it if it is not cached.
+     *
+     * The returned database has to be handed back with {@link #release(String, RrdDb)} after use instead of closing it.
+     *
+     * @param name the name of the database
+     * @param opener the function to open the database if it is not cached
+     * @return the database or {@code null} if it could not be opened
+     */
+    public @Nullable RrdDb get(String name, Function<String, @Nullable RrdDb> opener) {
+        CompletableFuture<@Nullable RrdDb> opening;
+        long openingGeneration;
+        while (true) {
+            synchronized (this) {
+                RrdDb db = acquire(name);
+                if (db != null) {
+                    hits++;
+                    return db;
+                }
+                CompletableFuture<@Nullable RrdDb> pending = openingDatabases.get(name);
+                if (pending == null) {
+                    misses++;
+                    opening = new CompletableFuture<>();
+                    openingDatabases.put(name, opening);
+                    openingGeneration = generation;
+                    break;
+                }
+                opening = pending;
+            }
+            // another thread is opening the database, wait for it and look it up again
+            opening.join();
+        }
+
+        RrdDb db = null;
+        try {
+            db = opener.apply(name);
+            return db == null ? null : add(name, db, openingGeneration);
+        } finally {
+            synchronized (this) {
+                openingDatabases.remove(name);
+            }
+            opening.complete(db);
+        }
+    }
+
+    /**
+     * Look up a cached database and mark it as used.
+     */
+    private @Nullable RrdDb acquire(String name) {
+        Entry entry = databases.get(name);
+        if (entry == null) {
+            entry = evictedDatabases.remove(name);
+            if (entry != null) {
+                databases.put(name, entry);
+            }
+        }
+        if (entry == null) {
+            return null;
+        }
+        if (entry.db.isClosed()) {
+            databases.remove(name);
+            return null;
+        }
+        entry.lastAccess = System.currentTimeMillis();
+        entry.users++;
+        trim();
+        return entry.db;
+    }
+
+    /**
+     * Add a newly opened database to the cache and mark it as used.
+     */
+    private synchronized RrdDb add(String name, RrdDb db, long openingGeneration) {
+        if (maxSize <= 0 || openingGeneration != generation) {
+            // not cached, closed on release
+            return db;
+        }
+        Entry entry = new Entry(db);
+        entry.lastAccess = System.currentTimeMillis();
+        entry.users = 1;
+        databases.put(name, entry);
+        trim();
+        return db;
+    }
+
+    /**
+     * Hand back a database returned by {@link #get(String, Function)}. The database is closed if it is not kept open
+     * by the cache.
+     *
+     * @param name the name of the database
+     * @param db the database
+     */
+    public synchronized void release(String name, RrdDb db) {
+        Entry entry = databases.get(name);
+        if (entry != null && entry.db == db) {
+            entry.users--;
+            return;
+        }
+        entry = evictedDatabases.get(name);
+        if (entry != null && entry.db == db) {
+            if (--entry.users == 0) {
+                evictedDatabases.remove(name);
+                close(name, db);
+            }
+            return;
+        }
+        // not cached
+        close(name, db);
+    }
+
+    /**
+     * Remove a database from the cache and close it, e.g. because accessing it failed.
+     *
+     * @param name the name of the database
+     */
+    public synchronized void invalidate(String name) {
+        Entry entry = databases.remove(name);
+        if (entry != null) {
+            evict(name, entry);
+        }
+    }
+
+    /**
+     * Close all databases that have not been used within the idle timeout.
+     */
+    public synchronized void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleTimeout;
+        Iterator<Map.Entry<String, Entry>> iterator = databases.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> entry = iterator.next();
+            if (entry.getValue().lastAccess >= threshold) {
+                // access-ordered, all following entries have been used more recently
+                return;
+            }
+            iterator.remove();
+            evictions++;
+            evict(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Close all cached databases.
+     */
+    public synchronized void clear() {
+        generation++;
+        databases.forEach(this::evict);
+        databases.clear();
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<String, Entry>> iterator = databases.entrySet().iterator();
+        while (databases.size() > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Entry> entry = iterator.next();
+            iterator.remove();
+            evictions++;
+            evict(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void evict(String name, Entry entry) {
+        if (entry.users > 0) {
+            evictedDatabases.put(name, entry);
+        } else {
+            close(name, entry.db);
+        }
+    }
+
+    private void close(String name, RrdDb db) {
+        try {
+            db.close();
+        } catch (IOException e) {
+            logger.debug("Error closing rrd4j database '{}': {}", name, e.getMessage());
+        }
+    }
+
+    public synchronized int getSize() {
+        return databases.size();
+    }
+
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+}
@@ -34,6 +34,9 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -117,6 +120,54 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    /**
+     * Consumer for the values of a database, see {@link #forEachValue(FetchData, long, long, boolean, ValueConsumer)}.
+     */
+    @FunctionalInterface
+    private interface ValueConsumer {
+        /**
+         * @param timestamp the timestamp of the value (epoch seconds)
+         * @param value the value
+         * @return {@code true} to continue, {@code false} to stop
+         */
+        boolean accept(long timestamp, double value);
+    }
+
+    /**
+     * Collects the values of a query as {@link HistoricItem}s, honoring the requested page.
+     */
+    private static class HistoricItemCollector implements ValueConsumer {
+        private final String itemName;
+        private final DoubleFunction<State> toState;
+        private final List<HistoricItem> items = new ArrayList<>();
+        private long skip;
+        private final int limit;
+        private double prevValue = Double.NaN;
+        private @Nullable State prevState;
+
+        private HistoricItemCollector(String itemName, DoubleFunction<State> toState, int pageNumber, int pageSize) {
+            this.itemName = itemName;
+            this.toState = toState;
+            this.skip = (long) pageNumber * pageSize;
+            this.limit = pageSize;
+        }
+
+        @Override
+        public boolean accept(long timestamp, double value) {
+            if (skip > 0) {
+                skip--;
+                return true;
+            }
+            State state = prevState;
+            if (state == null || prevValue != value) {
+                prevState = state = toState.apply(value);
+                prevValue = value;
+            }
+            items.add(new RRD4jItem(itemName, state, Instant.ofEpochSecond(timestamp)));
+            return items.size() < limit;
+        }
+    }
+
     public static final String SERVICE_ID = "rrd4j";
 
     private static final String DEFAULT_OTHER = "default_other";
@@ -133,11 +184,23 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
 
-    private static final String DATASOURCE_STATE = "state";
+    private final Map<String, ReadWriteLock> databaseLocks = new ConcurrentHashMap<>();
+
+    static final String DATASOURCE_STATE = "state";
 
     private static final Path DB_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "rrd4j").toAbsolutePath();
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
+    // capacity of the pool without the databases kept open by the cache
+    private static final int DEFAULT_POOL_CAPACITY = 200;
+
+    private static final String CONFIG_CACHE_SIZE = "cacheSize";
+    private static final String CONFIG_CACHE_IDLE_TIMEOUT = "cacheIdleTimeout";
+    private static final int DEFAULT_CACHE_SIZE = 100;
+    private static final int DEFAULT_CACHE_IDLE_TIMEOUT = 600;
+
+    private final RRD4jDatabaseCache databaseCache = new RRD4jDatabaseCache(DEFAULT_CACHE_SIZE,
+            TimeUnit.SECONDS.toMillis(DEFAULT_CACHE_IDLE_TIMEOUT));
 
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
@@ -151,12 +214,18 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return DATABASE_POOL;
     }
 
+    public RRD4jDatabaseCache getDatabaseCache() {
+        return databaseCache;
+    }
+
     private final ScheduledFuture<?> storeJob;
+    private final ScheduledFuture<?> cacheJob;
 
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
+        cacheJob = scheduler.scheduleWithFixedDelay(databaseCache::evictIdle, 1, 1, TimeUnit.MINUTES);
         modified(config);
         active = true;
     }
@@ -205,6 +274,11 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         defaultOther.addArchives("LAST,0.5,1,720:LAST,0.5,12,10080:LAST,0.5,180,35040:LAST,0.5,2880,21900");
         rrdDefs.put(DEFAULT_OTHER, defaultOther);
 
+        int cacheSize = getIntConfig(config, CONFIG_CACHE_SIZE, DEFAULT_CACHE_SIZE);
+        int cacheIdleTimeout = getIntConfig(config, CONFIG_CACHE_IDLE_TIMEOUT, DEFAULT_CACHE_IDLE_TIMEOUT);
+        DATABASE_POOL.setCapacity(DEFAULT_POOL_CAPACITY + cacheSize);
+        databaseCache.setLimits(cacheSize, TimeUnit.SECONDS.toMillis(cacheIdleTimeout));
+
         if (config.isEmpty()) {
             logger.debug("using default configuration only");
             return;
@@ -214,8 +288,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         while (keys.hasNext()) {
             String key = keys.next();
 
-            if ("service.pid".equals(key) || "component.name".equals(key)) {
-                // ignore service.pid and name
+            if ("service.pid".equals(key) || "component.name".equals(key) || CONFIG_CACHE_SIZE.equals(key)
+                    || CONFIG_CACHE_IDLE_TIMEOUT.equals(key)) {
+                // ignore service.pid and name, cache settings have already been processed
                 continue;
             }
 
@@ -269,13 +344,35 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private int getIntConfig(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = value instanceof Number number ? number.intValue()
+                    : Integer.parseInt(value.toString().trim());
+            if (intValue >= 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        logger.warn("Ignoring illegal configuration {}={}, using default value {}", key, value, defaultValue);
+        return defaultValue;
+    }
+
     @Deactivate
     protected void deactivate() {
         active = false;
         storeJob.cancel(false);
+        cacheJob.cancel(false);
 
         // make sure we really store everything
         doStore(true);
+
+        // close all databases kept open by the cache
+        databaseCache.clear();
     }
 
     @Override
@@ -356,10 +453,20 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
+    private void writePointToDatabase(String name, double value, long timestamp) {
+        Lock lock = getDatabaseLock(name).writeLock();
+        lock.lock();
+        try {
+            writePoint(name, value, timestamp);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writePoint(String name, double value, long timestamp) {
         RrdDb db = null;
         try {
-            db = getDB(name, true);
+            db = databaseCache.get(name, n -> getDB(n, true));
         } catch (Exception e) {
             logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
         }
@@ -400,12 +507,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+            // do not keep a broken database open
+            databaseCache.invalidate(name);
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
+        databaseCache.release(name, db);
     }
 
     @Override
@@ -420,6 +525,30 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        ZonedDateTime filterBeginDate = filter.getBeginDate();
+        ZonedDateTime filterEndDate = filter.getEndDate();
+        long resolution = 1;
+        if (filterBeginDate != null) {
+            long end = filterEndDate == null ? System.currentTimeMillis() / 1000
+                    : filterEndDate.toInstant().getEpochSecond();
+            resolution = getResolution(filterBeginDate.toInstant().getEpochSecond(), end, filter.getPageSize());
+        }
+        return query(filter, alias, resolution);
+    }
+
+    /**
+     * Queries the database with a reduced resolution.
+     *
+     * In contrast to the most granular archive covering the requested period, the coarsest archive which covers the
+     * period and whose step does not exceed the given resolution is used. This allows to retrieve e.g. one value per
+     * hour over a long period without reading all values of the most granular archive.
+     *
+     * @param filter the filter to apply to the query
+     * @param alias the alias of the item, {@code null} if the item name shall be used
+     * @param resolution the requested resolution (seconds between two values)
+     * @return the historic items matching the filter
+     */
+    public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias, long resolution) {
         ZonedDateTime filterBeginDate = filter.getBeginDate();
         ZonedDateTime filterEndDate = filter.getEndDate();
         Ordering ordering = filter.getOrdering();
@@ -434,19 +563,6 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
         logger.trace("Querying rrd4j database for item '{}'", itemName);
 
-        String localAlias = alias != null ? alias : itemName;
-        RrdDb db = null;
-        try {
-            db = getDB(localAlias, false);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' for querying ({})", itemName, e.toString());
-            return List.of();
-        }
-        if (db == null) {
-            logger.debug("Could not find item '{}' in rrd4j database", itemName);
-            return List.of();
-        }
-
         Item item = null;
         Unit<?> unit = null;
         try {
@@ -463,95 +579,158 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             logger.debug("Could not find item '{}' in registry", itemName);
         }
 
-        long start = 0L;
-        long end = filterEndDate == null ? System.currentTimeMillis() / 1000
-                : filterEndDate.toInstant().getEpochSecond();
-
         DoubleFunction<State> toState = toStateMapper(item, unit);
 
+        String localAlias = alias != null ? alias : itemName;
+        Lock lock = getDatabaseLock(localAlias).readLock();
+        lock.lock();
         try {
-            if (filterBeginDate == null) {
-                // as rrd goes back for years and gets more and more inaccurate, we only support descending order
-                // and only return values from the most granular archive of the end date - this case is required
-                // specifically for the persistedState() and previousChange() queries, which we want to support
-                if (ordering == Ordering.DESCENDING) {
-                    if (filter.getPageSize() == 1 && filter.getPageNumber() == 0 && (filterEndDate == null || Duration
-                            .between(filterEndDate, ZonedDateTime.now()).getSeconds() < db.getHeader().getStep())) {
-                        // we are asked only for the most recent value!
-                        double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
-                        if (!Double.isNaN(lastValue)) {
-                            HistoricItem rrd4jItem = new RRD4jItem(itemName, toState.apply(lastValue),
-                                    Instant.ofEpochSecond(db.getLastArchiveUpdateTime()));
-                            return List.of(rrd4jItem);
+            RrdDb db = null;
+            try {
+                db = getDB(localAlias, false);
+            } catch (Exception e) {
+                logger.warn("Failed to open rrd4j database '{}' for querying ({})", itemName, e.toString());
+                return List.of();
+            }
+            if (db == null) {
+                logger.debug("Could not find item '{}' in rrd4j database", itemName);
+                return List.of();
+            }
+
+            long start = 0L;
+            long end = filterEndDate == null ? System.currentTimeMillis() / 1000
+                    : filterEndDate.toInstant().getEpochSecond();
+
+            try {
+                if (filterBeginDate == null) {
+                    // as rrd goes back for years and gets more and more inaccurate, we only support descending order
+                    // and only return values from the most granular archive of the end date - this case is required
+                    // specifically for the persistedState() and previousChange() queries, which we want to support
+                    if (ordering == Ordering.DESCENDING) {
+                        if (filter.getPageSize() == 1 && filter.getPageNumber() == 0
+                                && (filterEndDate == null || Duration.between(filterEndDate, ZonedDateTime.now())
+                                        .getSeconds() < db.getHeader().getStep())) {
+                            // we are asked only for the most recent value!
+                            double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
+                            if (!Double.isNaN(lastValue)) {
+                                HistoricItem rrd4jItem = new RRD4jItem(itemName, toState.apply(lastValue),
+                                        Instant.ofEpochSecond(db.getLastArchiveUpdateTime()));
+                                return List.of(rrd4jItem);
+                            }
+                        } else {
+                            ConsolFun consolFun = getConsolidationFunction(db);
+                            FetchRequest request = db.createFetchRequest(consolFun, end, end, resolution);
+                            Archive archive = db.findMatchingArchive(request);
+                            long arcStep = archive.getArcStep();
+                            start = archive.getStartTime() - arcStep;
+                            // Make sure end is aligned with matching archive
+                            end = end % arcStep == 0 ? end : (end / arcStep + 1) * arcStep;
                         }
                     } else {
-                        ConsolFun consolFun = getConsolidationFunction(db);
-                        FetchRequest request = db.createFetchRequest(consolFun, end, end, 1);
-                        Archive archive = db.findMatchingArchive(request);
-                        long arcStep = archive.getArcStep();
-                        start = archive.getStartTime() - arcStep;
-                        end = end % arcStep == 0 ? end : (end / arcStep + 1) * arcStep; // Make sure end is aligned with
-                                                                                        // matching archive
+                        throw new UnsupportedOperationException(
+                                "rrd4j does not allow querys without a begin date, unless order is descending");
                     }
                 } else {
-                    throw new UnsupportedOperationException(
-                            "rrd4j does not allow querys without a begin date, unless order is descending");
+                    start = filterBeginDate.toInstant().getEpochSecond();
                 }
-            } else {
-                start = filterBeginDate.toInstant().getEpochSecond();
-            }
 
-            // do not call method {@link RrdDb#createFetchRequest(ConsolFun, long, long, long)} if start > end to avoid
-            // an IAE to be thrown
-            if (start > end) {
-                logger.debug("Could not query rrd4j database for item '{}': start ({}) > end ({})", itemName, start,
-                        end);
-                return List.of();
-            }
+                // do not call method {@link RrdDb#createFetchRequest(ConsolFun, long, long, long)} if start > end to
+                // avoid an IAE to be thrown
+                if (start > end) {
+                    logger.debug("Could not query rrd4j database for item '{}': start ({}) > end ({})", itemName,
+                            start, end);
+                    return List.of();
+                }
 
-            FetchRequest request = db.createFetchRequest(getConsolidationFunction(db), start, end, 1);
-            FetchData result = request.fetchData();
-
-            List<HistoricItem> items = new ArrayList<>();
-            long step = result.getRowCount() > 1 ? result.getStep() : 0;
-
-            double prevValue = Double.NaN;
-            State prevState = null;
-            double[] values = result.getValues(DATASOURCE_STATE);
-            // Descending order shall start with the last timestamp and go backward
-            long ts = (ordering == Ordering.DESCENDING) ? result.getLastTimestamp() : result.getFirstTimestamp();
-            step = (ordering == Ordering.DESCENDING) ? -1 * step : step;
-            int startIndex = (ordering == Ordering.DESCENDING) ? values.length - 1 : 0;
-            int endIndex = (ordering == Ordering.DESCENDING) ? -1 : values.length;
-            int indexStep = (ordering == Ordering.DESCENDING) ? -1 : 1;
-            for (int i = startIndex; i != endIndex; i = i + indexStep) {
-                double value = values[i];
-                if (!Double.isNaN(value) && (((ts >= start) && (ts <= end)) || (start == end))) {
-                    State state;
-
-                    if (prevValue == value) {
-                        state = prevState;
-                    } else {
-                        prevState = state = toState.apply(value);
-                        prevValue = value;
-                    }
+                FetchData result = fetchData(db, getConsolidationFunction(db), start, end, resolution);
 
-                    RRD4jItem rrd4jItem = new RRD4jItem(itemName, state, Instant.ofEpochSecond(ts));
-                    items.add(rrd4jItem);
+                HistoricItemCollector collector = new HistoricItemCollector(itemName, toState, filter.getPageNumber(),
+                        filter.getPageSize());
+                forEachValue(result, start, end, ordering == Ordering.DESCENDING, collector);
+                return collector.items;
+            } catch (IOException e) {
+                logger.warn("Could not query rrd4j database for item '{}': {}", itemName, e.getMessage());
+                return List.of();
+            } finally {
+                try {
+                    db.close();
+                } catch (IOException e) {
+                    logger.debug("Error closing rrd4j database: {}", e.getMessage());
                 }
-                ts += step;
             }
-            return items;
-        } catch (IOException e) {
-            logger.warn("Could not query rrd4j database for item '{}': {}", itemName, e.getMessage());
-            return List.of();
         } finally {
-            try {
-                db.close();
-            } catch (IOException e) {
-                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the resolution needed to return a full page of values for the given period, i.e. the period divided by
+     * the page size. If the page size is unlimited, the most granular resolution is returned.
+     *
+     * @param start the start of the period (epoch seconds)
+     * @param end the end of the period (epoch seconds)
+     * @param pageSize the page size of the query
+     * @return the resolution (seconds between two values)
+     */
+    static long getResolution(long start, long end, int pageSize) {
+        if (pageSize <= 0 || pageSize == Integer.MAX_VALUE) {
+            return 1;
+        }
+        return Math.max(1, (end - start) / pageSize);
+    }
+
+    /**
+     * Fetches the values of the given period from the coarsest archive whose step does not exceed the resolution and
+     * which covers the start of the period. If there is no such archive, rrd4j selects the most granular archive.
+     *
+     * @param db the database
+     * @param consolFun the consolidation function of the database
+     * @param start the start of the period (epoch seconds)
+     * @param end the end of the period (epoch seconds)
+     * @param resolution the requested resolution (seconds between two values)
+     * @return the fetched values
+     * @throws IOException if the database could not be read
+     */
+    static FetchData fetchData(RrdDb db, ConsolFun consolFun, long start, long end, long resolution)
+            throws IOException {
+        Archive bestArchive = null;
+        for (int i = 0; i < db.getArcCount(); i++) {
+            Archive archive = db.getArchive(i);
+            long arcStep = archive.getArcStep();
+            if (archive.getConsolFun() == consolFun && arcStep <= resolution && archive.getStartTime() <= start
+                    && (bestArchive == null || arcStep > bestArchive.getArcStep())) {
+                bestArchive = archive;
             }
         }
+        if (bestArchive == null) {
+            return db.createFetchRequest(consolFun, start, end, 1).fetchData();
+        }
+        // rrd4j prefers archives which cover the whole period, a coarse archive ends with its last consolidated row
+        long fetchEnd = Math.max(start, Math.min(end, bestArchive.getEndTime()));
+        return db.createFetchRequest(consolFun, start, fetchEnd, bestArchive.getArcStep()).fetchData();
+    }
+
+    /**
+     * Passes all values of the fetch result within the given period to the consumer.
+     */
+    private void forEachValue(FetchData result, long start, long end, boolean descending, ValueConsumer consumer) {
+        long step = result.getRowCount() > 1 ? result.getStep() : 0;
+        double[] values = result.getValues(DATASOURCE_STATE);
+        // Descending order shall start with the last timestamp and go backward
+        long ts = descending ? result.getLastTimestamp() : result.getFirstTimestamp();
+        step = descending ? -1 * step : step;
+        int startIndex = descending ? values.length - 1 : 0;
+        int endIndex = descending ? -1 : values.length;
+        int indexStep = descending ? -1 : 1;
+        for (int i = startIndex; i != endIndex; i = i + indexStep) {
+            double value = values[i];
+            if (!Double.isNaN(value) && (((ts >= start) && (ts <= end)) || (start == end))) {
+                if (!consumer.accept(ts, value)) {
+                    return;
+                }
+            }
+            ts += step;
+        }
     }
 
     /**
@@ -579,63 +758,69 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         String localAlias = alias != null ? alias : itemName;
 
-        RrdDb db = null;
-        try {
-            db = getDB(localAlias, false);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' for querying ({})", itemName, e.toString());
-            return null;
-        }
-        if (db == null) {
-            logger.debug("Could not find item '{}' in rrd4j database", itemName);
-            return null;
-        }
-
+        Lock lock = getDatabaseLock(localAlias).readLock();
+        lock.lock();
         try {
-            // First get the last update state and time
-            currentValue = db.getLastDatasourceValue(DATASOURCE_STATE);
-            lastUpdate = db.getLastArchiveUpdateTime();
-            if (Double.isNaN(currentValue)) {
-                logger.debug("Could not find persisted value for item '{}' in rrd4j database", itemName);
+            RrdDb db = null;
+            try {
+                db = getDB(localAlias, false);
+            } catch (Exception e) {
+                logger.warn("Failed to open rrd4j database '{}' for querying ({})", itemName, e.toString());
                 return null;
             }
-
-            // Then query backwards in the archive that contains the last update. Don't go beyond as the aggregation
-            // function may make comparison impossible, and we want to keep the performance impact low. If there is no
-            // change found in this archive, don't update last change.
-            ConsolFun consolFun = getConsolidationFunction(db);
-            FetchRequest request = db.createFetchRequest(consolFun, lastUpdate, lastUpdate, 1);
-            Archive archive = db.findMatchingArchive(request);
-            long archiveStart = archive.getStartTime() - archive.getArcStep();
-            if (archiveStart > lastUpdate) {
-                logger.debug("rrd4j for item '{}': archive start ({}) > last update ({}), only restore last update",
-                        itemName, archiveStart, lastUpdate);
-                archiveStart = lastUpdate;
-            }
-            request = db.createFetchRequest(consolFun, archiveStart, lastUpdate, 1);
-            FetchData result = request.fetchData();
-
-            long ts = result.getLastTimestamp();
-            long step = result.getRowCount() > 1 ? result.getStep() : 0;
-            double[] values = result.getValues(DATASOURCE_STATE);
-            for (int i = values.length - 1; i >= 0; i--) {
-                double value = values[i];
-                if (value != currentValue) {
-                    previousValue = value;
-                    lastChange = ts;
-                    break;
-                }
-                ts -= step;
+            if (db == null) {
+                logger.debug("Could not find item '{}' in rrd4j database", itemName);
+                return null;
             }
-        } catch (IOException e) {
-            logger.warn("Could not query rrd4j database for item '{}': {}", itemName, e.getMessage());
-            return null;
-        } finally {
+
             try {
-                db.close();
+                // First get the last update state and time
+                currentValue = db.getLastDatasourceValue(DATASOURCE_STATE);
+                lastUpdate = db.getLastArchiveUpdateTime();
+                if (Double.isNaN(currentValue)) {
+                    logger.debug("Could not find persisted value for item '{}' in rrd4j database", itemName);
+                    return null;
+                }
+
+                // Then query backwards in the archive that contains the last update. Don't go beyond as the
+                // aggregation function may make comparison impossible, and we want to keep the performance impact low.
+                // If there is no change found in this archive, don't update last change.
+                ConsolFun consolFun = getConsolidationFunction(db);
+                FetchRequest request = db.createFetchRequest(consolFun, lastUpdate, lastUpdate, 1);
+                Archive archive = db.findMatchingArchive(request);
+                long archiveStart = archive.getStartTime() - archive.getArcStep();
+                if (archiveStart > lastUpdate) {
+                    logger.debug("rrd4j for item '{}': archive start ({}) > last update ({}), only restore last update",
+                            itemName, archiveStart, lastUpdate);
+                    archiveStart = lastUpdate;
+                }
+                request = db.createFetchRequest(consolFun, archiveStart, lastUpdate, 1);
+                FetchData result = request.fetchData();
+
+                long ts = result.getLastTimestamp();
+                long step = result.getRowCount() > 1 ? result.getStep() : 0;
+                double[] values = result.getValues(DATASOURCE_STATE);
+                for (int i = values.length - 1; i >= 0; i--) {
+                    double value = values[i];
+                    if (value != currentValue) {
+                        previousValue = value;
+                        lastChange = ts;
+                        break;
+                    }
+                    ts -= step;
+                }
             } catch (IOException e) {
-                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+                logger.warn("Could not query rrd4j database for item '{}': {}", itemName, e.getMessage());
+                return null;
+            } finally {
+                try {
+                    db.close();
+                } catch (IOException e) {
+                    logger.debug("Error closing rrd4j database: {}", e.getMessage());
+                }
             }
+        } finally {
+            lock.unlock();
         }
 
         Item item = null;
@@ -700,7 +885,17 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    /**
+     * Get the database for an item or alias.
+     *
+     * Callers have to hold the lock returned by {@link #getDatabaseLock(String)} for the database: the write lock if
+     * the database is created or updated, the read lock otherwise.
+     *
+     * @param alias the name of the database (item name or alias)
+     * @param createFileIfAbsent whether the database file shall be created if it does not exist
+     * @return the database or {@code null} if it does not exist and could not be created
+     */
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
@@ -782,6 +977,17 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    /**
+     * Get the lock for a database. Writes to a database are exclusive, while queries can run concurrently. Locking per
+     * database makes sure that long-running queries don't block storing values to other databases.
+     *
+     * @param alias the name of the database (item name or alias)
+     * @return the lock
+     */
+    protected ReadWriteLock getDatabaseLock(String alias) {
+        return databaseLocks.computeIfAbsent(alias, a -> new ReentrantReadWriteLock());
+    }
+
     public ConsolFun getConsolidationFunction(RrdDb db) {
         try {
             return db.getArchive(0).getConsolFun();
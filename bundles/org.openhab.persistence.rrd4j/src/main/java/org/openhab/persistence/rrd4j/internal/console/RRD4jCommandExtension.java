@@ -35,6 +35,7 @@ import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
+import org.openhab.persistence.rrd4j.internal.RRD4jDatabaseCache;
 import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -52,8 +53,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     private static final String CMD_LIST = "list";
     private static final String CMD_CHECK = "check";
     private static final String CMD_CLEAN = "clean";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN),
-            false);
+    private static final String CMD_CACHE = "cache";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN, CMD_CACHE), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
@@ -89,6 +91,12 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         } else if (args.length >= 1 && args.length <= 2 && CMD_CLEAN.equalsIgnoreCase(args[0])) {
             checkAndClean(persistenceService, console, args.length == 2 ? args[1] : null, false);
             return;
+        } else if (args.length == 1 && CMD_CACHE.equalsIgnoreCase(args[0])) {
+            RRD4jDatabaseCache cache = persistenceService.getDatabaseCache();
+            console.println("Open databases: " + cache.getSize() + " (max. " + cache.getMaxSize() + ")");
+            console.println("Hits: " + cache.getHits() + ", misses: " + cache.getMisses() + ", evictions: "
+                    + cache.getEvictions());
+            return;
         }
         printUsage(console);
     }
@@ -141,7 +149,7 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
                 if (checkOnly) {
                     console.println("  - " + filename + ": no item found");
                     nb++;
-                } else if (path.toFile().delete()) {
+                } else if (closeAndDelete(persistenceService, name, path)) {
                     console.println("  - " + filename + ": file deleted");
                     nb++;
                 } else {
@@ -152,11 +160,18 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         console.println(nb + " files " + (checkOnly ? "to delete." : "deleted."));
     }
 
+    private boolean closeAndDelete(RRD4jPersistenceService persistenceService, String name, Path path) {
+        // make sure the database is not kept open by the cache
+        persistenceService.getDatabaseCache().invalidate(name);
+        return path.toFile().delete();
+    }
+
     @Override
     public List<String> getUsages() {
         return List.of(buildCommandUsage(CMD_LIST, "list Round Robin Database files"),
                 buildCommandUsage(CMD_CHECK, "check for RRD files without existing item"),
-                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"));
+                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"),
+                buildCommandUsage(CMD_CACHE, "show statistics of the cache of open RRD files"));
     }
 
     @Override
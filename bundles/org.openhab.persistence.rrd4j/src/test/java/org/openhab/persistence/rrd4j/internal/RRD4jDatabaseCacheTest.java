@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.rrd4j.core.RrdDb;
+
+/**
+ * Tests the {@link RRD4jDatabaseCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDatabaseCacheTest {
+
+    private final Map<String, RrdDb> openedDatabases = new ConcurrentHashMap<>();
+    private final AtomicInteger openCount = new AtomicInteger();
+
+    private final Function<String, @Nullable RrdDb> opener = name -> {
+        openCount.incrementAndGet();
+        RrdDb db = mock(RrdDb.class);
+        openedDatabases.put(name, db);
+        return db;
+    };
+
+    @Test
+    void cachedDatabaseIsReused() {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(10, 60000);
+
+        RrdDb first = cache.get("item", opener);
+        assertNotNull(first);
+        cache.release("item", first);
+        RrdDb second = cache.get("item", opener);
+
+        assertSame(first, second);
+        assertEquals(1, openCount.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    void uncachedDatabaseIsClosedOnRelease() throws IOException {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(0, 60000);
+
+        RrdDb db = cache.get("item", opener);
+        assertNotNull(db);
+        verify(db, never()).close();
+        cache.release("item", db);
+
+        verify(db).close();
+        assertEquals(0, cache.getSize());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void missingDatabaseIsNotCached() {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(10, 60000);
+
+        assertNull(cache.get("item", name -> null));
+        assertEquals(0, cache.getSize());
+        assertNotNull(cache.get("item", opener));
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void leastRecentlyUsedDatabaseIsEvicted() throws IOException {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(2, 60000);
+
+        for (String name : new String[] { "a", "b", "a", "c" }) {
+            RrdDb db = cache.get(name, opener);
+            assertNotNull(db);
+            cache.release(name, db);
+        }
+
+        verify(openedDatabases.get("b")).close();
+        verify(openedDatabases.get("a"), never()).close();
+        verify(openedDatabases.get("c"), never()).close();
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    void evictedDatabaseIsClosedWhenReleased() throws IOException {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(1, 60000);
+
+        RrdDb a = cache.get("a", opener);
+        assertNotNull(a);
+        RrdDb b = cache.get("b", opener);
+        assertNotNull(b);
+
+        // "a" has been evicted, but is still in use
+        verify(a, never()).close();
+        cache.release("a", a);
+        verify(a).close();
+        cache.release("b", b);
+        verify(b, never()).close();
+    }
+
+    @Test
+    void idleDatabasesAreEvicted() throws IOException, InterruptedException {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(10, 10);
+
+        RrdDb db = cache.get("item", opener);
+        assertNotNull(db);
+        cache.release("item", db);
+        Thread.sleep(50);
+        cache.evictIdle();
+
+        verify(db).close();
+        assertEquals(0, cache.getSize());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    void clearClosesAllDatabases() throws IOException {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(10, 60000);
+
+        RrdDb a = cache.get("a", opener);
+        assertNotNull(a);
+        cache.release("a", a);
+        RrdDb b = cache.get("b", opener);
+        assertNotNull(b);
+
+        cache.clear();
+        verify(a).close();
+        // still in use, closed on release
+        verify(b, never()).close();
+        cache.release("b", b);
+        verify(b).close();
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void openingDatabaseDoesNotBlockOtherDatabases() throws Exception {
+        RRD4jDatabaseCache cache = new RRD4jDatabaseCache(10, 60000);
+        CountDownLatch opening = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        Function<String, @Nullable RrdDb> slowOpener = name -> {
+            opening.countDown();
+            try {
+                proceed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return opener.apply(name);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            CompletableFuture<@Nullable RrdDb> slow = CompletableFuture
+                    .supplyAsync(() -> cache.get("slow", slowOpener), executor);
+            assertTrue(opening.await(5, TimeUnit.SECONDS));
+            CompletableFuture<@Nullable RrdDb> waiting = CompletableFuture
+                    .supplyAsync(() -> cache.get("slow", opener), executor);
+
+            // another database can be opened while "slow" is being opened
+            assertNotNull(CompletableFuture.supplyAsync(() -> cache.get("other", opener), executor).get(1,
+                    TimeUnit.SECONDS));
+            assertFalse(slow.isDone());
+
+            proceed.countDown();
+            RrdDb db = slow.get(5, TimeUnit.SECONDS);
+            assertNotNull(db);
+            // the second request for "slow" waited for the first one instead of opening the file again
+            assertSame(db, waiting.get(5, TimeUnit.SECONDS));
+            assertEquals(2, openCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
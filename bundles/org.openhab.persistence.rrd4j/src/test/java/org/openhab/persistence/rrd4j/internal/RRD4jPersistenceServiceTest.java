@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.FetchData;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+import org.rrd4j.core.Sample;
+
+/**
+ * Tests the archive selection of reduced-resolution queries of the {@link RRD4jPersistenceService}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jPersistenceServiceTest {
+
+    private static final long STEP = 60;
+    private static final long END = 1_700_002_800L;
+    private static final long START = END - 2 * 86400;
+
+    private @NonNullByDefault({}) RrdDb db;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        RrdDef rrdDef = new RrdDef("test", START - STEP, STEP);
+        rrdDef.addDatasource(RRD4jPersistenceService.DATASOURCE_STATE, DsType.GAUGE, 2 * STEP, Double.NaN,
+                Double.NaN);
+        // one day with one minute steps, one week with ten minute steps, 30 days with one hour steps
+        rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 1440);
+        rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 10, 1008);
+        rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 60, 720);
+        db = RrdDb.getBuilder().setRrdDef(rrdDef).setBackendFactory(new RrdMemoryBackendFactory()).build();
+
+        Sample sample = db.createSample();
+        for (long timestamp = START; timestamp <= END; timestamp += STEP) {
+            sample.setTime(timestamp);
+            sample.setValue(RRD4jPersistenceService.DATASOURCE_STATE, 1.0);
+            sample.update();
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        db.close();
+    }
+
+    @Test
+    void resolutionIsDerivedFromPeriodAndPageSize() {
+        assertEquals(1, RRD4jPersistenceService.getResolution(0, 86400, Integer.MAX_VALUE));
+        assertEquals(864, RRD4jPersistenceService.getResolution(0, 86400, 100));
+        assertEquals(1, RRD4jPersistenceService.getResolution(0, 10, 100));
+    }
+
+    @Test
+    void mostGranularArchiveIsUsedForFullResolution() throws IOException {
+        FetchData result = RRD4jPersistenceService.fetchData(db, ConsolFun.AVERAGE, END - 3600, END, 1);
+
+        assertEquals(STEP, result.getStep());
+    }
+
+    @Test
+    void coarsestArchiveNotExceedingTheResolutionIsUsed() throws IOException {
+        long start = END - 12 * 3600;
+
+        assertEquals(STEP, RRD4jPersistenceService.fetchData(db, ConsolFun.AVERAGE, start, END, 599).getStep());
+        assertEquals(600, RRD4jPersistenceService.fetchData(db, ConsolFun.AVERAGE, start, END, 864).getStep());
+        assertEquals(600, RRD4jPersistenceService.fetchData(db, ConsolFun.AVERAGE, start, END, 3599).getStep());
+        assertEquals(3600, RRD4jPersistenceService.fetchData(db, ConsolFun.AVERAGE, start, END, 86400).getStep());
+    }
+
+    @Test
+    void coarseArchiveReturnsValuesOfTheWholePeriod() throws IOException {
+        long start = END - 12 * 3600;
+
+        FetchData result = RRD4jPersistenceService.fetchData(db, ConsolFun.AVERAGE, start, END, 864);
+
+        assertEquals(600, result.getStep());
+        assertTrue(result.getFirstTimestamp() <= start);
+        assertTrue(result.getLastTimestamp() > END - 600);
+        for (double value : result.getValues(RRD4jPersistenceService.DATASOURCE_STATE)) {
+            assertEquals(1.0, value);
+        }
+    }
+
+    @Test
+    void archivesNotCoveringTheStartAreSkipped() throws IOException {
+        // the one minute archive only covers one day, so it cannot be used for two days
+        FetchData result = RRD4jPersistenceService.fetchData(db, ConsolFun.AVERAGE, END - 2 * 86400 + 600, END,
+                300);
+
+        assertEquals(600, result.getStep());
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.util.Statistics;
+
+/**
+ * Keeps statistics over the last values of a series, updating them incrementally for every new value instead of
+ * recalculating them from all values in the window.
+ *
+ * <ul>
+ * <li>the sum and the sum of squares are kept for the average and the standard deviation,</li>
+ * <li>monotonic queues of window candidates are kept for the minimum and the maximum,</li>
+ * <li>the lower and the upper half of the values are kept in two sorted multisets for the median.</li>
+ * </ul>
+ *
+ * Only the data needed for the requested {@link Statistic}s is maintained.
+ *
+ * All values are kept as {@link BigDecimal}, so the results are exactly the same as when calculating them from the
+ * list of values.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class RollingStatistics {
+
+    /**
+     * The statistics that can be requested from a {@link RollingStatistics} instance.
+     */
+    enum Statistic {
+        AVERAGE,
+        STANDARD_DEVIATION,
+        MIN,
+        MAX,
+        MEDIAN
+    }
+
+    private record IndexedValue(long index, BigDecimal value) {
+    }
+
+    private final BigDecimal[] values;
+    private int head = 0;
+    private int size = 0;
+    // number of values added so far, i.e. the index of the next value
+    private long count = 0;
+
+    private BigDecimal sum = BigDecimal.ZERO;
+    private BigDecimal sumOfSquares = BigDecimal.ZERO;
+
+    private final Deque<IndexedValue> minCandidates = new ArrayDeque<>();
+    private final Deque<IndexedValue> maxCandidates = new ArrayDeque<>();
+
+    private final boolean trackSums;
+    private final boolean trackMin;
+    private final boolean trackMax;
+    private final boolean trackMedian;
+    private final TreeMap<BigDecimal, Integer> lowerHalf = new TreeMap<>();
+    private final TreeMap<BigDecimal, Integer> upperHalf = new TreeMap<>();
+    private int lowerSize = 0;
+    private int upperSize = 0;
+
+    /**
+     * @param windowSize the number of values to keep
+     * @param statistics the statistics that will be requested
+     */
+    RollingStatistics(int windowSize, Set<Statistic> statistics) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        this.values = new BigDecimal[windowSize];
+        this.trackSums = statistics.contains(Statistic.AVERAGE) || statistics.contains(Statistic.STANDARD_DEVIATION);
+        this.trackMin = statistics.contains(Statistic.MIN);
+        this.trackMax = statistics.contains(Statistic.MAX);
+        this.trackMedian = statistics.contains(Statistic.MEDIAN);
+    }
+
+    /**
+     * Adds a value, removing the oldest value if the window is full.
+     *
+     * @param value the new value
+     */
+    void add(BigDecimal value) {
+        if (size == values.length) {
+            BigDecimal oldest = values[head];
+            values[head] = null;
+            head = (head + 1) % values.length;
+            size--;
+            if (trackSums) {
+                sum = sum.subtract(oldest);
+                sumOfSquares = sumOfSquares.subtract(oldest.multiply(oldest));
+            }
+            if (trackMedian) {
+                removeFromHalves(oldest);
+            }
+        }
+
+        values[(head + size) % values.length] = value;
+        size++;
+        if (trackSums) {
+            sum = sum.add(value);
+            sumOfSquares = sumOfSquares.add(value.multiply(value));
+        }
+        if (trackMedian) {
+            addToHalves(value);
+        }
+
+        IndexedValue indexedValue = new IndexedValue(count, value);
+        IndexedValue candidate;
+        if (trackMin) {
+            while ((candidate = minCandidates.peekLast()) != null && candidate.value().compareTo(value) >= 0) {
+                minCandidates.pollLast();
+            }
+            minCandidates.addLast(indexedValue);
+        }
+        if (trackMax) {
+            while ((candidate = maxCandidates.peekLast()) != null && candidate.value().compareTo(value) <= 0) {
+                maxCandidates.pollLast();
+            }
+            maxCandidates.addLast(indexedValue);
+        }
+
+        count++;
+        long firstIndex = count - size;
+        while ((candidate = minCandidates.peekFirst()) != null && candidate.index() < firstIndex) {
+            minCandidates.pollFirst();
+        }
+        while ((candidate = maxCandidates.peekFirst()) != null && candidate.index() < firstIndex) {
+            maxCandidates.pollFirst();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getWindowSize() {
+        return values.length;
+    }
+
+    /**
+     * @return the average of the values or null if there are no values
+     * @throws IllegalStateException if the average is not tracked
+     */
+    @Nullable
+    BigDecimal average() {
+        checkTracked(trackSums, Statistic.AVERAGE);
+        return size == 0 ? null : sum.divide(BigDecimal.valueOf(size), MathContext.DECIMAL32);
+    }
+
+    /**
+     * Calculates the population standard deviation, using the average rounded to two decimals.
+     *
+     * @return the standard deviation of the values or null if there are no values
+     * @throws IllegalStateException if the standard deviation is not tracked
+     */
+    @Nullable
+    BigDecimal standardDeviation() {
+        checkTracked(trackSums, Statistic.STANDARD_DEVIATION);
+        if (size == 0) {
+            return null;
+        }
+        BigDecimal n = BigDecimal.valueOf(size);
+        BigDecimal average = sum.divide(n, 2, RoundingMode.HALF_EVEN);
+        // sum((x - avg)^2) = sum(x^2) - 2 * avg * sum(x) + n * avg^2
+        BigDecimal squaredDeltas = sumOfSquares.subtract(average.multiply(sum).multiply(BigDecimal.valueOf(2)))
+                .add(n.multiply(average).multiply(average));
+        return squaredDeltas.divide(n, MathContext.DECIMAL32).sqrt(MathContext.DECIMAL32);
+    }
+
+    /**
+     * @return the minimum of the values or null if there are no values
+     * @throws IllegalStateException if the minimum is not tracked
+     */
+    @Nullable
+    BigDecimal min() {
+        checkTracked(trackMin, Statistic.MIN);
+        IndexedValue first = minCandidates.peekFirst();
+        return first == null ? null : first.value();
+    }
+
+    /**
+     * @return the maximum of the values or null if there are no values
+     * @throws IllegalStateException if the maximum is not tracked
+     */
+    @Nullable
+    BigDecimal max() {
+        checkTracked(trackMax, Statistic.MAX);
+        IndexedValue first = maxCandidates.peekFirst();
+        return first == null ? null : first.value();
+    }
+
+    /**
+     * @return the median of the values or null if there are no values
+     * @throws IllegalStateException if the median is not tracked
+     */
+    @Nullable
+    BigDecimal median() {
+        checkTracked(trackMedian, Statistic.MEDIAN);
+        if (size == 0) {
+            return null;
+        }
+        if (lowerSize > upperSize) {
+            return lowerHalf.lastKey();
+        }
+        // let core combine the two middle values, so that the result is the same as for the whole list
+        return Statistics.median(List.of(lowerHalf.lastKey(), upperHalf.firstKey()));
+    }
+
+    private static void checkTracked(boolean tracked, Statistic statistic) {
+        if (!tracked) {
+            throw new IllegalStateException(statistic + " is not tracked");
+        }
+    }
+
+    private void addToHalves(BigDecimal value) {
+        if (lowerSize == 0 || value.compareTo(lowerHalf.lastKey()) <= 0) {
+            increment(lowerHalf, value);
+            lowerSize++;
+        } else {
+            increment(upperHalf, value);
+            upperSize++;
+        }
+        rebalance();
+    }
+
+    private void removeFromHalves(BigDecimal value) {
+        if (lowerSize > 0 && value.compareTo(lowerHalf.lastKey()) <= 0) {
+            decrement(lowerHalf, value);
+            lowerSize--;
+        } else {
+            decrement(upperHalf, value);
+            upperSize--;
+        }
+        rebalance();
+    }
+
+    // keeps the lower half the same size as the upper half or one element larger
+    private void rebalance() {
+        while (lowerSize > upperSize + 1) {
+            BigDecimal value = lowerHalf.lastKey();
+            decrement(lowerHalf, value);
+            lowerSize--;
+            increment(upperHalf, value);
+            upperSize++;
+        }
+        while (upperSize > lowerSize) {
+            BigDecimal value = upperHalf.firstKey();
+            decrement(upperHalf, value);
+            upperSize--;
+            increment(lowerHalf, value);
+            lowerSize++;
+        }
+    }
+
+    private static void increment(TreeMap<BigDecimal, Integer> multiset, BigDecimal value) {
+        multiset.merge(value, 1, Integer::sum);
+    }
+
+    private static void decrement(TreeMap<BigDecimal, Integer> multiset, BigDecimal value) {
+        multiset.computeIfPresent(value, (key, occurrences) -> occurrences > 1 ? occurrences - 1 : null);
+    }
+}
@@ -17,14 +17,16 @@ import static org.openhab.transform.basicprofiles.internal.factory.BasicProfiles
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -49,8 +51,8 @@ import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
 import org.openhab.core.types.UnDefType;
-import org.openhab.core.util.Statistics;
 import org.openhab.transform.basicprofiles.internal.config.StateFilterProfileConfig;
+import org.openhab.transform.basicprofiles.internal.profiles.RollingStatistics.Statistic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -109,8 +111,9 @@ public class StateFilterProfile implements StateProfile {
     // single cached numeric state for use in conjunction with DELTA and DELTA_PERCENT functions
     private Optional<State> acceptedState = Optional.empty();
 
-    // cached list of prior numeric states for use in conjunction with AVG, MEDIAN, STDDEV, MIN, MAX functions
-    private final List<State> previousStates = new LinkedList<>();
+    // rolling statistics of prior numeric states for use in conjunction with AVG, MEDIAN, STDDEV, MIN, MAX functions,
+    // one per window size used by the functions
+    private final Map<Integer, RollingStatistics> statistics = new HashMap<>();
 
     private final int windowSize;
 
@@ -148,6 +151,21 @@ public class StateFilterProfile implements StateProfile {
         }
 
         windowSize = maxWindowSize;
+
+        // only the statistics used by the functions of a window size are maintained, DELTA and DELTA_PERCENT don't
+        // need any statistics as they are calculated directly from the accepted state
+        Map<Integer, Set<Statistic>> requiredStatistics = new HashMap<>();
+        conditions.stream().flatMap(condition -> Stream.of(condition.lhsState, condition.rhsState))
+                .filter(FunctionType.class::isInstance).map(FunctionType.class::cast)
+                .filter(function -> function.getWindowSize() > 0).forEach(function -> {
+                    Statistic statistic = function.getStatistic();
+                    if (statistic != null) {
+                        requiredStatistics.computeIfAbsent(function.getStatisticsWindowSize(),
+                                size -> EnumSet.noneOf(Statistic.class)).add(statistic);
+                    }
+                });
+        requiredStatistics.forEach((size, required) -> statistics.put(size, new RollingStatistics(size, required)));
+
         configMismatchState = parseState(config.mismatchState, context.getAcceptedDataTypes());
     }
 
@@ -219,11 +237,8 @@ public class StateFilterProfile implements StateProfile {
         } else {
             logger.debug("Received state update from handler: {}, not forwarded to item", state);
         }
-        if (windowSize > 0 && isCacheable(state)) {
-            previousStates.add(state);
-            if (previousStates.size() > windowSize) {
-                previousStates.removeFirst();
-            }
+        if (!statistics.isEmpty() && isCacheable(state) && toBigDecimal(state) instanceof BigDecimal value) {
+            statistics.values().forEach(windowStatistics -> windowStatistics.add(value));
         }
     }
 
@@ -570,22 +585,20 @@ public class StateFilterProfile implements StateProfile {
                 case DELTA -> result = calculateDelta();
                 case DELTA_PERCENT -> result = calculateDeltaPercent();
                 default -> {
-                    int size = previousStates.size();
-                    Integer start = windowSize.map(w -> size - w).orElse(0);
-                    List<BigDecimal> values = toBigDecimals(
-                            start == null || start <= 0 ? previousStates : previousStates.subList(start, size));
-                    if (values.isEmpty()) {
+                    RollingStatistics windowStatistics = statistics.get(getStatisticsWindowSize());
+                    Statistic statistic = getStatistic();
+                    if (windowStatistics == null || statistic == null || windowStatistics.size() == 0) {
                         logger.debug("Not enough states to calculate {}", type);
                         result = null;
                     } else {
-                        switch (type) {
-                            case AVG, AVERAGE -> result = calculateAverage(values);
-                            case MEDIAN -> result = calculateMedian(values);
-                            case STDDEV -> result = calculateStdDev(values);
-                            case MIN -> result = calculateMin(values);
-                            case MAX -> result = calculateMax(values);
-                            default -> result = null;
-                        }
+                        BigDecimal value = switch (statistic) {
+                            case AVERAGE -> windowStatistics.average();
+                            case MEDIAN -> windowStatistics.median();
+                            case STANDARD_DEVIATION -> windowStatistics.standardDeviation();
+                            case MIN -> windowStatistics.min();
+                            case MAX -> windowStatistics.max();
+                        };
+                        result = value != null ? toState(value) : null;
                     }
                 }
             }
@@ -631,6 +644,30 @@ public class StateFilterProfile implements StateProfile {
             return windowSize.isPresent() ? windowSize.get() : DEFAULT_WINDOW_SIZE;
         }
 
+        /**
+         * Returns the number of prior states the function is calculated from. Without an explicit window size, all
+         * cached states are used, i.e. the largest window size of all functions of the profile.
+         */
+        int getStatisticsWindowSize() {
+            return windowSize.orElse(StateFilterProfile.this.windowSize);
+        }
+
+        /**
+         * Returns the statistic the function is calculated from, or null for functions which are calculated from the
+         * accepted state only.
+         */
+        @Nullable
+        Statistic getStatistic() {
+            return switch (type) {
+                case AVERAGE, AVG -> Statistic.AVERAGE;
+                case MEDIAN -> Statistic.MEDIAN;
+                case STDDEV -> Statistic.STANDARD_DEVIATION;
+                case MIN -> Statistic.MIN;
+                case MAX -> Statistic.MAX;
+                case DELTA, DELTA_PERCENT -> null;
+            };
+        }
+
         public Function getType() {
             return type;
         }
@@ -650,40 +687,6 @@ public class StateFilterProfile implements StateProfile {
             return toFullString();
         }
 
-        private @Nullable State calculateAverage(List<BigDecimal> values) {
-            return Optional
-                    .ofNullable(values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
-                            .divide(BigDecimal.valueOf(values.size()), MathContext.DECIMAL32))
-                    .map(o -> toState(o)).orElse(null);
-        }
-
-        private @Nullable State calculateMedian(List<BigDecimal> values) {
-            return Optional.ofNullable(Statistics.median(values)).map(o -> toState(o)).orElse(null);
-        }
-
-        private @Nullable State calculateStdDev(List<BigDecimal> values) {
-            BigDecimal average = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
-                    .divide(BigDecimal.valueOf(values.size()), 2, RoundingMode.HALF_EVEN);
-
-            BigDecimal variance = values.stream().map(value -> {
-                BigDecimal delta = value.subtract(average);
-                return delta.multiply(delta);
-            }).reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(values.size()),
-                    MathContext.DECIMAL32);
-
-            return toState(variance.sqrt(MathContext.DECIMAL32));
-        }
-
-        private @Nullable State calculateMin(List<BigDecimal> values) {
-            return Optional.ofNullable(values.stream().min(BigDecimal::compareTo).orElse(null)).map(o -> toState(o))
-                    .orElse(null);
-        }
-
-        private @Nullable State calculateMax(List<BigDecimal> values) {
-            return Optional.ofNullable(values.stream().max(BigDecimal::compareTo).orElse(null)).map(o -> toState(o))
-                    .orElse(null);
-        }
-
         private @Nullable State calculateDelta() {
             return acceptedState.isPresent() //
                     && toBigDecimal(acceptedState.get()) instanceof BigDecimal acceptedValue
@@ -743,16 +746,6 @@ public class StateFilterProfile implements StateProfile {
                 : null;
     }
 
-    /**
-     * Convert a list of {@link State} to a list of {@link BigDecimal} values.
-     *
-     * @param states list of {@link State} values.
-     * @return list of {@link BigDecimal} values.
-     */
-    protected List<BigDecimal> toBigDecimals(List<? extends State> states) {
-        return states.stream().map(s -> toBigDecimal(s)).filter(Objects::nonNull).toList();
-    }
-
     /**
      * Create a new {@link State} from the given {@link BigDecimal} value. If there is a 'systemUnit' it creates a
      * {@link QuantityType} based on that unit. Otherwise it creates a {@link DecimalType}.
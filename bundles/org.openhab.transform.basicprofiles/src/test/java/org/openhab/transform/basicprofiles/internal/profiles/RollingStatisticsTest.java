@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openhab.core.util.Statistics;
+import org.openhab.transform.basicprofiles.internal.profiles.RollingStatistics.Statistic;
+
+/**
+ * Basic unit tests for {@link RollingStatistics}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RollingStatisticsTest {
+
+    @Test
+    public void testEmpty() {
+        RollingStatistics statistics = new RollingStatistics(3, EnumSet.allOf(Statistic.class));
+
+        assertThat(statistics.size(), is(0));
+        assertThat(statistics.average(), is(nullValue()));
+        assertThat(statistics.standardDeviation(), is(nullValue()));
+        assertThat(statistics.min(), is(nullValue()));
+        assertThat(statistics.max(), is(nullValue()));
+        assertThat(statistics.median(), is(nullValue()));
+    }
+
+    @Test
+    public void testWindowIsLimited() {
+        RollingStatistics statistics = new RollingStatistics(3, EnumSet.allOf(Statistic.class));
+        for (int value : new int[] { 9, 1, 5, 3, 4 }) {
+            statistics.add(BigDecimal.valueOf(value));
+        }
+
+        // only 5, 3, 4 are left
+        assertThat(statistics.size(), is(3));
+        assertThat(statistics.average(), is(new BigDecimal("4")));
+        assertThat(statistics.min(), is(BigDecimal.valueOf(3)));
+        assertThat(statistics.max(), is(BigDecimal.valueOf(5)));
+        assertThat(statistics.median(), is(BigDecimal.valueOf(4)));
+    }
+
+    @Test
+    public void testOnlyRequestedStatisticsAreTracked() {
+        RollingStatistics statistics = new RollingStatistics(3, EnumSet.of(Statistic.MIN));
+        for (int value : new int[] { 9, 1, 5, 3, 4 }) {
+            statistics.add(BigDecimal.valueOf(value));
+        }
+
+        assertThat(statistics.size(), is(3));
+        assertThat(statistics.min(), is(BigDecimal.valueOf(3)));
+        assertThrows(IllegalStateException.class, statistics::average);
+        assertThrows(IllegalStateException.class, statistics::standardDeviation);
+        assertThrows(IllegalStateException.class, statistics::max);
+        assertThrows(IllegalStateException.class, statistics::median);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 2, 5, 10, 100 })
+    public void testSameResultsAsFullCalculation(int windowSize) {
+        Random random = new Random(windowSize);
+        RollingStatistics statistics = new RollingStatistics(windowSize, EnumSet.allOf(Statistic.class));
+        List<BigDecimal> window = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            // few distinct values to have duplicates in the window
+            BigDecimal value = BigDecimal.valueOf(random.nextInt(200) - 100, random.nextInt(3));
+            statistics.add(value);
+            window.add(value);
+            if (window.size() > windowSize) {
+                window.remove(0);
+            }
+
+            BigDecimal sum = window.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal n = BigDecimal.valueOf(window.size());
+            BigDecimal average = sum.divide(n, 2, RoundingMode.HALF_EVEN);
+            BigDecimal stdDev = window.stream().map(v -> v.subtract(average).multiply(v.subtract(average)))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add).divide(n, MathContext.DECIMAL32)
+                    .sqrt(MathContext.DECIMAL32);
+
+            assertThat(Objects.requireNonNull(statistics.average()).compareTo(sum.divide(n, MathContext.DECIMAL32)),
+                    is(0));
+            assertThat(Objects.requireNonNull(statistics.standardDeviation()).compareTo(stdDev), is(0));
+            assertThat(Objects.requireNonNull(statistics.min())
+                    .compareTo(window.stream().min(BigDecimal::compareTo).orElseThrow()), is(0));
+            assertThat(Objects.requireNonNull(statistics.max())
+                    .compareTo(window.stream().max(BigDecimal::compareTo).orElseThrow()), is(0));
+            assertThat(Objects.requireNonNull(statistics.median())
+                    .compareTo(Objects.requireNonNull(Statistics.median(window))), is(0));
+        }
+    }
+}
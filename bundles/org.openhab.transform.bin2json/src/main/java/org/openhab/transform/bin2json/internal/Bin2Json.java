@@ -14,8 +14,11 @@ package org.openhab.transform.bin2json.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
@@ -24,6 +27,7 @@ import org.slf4j.LoggerFactory;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
 import com.igormaznitsa.jbbp.JBBPParser;
 import com.igormaznitsa.jbbp.exceptions.JBBPException;
 import com.igormaznitsa.jbbp.model.JBBPAbstractArrayField;
@@ -66,6 +70,10 @@ import com.igormaznitsa.jbbp.model.JBBPFieldUShort;
  * json.toString() = {"a":3,"b":-6,"c":255}}
  * </pre>
  *
+ * <p>
+ * The parser rule is compiled once, so an instance can be reused to convert any number of data blocks.
+ * {@link #convertToString(String)} writes the JSON directly from the parsed data without building a Gson tree.
+ *
  * @author Pauli Anttila - Initial contribution
  *
  */
@@ -73,7 +81,7 @@ public class Bin2Json {
 
     private final Logger logger = LoggerFactory.getLogger(Bin2Json.class);
 
-    private JBBPParser parser;
+    private final JBBPParser parser;
 
     /**
      *
@@ -137,6 +145,41 @@ public class Bin2Json {
         }
     }
 
+    /**
+     * Convert {@link String} in hexadecimal string format to a JSON string.
+     *
+     * The result is the same as <code>convert(hexString).toString()</code>, but it is written directly from the parsed
+     * data.
+     *
+     * @param hexString Data in hexadecimal string format. Example data: 03FAFF
+     * @return JSON string
+     * @throws ConversionException
+     */
+    public String convertToString(String hexString) throws ConversionException {
+        final JBBPFieldStruct data;
+        try {
+            data = parser.parse(HexUtils.hexToBytes(hexString));
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException(String.format("Illegal hexstring , reason: %s", e.getMessage()), e);
+        } catch (IOException | JBBPException e) {
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage()), e);
+        }
+
+        try {
+            final StringWriter out = new StringWriter();
+            try (JsonWriter writer = new JsonWriter(out)) {
+                writeStruct(writer, data);
+            }
+            return out.toString();
+        } catch (DuplicateFieldException e) {
+            // a JsonObject keeps only the last of several fields with the same name, let Gson sort that out
+            logger.trace("Field '{}' exists more than once, using Gson tree", e.getMessage());
+            return convert(data).toString();
+        } catch (IOException | JBBPException e) {
+            throw new ConversionException(String.format("Unexpected error, reason: %s", e.getMessage()), e);
+        }
+    }
+
     private JsonObject convert(JBBPFieldStruct data) throws ConversionException {
         try {
             LocalDateTime start = LocalDateTime.now();
@@ -234,4 +277,103 @@ public class Bin2Json {
         }
         return jsn;
     }
+
+    private void writeStruct(final JsonWriter writer, final JBBPFieldStruct struct)
+            throws IOException, ConversionException {
+        final JBBPAbstractField[] fields = struct.getArray();
+        final Set<String> names = new HashSet<>(fields.length * 2);
+        writer.beginObject();
+        for (final JBBPAbstractField field : fields) {
+            final String fieldName = field.getFieldName() == null ? "nonamed" : field.getFieldName();
+            if (!names.add(fieldName)) {
+                throw new DuplicateFieldException(fieldName);
+            }
+            writer.name(fieldName);
+            writeValue(writer, field);
+        }
+        writer.endObject();
+    }
+
+    private void writeValue(final JsonWriter writer, final JBBPAbstractField field)
+            throws IOException, ConversionException {
+        if (field instanceof JBBPAbstractArrayField) {
+            writer.beginArray();
+            if (field instanceof JBBPFieldArrayBit bit) {
+                for (final byte b : bit.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayBoolean boolean1) {
+                for (final boolean b : boolean1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayByte byte1) {
+                for (final byte b : byte1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayInt int1) {
+                for (final int b : int1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayLong long1) {
+                for (final long b : long1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayShort short1) {
+                for (final short b : short1.getArray()) {
+                    writer.value(b);
+                }
+            } else if (field instanceof JBBPFieldArrayStruct array) {
+                for (int i = 0; i < array.size(); i++) {
+                    // like convertToJSon(), every element is wrapped into an object with the struct name
+                    final JBBPFieldStruct element = array.getElementAt(i);
+                    writer.beginObject();
+                    writer.name(element.getFieldName() == null ? "nonamed" : element.getFieldName());
+                    writeStruct(writer, element);
+                    writer.endObject();
+                }
+            } else if (field instanceof JBBPFieldArrayUByte byte1) {
+                for (final byte b : byte1.getArray()) {
+                    writer.value(b & 0xFF);
+                }
+            } else if (field instanceof JBBPFieldArrayUShort short1) {
+                for (final short b : short1.getArray()) {
+                    writer.value(b & 0xFFFF);
+                }
+            } else {
+                throw new ConversionException(String.format("Unexpected field type '%s'", field));
+            }
+            writer.endArray();
+        } else if (field instanceof JBBPFieldBit bit) {
+            writer.value(bit.getAsInt());
+        } else if (field instanceof JBBPFieldBoolean boolean1) {
+            writer.value(boolean1.getAsBool());
+        } else if (field instanceof JBBPFieldByte byte1) {
+            writer.value(byte1.getAsInt());
+        } else if (field instanceof JBBPFieldInt int1) {
+            writer.value(int1.getAsInt());
+        } else if (field instanceof JBBPFieldLong long1) {
+            writer.value(long1.getAsLong());
+        } else if (field instanceof JBBPFieldShort short1) {
+            writer.value(short1.getAsInt());
+        } else if (field instanceof JBBPFieldStruct struct) {
+            writeStruct(writer, struct);
+        } else if (field instanceof JBBPFieldUByte byte1) {
+            writer.value(byte1.getAsInt());
+        } else if (field instanceof JBBPFieldUShort short1) {
+            writer.value(short1.getAsInt());
+        } else {
+            throw new ConversionException(String.format("Unexpected field '%s'", field));
+        }
+    }
+
+    /**
+     * Thrown by the streaming writer if a struct contains several fields with the same name.
+     */
+    private static class DuplicateFieldException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        DuplicateFieldException(String fieldName) {
+            super(fieldName);
+        }
+    }
 }
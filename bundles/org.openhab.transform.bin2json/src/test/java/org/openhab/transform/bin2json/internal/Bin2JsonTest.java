@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.bin2json.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests that the streaming {@link Bin2Json#convertToString(String)} produces the same JSON as the Gson tree of
+ * {@link Bin2Json#convert(String)}.
+ *
+ * @author agent - Initial contribution
+ */
+public class Bin2JsonTest {
+
+    private static Stream<Arguments> rules() {
+        return Stream.of( //
+                Arguments.of("byte a; byte b; ubyte c;", "03FAFF", "{\"a\":3,\"b\":-6,\"c\":255}"),
+                Arguments.of("bool a; short b; ushort c; int d; long e;", "01FFFEFFFE0000000700000000000000FF",
+                        "{\"a\":true,\"b\":-2,\"c\":65534,\"d\":7,\"e\":255}"),
+                // nested structs
+                Arguments.of("byte a; s { ushort b; t { int c; } }", "01000200000003",
+                        "{\"a\":1,\"s\":{\"b\":2,\"t\":{\"c\":3}}}"),
+                // arrays of primitives
+                Arguments.of("byte[2] a; ubyte[2] b; ushort[2] c; bit:4[2] d; bool[2] e;", "FF01FF0100010002210100",
+                        "{\"a\":[-1,1],\"b\":[255,1],\"c\":[1,2],\"d\":[1,2],\"e\":[true,false]}"),
+                Arguments.of("byte n; byte[n] a; byte[_] rest;", "020102030405",
+                        "{\"n\":2,\"a\":[1,2],\"rest\":[3,4,5]}"),
+                // arrays of structs
+                Arguments.of("byte n; s [n] { byte a; ubyte b; }", "0201FF0280", null),
+                Arguments.of("outer { inner [2] { short v; t { byte w; } } }", "000101000202", null),
+                Arguments.of("s [2] { byte[2] a; }", "01020304", null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("rules")
+    public void streamingMatchesGsonTree(String rule, String hex, String expected) throws ConversionException {
+        Bin2Json bin2Json = new Bin2Json(rule);
+
+        String tree = bin2Json.convert(hex).toString();
+        if (expected != null) {
+            assertEquals(expected, tree);
+        }
+        assertEquals(tree, bin2Json.convertToString(hex));
+    }
+
+    @Test
+    public void duplicateFieldsFallBackToGsonTree() throws ConversionException {
+        // unnamed fields are all named "nonamed", a JsonObject keeps only the last value
+        Bin2Json bin2Json = new Bin2Json("byte; byte; byte a;");
+
+        assertEquals("{\"nonamed\":2,\"a\":3}", bin2Json.convertToString("010203"));
+        assertEquals(bin2Json.convert("010203").toString(), bin2Json.convertToString("010203"));
+    }
+
+    @Test
+    public void duplicateFieldsInNestedStructFallBackToGsonTree() throws ConversionException {
+        Bin2Json bin2Json = new Bin2Json("byte a; s [2] { byte; byte; }");
+
+        assertEquals(bin2Json.convert("0001020304").toString(), bin2Json.convertToString("0001020304"));
+    }
+
+    @Test
+    public void instanceCanBeReused() throws ConversionException {
+        Bin2Json bin2Json = new Bin2Json("byte a;");
+
+        assertEquals("{\"a\":1}", bin2Json.convertToString("01"));
+        assertEquals("{\"a\":2}", bin2Json.convertToString("02"));
+    }
+
+    @Test
+    public void illegalHexStringThrowsConversionException() throws ConversionException {
+        Bin2Json bin2Json = new Bin2Json("byte a;");
+
+        assertThrows(ConversionException.class, () -> bin2Json.convertToString("0G"));
+    }
+}
@@ -13,12 +13,17 @@
 package org.openhab.transform.jinja.internal;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -31,7 +36,13 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.InterpretException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.interpret.TemplateError.ErrorType;
+import com.hubspot.jinjava.tree.Node;
 
 /**
  * <p>
@@ -46,7 +57,19 @@ public class JinjaTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_CACHED_TEMPLATES = 500;
+
     private final Jinjava jinjava = new Jinjava();
+    private final Map<String, Node> cachedTemplates = Collections
+            .synchronizedMap(new LinkedHashMap<String, Node>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, Node> eldest) {
+                    return size() > MAX_CACHED_TEMPLATES;
+                }
+            });
 
     /**
      * Transforms the input <code>value</code> by Jinja template.
@@ -64,17 +87,26 @@ public class JinjaTransformationService implements TransformationService {
 
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
+        // templates not referring to value_json don't need the value to be parsed at all
+        if (template.contains("value_json")) {
+            try {
+                JsonNode tree = OBJECT_MAPPER.readTree(value);
+                bindings.put("value_json", toObject(tree));
+            } catch (IOException e) {
+                // ok, then value_json is null...
+            }
         }
 
+        Node root = parse(template);
+        JinjavaInterpreter interpreter = newInterpreter(bindings);
+        JinjavaInterpreter.pushCurrent(interpreter);
         try {
-            transformationResult = jinjava.render(template, bindings);
-        } catch (FatalTemplateErrorsException e) {
+            transformationResult = interpreter.render(root);
+            checkErrors(template, interpreter);
+        } catch (InterpretException e) {
             throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
+        } finally {
+            JinjavaInterpreter.popCurrent();
         }
 
         logger.debug("transformation resulted in '{}'", transformationResult);
@@ -82,26 +114,59 @@ public class JinjaTransformationService implements TransformationService {
         return transformationResult;
     }
 
-    private static @Nullable Object toObject(JsonNode node) {
+    /**
+     * Returns the parsed template, parsing it only if it is not cached yet. Templates with fatal errors are not cached.
+     */
+    private Node parse(String template) throws TransformationException {
+        Node root = cachedTemplates.get(template);
+        if (root != null) {
+            return root;
+        }
+
+        JinjavaInterpreter interpreter = newInterpreter(Map.of());
+        JinjavaInterpreter.pushCurrent(interpreter);
+        try {
+            root = interpreter.parse(template);
+            checkErrors(template, interpreter);
+        } catch (InterpretException e) {
+            throw new TransformationException("An error occurred while transformation. " + e.getMessage(), e);
+        } finally {
+            JinjavaInterpreter.popCurrent();
+        }
+
+        cachedTemplates.put(template, root);
+        return root;
+    }
+
+    private JinjavaInterpreter newInterpreter(Map<String, @Nullable Object> bindings) {
+        // each render gets its own copy of the global context, which is shared by concurrent transformations
+        return new JinjavaInterpreter(jinjava, new Context(jinjava.getGlobalContextCopy(), bindings),
+                jinjava.getGlobalConfig());
+    }
+
+    private static void checkErrors(String template, JinjavaInterpreter interpreter) {
+        List<TemplateError> fatalErrors = interpreter.getErrorsCopy().stream()
+                .filter(error -> error.getSeverity() == ErrorType.FATAL).toList();
+        if (!fatalErrors.isEmpty()) {
+            throw new FatalTemplateErrorsException(template, fatalErrors);
+        }
+    }
+
+    /**
+     * Wraps a JSON node into the objects exposed as <code>value_json</code>. Objects and arrays are wrapped into a
+     * {@link Map} or {@link List} that converts their elements only when they are accessed.
+     */
+    private static @Nullable Object toObject(@Nullable JsonNode node) {
+        if (node == null) {
+            return null;
+        }
         switch (node.getNodeType()) {
-            case ARRAY: {
-                List<@Nullable Object> result = new ArrayList<>();
-                for (JsonNode el : node) {
-                    result.add(toObject(el));
-                }
-                return result;
-            }
+            case ARRAY:
+                return new JsonArrayList(node);
             case NUMBER:
                 return node.decimalValue();
-            case OBJECT: {
-                Map<String, @Nullable Object> result = new HashMap<>();
-                Iterator<Entry<String, JsonNode>> it = node.fields();
-                while (it.hasNext()) {
-                    Entry<String, JsonNode> field = it.next();
-                    result.put(field.getKey(), toObject(field.getValue()));
-                }
-                return result;
-            }
+            case OBJECT:
+                return new JsonObjectMap(node);
             case STRING:
                 return node.asText();
             case BOOLEAN:
@@ -111,4 +176,75 @@ public class JinjaTransformationService implements TransformationService {
                 return null;
         }
     }
+
+    private static class JsonArrayList extends AbstractList<@Nullable Object> {
+        private final JsonNode node;
+
+        private JsonArrayList(JsonNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public @Nullable Object get(int index) {
+            if (index < 0 || index >= node.size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return toObject(node.get(index));
+        }
+
+        @Override
+        public int size() {
+            return node.size();
+        }
+    }
+
+    private static class JsonObjectMap extends AbstractMap<String, @Nullable Object> {
+        private final JsonNode node;
+
+        private JsonObjectMap(JsonNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public @Nullable Object get(@Nullable Object key) {
+            return key instanceof String field ? toObject(node.get(field)) : null;
+        }
+
+        @Override
+        public boolean containsKey(@Nullable Object key) {
+            return key instanceof String field && node.has(field);
+        }
+
+        @Override
+        public int size() {
+            return node.size();
+        }
+
+        @Override
+        public Set<Entry<String, @Nullable Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, @Nullable Object>> iterator() {
+                    Iterator<Entry<String, JsonNode>> fields = node.fields();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return fields.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, @Nullable Object> next() {
+                            Entry<String, JsonNode> field = fields.next();
+                            return new SimpleImmutableEntry<>(field.getKey(), toObject(field.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return node.size();
+                }
+            };
+        }
+    }
 }
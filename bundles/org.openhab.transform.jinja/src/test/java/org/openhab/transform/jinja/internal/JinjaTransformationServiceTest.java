@@ -113,4 +113,20 @@ public class JinjaTransformationServiceTest {
         // then map key is defined
         assertEquals("true", transformedResponse);
     }
+
+    @Test
+    public void testCachedTemplateWithDifferentValues() throws TransformationException {
+        String template = "{{ value_json.list[1] }} {{ value_json.nested.name }}";
+
+        assertEquals("2 first", processor.transform(template, "{\"list\":[1,2,3],\"nested\":{\"name\":\"first\"}}"));
+        assertEquals("5 second", processor.transform(template, "{\"list\":[4,5,6],\"nested\":{\"name\":\"second\"}}"));
+    }
+
+    @Test
+    public void testIterateJsonArray() throws TransformationException {
+        assertEquals("x;y;z;",
+                processor.transform("{% for v in value_json %}{{ v }};{% endfor %}", "[\"x\",\"y\",\"z\"]"));
+        assertEquals("3:x,y,z", processor.transform("{{ value_json|length }}:{{ value_json|join(',') }}",
+                "[\"x\",\"y\",\"z\"]"));
+    }
 }
@@ -12,7 +12,11 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +28,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -39,8 +44,37 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_PATHS = 1000;
+    // several channels usually extract values from the same payload, so only the most recent ones need to be cached
+    private static final int MAX_CACHED_DOCUMENTS = 8;
+    private static final long STATISTICS_LOG_INTERVAL = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final Map<String, JsonPath> cachedPaths = Collections
+            .synchronizedMap(new LinkedHashMap<String, JsonPath>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, JsonPath> eldest) {
+                    return size() > MAX_CACHED_PATHS;
+                }
+            });
+    private final Map<String, DocumentContext> cachedDocuments = Collections
+            .synchronizedMap(new LinkedHashMap<String, DocumentContext>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, DocumentContext> eldest) {
+                    return size() > MAX_CACHED_DOCUMENTS;
+                }
+            });
+
+    private final AtomicLong pathCacheHits = new AtomicLong();
+    private final AtomicLong pathCacheMisses = new AtomicLong();
+    private final AtomicLong documentCacheHits = new AtomicLong();
+    private final AtomicLong documentCacheMisses = new AtomicLong();
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,7 +96,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = getDocument(source).read(getPath(jsonPathExpression));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +112,53 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private JsonPath getPath(String jsonPathExpression) {
+        JsonPath path = cachedPaths.get(jsonPathExpression);
+        if (path != null) {
+            pathCacheHits.incrementAndGet();
+            return path;
+        }
+        pathCacheMisses.incrementAndGet();
+        path = JsonPath.compile(jsonPathExpression);
+        cachedPaths.put(jsonPathExpression, path);
+        return path;
+    }
+
+    private DocumentContext getDocument(String source) {
+        DocumentContext document = cachedDocuments.get(source);
+        if (document != null) {
+            documentCacheHits.incrementAndGet();
+        } else {
+            long misses = documentCacheMisses.incrementAndGet();
+            document = JsonPath.parse(source);
+            cachedDocuments.put(source, document);
+            if (misses % STATISTICS_LOG_INTERVAL == 0 && logger.isDebugEnabled()) {
+                logger.debug("Cache hit ratios: paths {}%, documents {}%", Math.round(getPathCacheHitRatio() * 100),
+                        Math.round(getDocumentCacheHitRatio() * 100));
+            }
+        }
+        return document;
+    }
+
+    /**
+     * @return the ratio of JsonPath expressions that did not need to be compiled, between 0 and 1
+     */
+    public double getPathCacheHitRatio() {
+        return hitRatio(pathCacheHits.get(), pathCacheMisses.get());
+    }
+
+    /**
+     * @return the ratio of JSON sources that did not need to be parsed, between 0 and 1
+     */
+    public double getDocumentCacheHitRatio() {
+        return hitRatio(documentCacheHits.get(), documentCacheMisses.get());
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -129,4 +129,16 @@ public class JSonPathTransformationServiceTest {
         String transformedResponse = processor.transform("$.data", json);
         assertEquals(list, transformedResponse);
     }
+
+    @Test
+    public void testCachedDocumentAndPath() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("foo", processor.transform("$[0].name", "[{\"name\":\"foo\"}]"));
+
+        // 2 of 4 documents and 2 of 4 paths have been taken from the cache
+        assertEquals(0.5, processor.getDocumentCacheHitRatio());
+        assertEquals(0.5, processor.getPathCacheHitRatio());
+    }
 }
@@ -12,6 +12,10 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,6 +43,25 @@ public class RegExTransformationService implements TransformationService {
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+    private static final int MAX_CACHED_PATTERNS = 500;
+
+    /**
+     * A compiled regular expression, either for substitution (if {@code substitution} is set) or for extraction.
+     */
+    private record CompiledRegex(Pattern pattern, @Nullable String substitution, boolean global) {
+    }
+
+    private final Map<String, CompiledRegex> cachedPatterns = Collections
+            .synchronizedMap(new LinkedHashMap<String, CompiledRegex>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, CompiledRegex> eldest) {
+                    return size() > MAX_CACHED_PATTERNS;
+                }
+            });
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
 
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
@@ -48,50 +71,67 @@ public class RegExTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, regExpression);
 
-        String result = "";
-
-        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
-        if (substMatcher.matches()) {
+        CompiledRegex compiledRegex = getCompiledRegex(regExpression);
+        String substitution = compiledRegex.substitution();
+        if (substitution != null) {
             logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
-            } else {
-                result = source.trim().replaceFirst(regex, substitution);
-            }
-            if (result != null) {
-                return result;
-            }
+            Matcher matcher = compiledRegex.pattern().matcher(source.trim());
+            return compiledRegex.global() ? matcher.replaceAll(substitution) : matcher.replaceFirst(substitution);
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Matcher matcher = compiledRegex.pattern().matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
                     regExpression, source);
             return null;
         }
-        matcher.reset();
-
-        while (matcher.find()) {
-            if (matcher.groupCount() == 0) {
-                logger.info(
-                        "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
-                        regExpression);
-                continue;
-            }
-
-            result = matcher.group(1);
-
-            if (matcher.groupCount() > 1) {
-                logger.debug(
-                        "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
-                        regExpression);
-            }
+
+        // the pattern is anchored at both ends, so the match found above is the only one
+        if (matcher.groupCount() == 0) {
+            logger.info(
+                    "the given regular expression '^{}$' doesn't contain a group. No content will be extracted and returned!",
+                    regExpression);
+            return "";
+        }
+        if (matcher.groupCount() > 1) {
+            logger.debug(
+                    "the given regular expression '^{}$' contains more than one group. Only the first group will be returned!",
+                    regExpression);
+        }
+        return matcher.group(1);
+    }
+
+    private CompiledRegex getCompiledRegex(String regExpression) {
+        CompiledRegex compiledRegex = cachedPatterns.get(regExpression);
+        if (compiledRegex != null) {
+            cacheHits.incrementAndGet();
+            return compiledRegex;
+        }
+        cacheMisses.incrementAndGet();
+
+        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+        if (substMatcher.matches()) {
+            compiledRegex = new CompiledRegex(Pattern.compile(substMatcher.group(1)), substMatcher.group(2),
+                    "g".equals(substMatcher.group(3)));
+        } else {
+            compiledRegex = new CompiledRegex(Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null, false);
         }
+        cachedPatterns.put(regExpression, compiledRegex);
+        return compiledRegex;
+    }
+
+    /**
+     * @return the number of transformations that used a cached pattern
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
 
-        return result;
+    /**
+     * @return the number of transformations that needed to compile a pattern
+     */
+    public long getCacheMisses() {
+        return cacheMisses.get();
     }
 }
@@ -75,4 +75,16 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_cachedPattern() throws TransformationException {
+        assertEquals("12", processor.transform("X(\\d+)", "X12"));
+        assertEquals("34", processor.transform("X(\\d+)", "X34"));
+        assertNull(processor.transform("X(\\d+)", "Y56"));
+        assertEquals("varX=12 ", processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /g", "X12"));
+        assertEquals("varY=54 ", processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /g", "Y54"));
+
+        assertEquals(2, processor.getCacheMisses());
+        assertEquals(3, processor.getCacheHits());
+    }
 }
@@ -38,4 +38,21 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testRepeatedTransformations() throws TransformationException {
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("46", processor.transform("//current_conditions/temp_f/@data", source));
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("1", processor.transform("/a/b", "<a><b>1</b></a>"));
+        assertThrows(TransformationException.class, () -> processor.transform("/a/b", "<a><b>"));
+        assertEquals("2", processor.transform("/a/b", "<a><b>2</b></a>"));
+    }
+
+    @Test
+    public void testTransformationAfterDeactivate() throws TransformationException {
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        processor.deactivate();
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+    }
 }
@@ -13,6 +13,7 @@
 package org.openhab.transform.xslt.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -23,6 +24,7 @@ import java.nio.file.StandardCopyOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 
 /**
@@ -40,7 +42,7 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
             Files.createDirectories(transformHttpPath);
         }
 
-        processor = new XsltTransformationService();
+        processor = new XsltTransformationService(mock(WatchService.class));
     }
 
     @Test
@@ -54,4 +56,19 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testChangedStylesheetIsRecompiled() throws TransformationException, IOException {
+        Path stylesheet = transformHttpPath.resolve("google_weather.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), stylesheet,
+                StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("8", processor.transform("http/google_weather.xsl", source));
+
+        Files.writeString(stylesheet, Files.readString(stylesheet).replace("temp_c", "temp_f"));
+        // the cached stylesheet is used until the file change is reported
+        assertEquals("8", processor.transform("http/google_weather.xsl", source));
+
+        processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform", "http", "google_weather.xsl"));
+        assertEquals("46", processor.transform("http/google_weather.xsl", source));
+    }
 }
@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Field;
+import java.util.BitSet;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.AfterEach;
@@ -592,6 +593,74 @@ public class ModbusPollerThingHandlerTest extends AbstractModbusOSGiTest {
         verifyNoMoreInteractions(child2);
     }
 
+    @Test
+    public void testOnlyChangedDataPassedToChildDataThings()
+            throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+        PollTask pollTask = Mockito.mock(PollTask.class);
+        doReturn(pollTask).when(comms).registerRegularPoll(notNull(), eq(150l), eq(0L), notNull(), notNull());
+
+        Configuration pollerConfig = new Configuration();
+        pollerConfig.put("refresh", 150L);
+        pollerConfig.put("start", 5);
+        pollerConfig.put("length", 4);
+        pollerConfig.put("type", "holding");
+        pollerConfig.put("notifyChangesOnly", true);
+        poller = createPollerThingBuilder("poller").withConfiguration(pollerConfig).withBridge(endpoint.getUID())
+                .build();
+        addThing(poller);
+        verifyEndpointBasicInitInteraction();
+
+        assertThat(poller.getStatus(), is(equalTo(ThingStatus.ONLINE)));
+
+        ModbusPollerThingHandler thingHandler = (ModbusPollerThingHandler) poller.getHandler();
+        assertNotNull(thingHandler);
+        ModbusReadCallback readCallback = getPollerCallback(thingHandler);
+        ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback = getPollerFailureCallback(thingHandler);
+
+        // child1 reads the first register, child2 the third one
+        ModbusDataThingHandler child1 = Mockito.mock(ModbusDataThingHandler.class);
+        ModbusDataThingHandler child2 = Mockito.mock(ModbusDataThingHandler.class);
+        when(child1.isReadingAnyOf(any())).thenAnswer(invocation -> ((BitSet) invocation.getArgument(0)).get(0));
+        when(child2.isReadingAnyOf(any())).thenAnswer(invocation -> ((BitSet) invocation.getArgument(0)).get(2));
+        thingHandler.childHandlerInitialized(child1, Mockito.mock(Thing.class));
+        thingHandler.childHandlerInitialized(child2, Mockito.mock(Thing.class));
+
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(9,
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 5, 4, 3);
+        AsyncModbusReadResult result = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3, 4));
+        AsyncModbusReadResult changedResult = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 9, 4));
+
+        // first data is passed to all children
+        readCallback.handle(result);
+        verify(child1).onReadResult(result);
+        verify(child2).onReadResult(result);
+
+        reset(child1);
+        reset(child2);
+        when(child1.isReadingAnyOf(any())).thenAnswer(invocation -> ((BitSet) invocation.getArgument(0)).get(0));
+        when(child2.isReadingAnyOf(any())).thenAnswer(invocation -> ((BitSet) invocation.getArgument(0)).get(2));
+
+        // only child2 reads changed data
+        readCallback.handle(changedResult);
+        verify(child1, never()).onReadResult(any());
+        verify(child2).onReadResult(changedResult);
+
+        // nothing changed
+        readCallback.handle(changedResult);
+        verify(child1, never()).onReadResult(any());
+        verify(child2, times(1)).onReadResult(any());
+
+        // after an error, all children get the data again
+        AsyncModbusFailure<ModbusReadRequestBlueprint> failure = new AsyncModbusFailure<>(request,
+                new Exception("error"));
+        failureCallback.handle(failure);
+        verify(child1).handleReadError(failure);
+        verify(child2).handleReadError(failure);
+        readCallback.handle(changedResult);
+        verify(child1).onReadResult(changedResult);
+        verify(child2, times(2)).onReadResult(changedResult);
+    }
+
     @Test
     public void testRefresh()
             throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {